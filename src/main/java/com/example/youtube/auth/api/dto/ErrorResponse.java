@@ -12,12 +12,14 @@ public record ErrorResponse(String type, String message, String details) {
                 new ErrorResponse("INVALID_STATE", message, null);
             case Error.TokenExchangeError(var message, var reason) ->
                 new ErrorResponse("TOKEN_EXCHANGE_FAILED", message, reason);
-            case Error.ExternalServiceError(var service, var message, _) ->
+            case Error.ExternalServiceError(var service, var message, _, _) ->
                 new ErrorResponse("EXTERNAL_SERVICE_ERROR", message, "Service: " + service);
             case Error.InvalidInputError(var field, var message) ->
                 new ErrorResponse("INVALID_INPUT", message, "Field: " + field);
             case Error.ResourceNotFoundError(var resource, var identifier) ->
                 new ErrorResponse("RESOURCE_NOT_FOUND", resource + " not found", "ID: " + identifier);
+            case Error.ConflictError(var resource, var identifier) ->
+                new ErrorResponse("CONFLICT", resource + " is already in progress", "ID: " + identifier);
             case Error.QuotaExceededError(var currentUsage, var dailyLimit) ->
                 new ErrorResponse("QUOTA_EXCEEDED", "YouTube API quota exceeded", "Usage: " + currentUsage + "/" + dailyLimit);
         };
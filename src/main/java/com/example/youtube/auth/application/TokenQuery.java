@@ -4,6 +4,8 @@ import com.example.youtube.auth.domain.entity.Token;
 import com.example.youtube.common.result.Error;
 import com.example.youtube.common.result.Result;
 
+import java.util.function.Supplier;
+
 public interface TokenQuery {
 
     Result<Token, Error> getCurrentUserToken();
@@ -15,4 +17,12 @@ public interface TokenQuery {
     Result<Token, Error> refreshToken(String sessionId);
 
     Result<Void, Error> removeToken(String sessionId);
+
+    Result<String, Error> currentSessionId();
+
+    Result<Token, Error> findSessionToken(String sessionId);
+
+    Result<Token, Error> refreshSessionToken(String sessionId);
+
+    <T> T callAs(Token token, Supplier<T> action);
 }
@@ -2,6 +2,7 @@ package com.example.youtube.auth.application.impl;
 
 import com.example.youtube.auth.application.TokenQuery;
 import com.example.youtube.auth.domain.entity.Token;
+import com.example.youtube.auth.domain.repository.OfflineTokenRepository;
 import com.example.youtube.auth.domain.repository.TokenRepository;
 import com.example.youtube.auth.domain.service.OAuthClient;
 import com.example.youtube.common.result.Error;
@@ -12,27 +13,38 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
 @Service
 public class TokenService implements TokenQuery {
 
     private static final Logger log = LoggerFactory.getLogger(TokenService.class);
+    private static final ScopedValue<Token> DETACHED_TOKEN = ScopedValue.newInstance();
 
     private final HttpServletRequest request;
     private final TokenRepository tokenRepository;
+    private final OfflineTokenRepository offlineTokenRepository;
     private final OAuthClient oauthClient;
 
     public TokenService(
             HttpServletRequest request,
             TokenRepository tokenRepository,
+            OfflineTokenRepository offlineTokenRepository,
             OAuthClient oauthClient
     ) {
         this.request = request;
         this.tokenRepository = tokenRepository;
+        this.offlineTokenRepository = offlineTokenRepository;
         this.oauthClient = oauthClient;
     }
 
     @Override
     public Result<Token, Error> getCurrentUserToken() {
+        if (DETACHED_TOKEN.isBound()) {
+            return Result.success(DETACHED_TOKEN.get());
+        }
+
         String authHeader = request.getHeader("Authorization");
         if (authHeader != null && authHeader.startsWith("Bearer ")) {
             String accessToken = authHeader.substring(7);
@@ -98,4 +110,54 @@ public class TokenService implements TokenQuery {
         log.info("Removing token for session: {}", sessionId);
         return tokenRepository.remove(sessionId);
     }
+
+    @Override
+    public Result<String, Error> currentSessionId() {
+        String authHeader = request.getHeader("Authorization");
+        if (DETACHED_TOKEN.isBound() || (authHeader != null && authHeader.startsWith("Bearer "))) {
+            return Result.failure(Error.authenticationError(
+                    "A signed-in session is required",
+                    "Bearer tokens cannot be refreshed in the background"
+            ));
+        }
+
+        HttpSession session = request.getSession(false);
+        if (session == null) {
+            return Result.failure(Error.authenticationError(
+                    "No active session",
+                    "Please authenticate first"
+            ));
+        }
+        return getCurrentUserToken().map(_ -> session.getId());
+    }
+
+    @Override
+    public Result<Token, Error> findSessionToken(String sessionId) {
+        return offlineTokenRepository.findBySessionId(sessionId);
+    }
+
+    @Override
+    public Result<Token, Error> refreshSessionToken(String sessionId) {
+        log.info("Refreshing token of session {} in the background", sessionId);
+
+        return offlineTokenRepository.findBySessionId(sessionId)
+                .flatMap(token -> {
+                    if (token.refreshToken() == null) {
+                        return Result.failure(Error.authenticationError(
+                                "No refresh token available",
+                                "Token does not have a refresh token"
+                        ));
+                    }
+                    return oauthClient.refreshToken(token.refreshToken());
+                })
+                .flatMap(newToken -> offlineTokenRepository.save(sessionId, newToken)
+                        .map(_ -> newToken));
+    }
+
+    @Override
+    public <T> T callAs(Token token, Supplier<T> action) {
+        AtomicReference<T> result = new AtomicReference<>();
+        ScopedValue.where(DETACHED_TOKEN, token).run(() -> result.set(action.get()));
+        return result.get();
+    }
 }
@@ -0,0 +1,12 @@
+package com.example.youtube.auth.domain.repository;
+
+import com.example.youtube.auth.domain.entity.Token;
+import com.example.youtube.common.result.Error;
+import com.example.youtube.common.result.Result;
+
+public interface OfflineTokenRepository {
+
+    Result<Token, Error> findBySessionId(String sessionId);
+
+    Result<Void, Error> save(String sessionId, Token token);
+}
@@ -8,7 +8,7 @@ import com.example.youtube.common.result.Result;
 import com.google.api.client.googleapis.auth.oauth2.GoogleAuthorizationCodeFlow;
 import com.google.api.client.googleapis.auth.oauth2.GoogleAuthorizationCodeTokenRequest;
 import com.google.api.client.googleapis.auth.oauth2.GoogleTokenResponse;
-import com.google.api.client.http.javanet.NetHttpTransport;
+import com.google.api.client.http.HttpTransport;
 import com.google.api.client.json.JsonFactory;
 import org.springframework.stereotype.Component;
 
@@ -19,10 +19,10 @@ import java.util.List;
 public class GoogleOAuthAdapter implements OAuthClient {
 
     private final GoogleApiConfig config;
-    private final NetHttpTransport httpTransport;
+    private final HttpTransport httpTransport;
     private final JsonFactory jsonFactory;
 
-    public GoogleOAuthAdapter(GoogleApiConfig config, NetHttpTransport httpTransport, JsonFactory jsonFactory) {
+    public GoogleOAuthAdapter(GoogleApiConfig config, HttpTransport httpTransport, JsonFactory jsonFactory) {
         this.config = config;
         this.httpTransport = httpTransport;
         this.jsonFactory = jsonFactory;
@@ -15,10 +15,10 @@ public class SessionTokenRepository implements TokenRepository {
 
     private static final Logger log = LoggerFactory.getLogger(SessionTokenRepository.class);
 
-    private static final String ACCESS_TOKEN_KEY = "youtubeAccessToken";
-    private static final String REFRESH_TOKEN_KEY = "youtubeRefreshToken";
-    private static final String TOKEN_EXPIRY_KEY = "youtubeTokenExpiry";
-    private static final String TOKEN_TYPE_KEY = "youtubeTokenType";
+    static final String ACCESS_TOKEN_KEY = "youtubeAccessToken";
+    static final String REFRESH_TOKEN_KEY = "youtubeRefreshToken";
+    static final String TOKEN_EXPIRY_KEY = "youtubeTokenExpiry";
+    static final String TOKEN_TYPE_KEY = "youtubeTokenType";
 
     private final HttpServletRequest request;
 
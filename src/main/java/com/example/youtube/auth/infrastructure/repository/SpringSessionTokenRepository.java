@@ -0,0 +1,81 @@
+package com.example.youtube.auth.infrastructure.repository;
+
+import com.example.youtube.auth.domain.entity.Token;
+import com.example.youtube.auth.domain.repository.OfflineTokenRepository;
+import com.example.youtube.common.result.Error;
+import com.example.youtube.common.result.Result;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.session.Session;
+import org.springframework.session.SessionRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+
+@Repository
+public class SpringSessionTokenRepository implements OfflineTokenRepository {
+
+    private static final Logger log = LoggerFactory.getLogger(SpringSessionTokenRepository.class);
+
+    private final SessionRepository<? extends Session> sessionRepository;
+
+    public SpringSessionTokenRepository(SessionRepository<? extends Session> sessionRepository) {
+        this.sessionRepository = sessionRepository;
+    }
+
+    @Override
+    public Result<Token, Error> findBySessionId(String sessionId) {
+        try {
+            return find(sessionRepository, sessionId);
+        } catch (Exception e) {
+            log.error("Failed to load token of session {}", sessionId, e);
+            return Result.failure(Error.externalServiceError("Session", "Failed to find token", e));
+        }
+    }
+
+    @Override
+    public Result<Void, Error> save(String sessionId, Token token) {
+        try {
+            return save(sessionRepository, sessionId, token);
+        } catch (Exception e) {
+            log.error("Failed to save token of session {}", sessionId, e);
+            return Result.failure(Error.externalServiceError("Session", "Failed to save token", e));
+        }
+    }
+
+    private static <S extends Session> Result<Token, Error> find(SessionRepository<S> repository, String sessionId) {
+        S session = repository.findById(sessionId);
+        if (session == null) {
+            return Result.failure(Error.authenticationError("Session has ended", "Please re-authenticate"));
+        }
+
+        String accessToken = session.getAttribute(SessionTokenRepository.ACCESS_TOKEN_KEY);
+        Number expiryMillis = session.getAttribute(SessionTokenRepository.TOKEN_EXPIRY_KEY);
+        if (accessToken == null || expiryMillis == null) {
+            return Result.failure(Error.authenticationError("Session has no token", "Please re-authenticate"));
+        }
+
+        session.setLastAccessedTime(Instant.now());
+        repository.save(session);
+        return Result.success(Token.fromStoredData(
+                accessToken,
+                session.getAttribute(SessionTokenRepository.REFRESH_TOKEN_KEY),
+                Instant.ofEpochMilli(expiryMillis.longValue()),
+                session.getAttribute(SessionTokenRepository.TOKEN_TYPE_KEY)
+        ));
+    }
+
+    private static <S extends Session> Result<Void, Error> save(SessionRepository<S> repository, String sessionId, Token token) {
+        S session = repository.findById(sessionId);
+        if (session == null) {
+            return Result.failure(Error.authenticationError("Session has ended", "Please re-authenticate"));
+        }
+
+        session.setAttribute(SessionTokenRepository.ACCESS_TOKEN_KEY, token.accessToken());
+        session.setAttribute(SessionTokenRepository.REFRESH_TOKEN_KEY, token.refreshToken());
+        session.setAttribute(SessionTokenRepository.TOKEN_EXPIRY_KEY, token.expiresAt().toEpochMilli());
+        session.setAttribute(SessionTokenRepository.TOKEN_TYPE_KEY, token.tokenType());
+        repository.save(session);
+        return Result.successVoid();
+    }
+}
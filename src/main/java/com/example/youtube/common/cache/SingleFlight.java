@@ -0,0 +1,230 @@
+package com.example.youtube.common.cache;
+
+import com.example.youtube.common.result.Error;
+import com.example.youtube.common.result.Result;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+public final class SingleFlight<V, S> {
+
+    private static final Logger log = LoggerFactory.getLogger(SingleFlight.class);
+
+    private static final String SHARED_IDENTITY = "shared";
+    private static final RedisScript<Long> UNLOCK_SCRIPT = RedisScript.of("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+              return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    public record FlightSettings(
+            boolean enabled,
+            boolean clustered,
+            Duration lockTtl,
+            Duration resultTtl,
+            Duration waitTimeout,
+            Duration pollInterval
+    ) {}
+
+    public record Flight<V>(Result<V, Error> result, boolean shared) {}
+
+    private final String name;
+    private final String keyPrefix;
+    private final ConcurrentMap<String, CompletableFuture<Flight<V>>> inFlight = new ConcurrentHashMap<>();
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final JavaType sharedType;
+    private final Function<V, S> encoder;
+    private final Function<S, V> decoder;
+    private final FlightSettings settings;
+    private final boolean shareFailures;
+    private final Counter leaders;
+    private final Counter shared;
+    private final Counter fallbacks;
+
+    public SingleFlight(
+            String name,
+            StringRedisTemplate redisTemplate,
+            ObjectMapper objectMapper,
+            JavaType sharedType,
+            Function<V, S> encoder,
+            Function<S, V> decoder,
+            FlightSettings settings,
+            boolean shareFailures,
+            MeterRegistry meterRegistry
+    ) {
+        this.name = name;
+        this.keyPrefix = "youtube:flight:" + name + ":";
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.sharedType = sharedType;
+        this.encoder = encoder;
+        this.decoder = decoder;
+        this.settings = settings;
+        this.shareFailures = shareFailures;
+        this.leaders = counter(meterRegistry, "leader");
+        this.shared = counter(meterRegistry, "shared");
+        this.fallbacks = counter(meterRegistry, "fallback");
+    }
+
+    public static String key(String accessToken, Object... arguments) {
+        return withArguments(new StringBuilder(TokenFingerprint.of(accessToken)), arguments);
+    }
+
+    public static String sharedKey(Object... arguments) {
+        return withArguments(new StringBuilder(SHARED_IDENTITY), arguments);
+    }
+
+    private static String withArguments(StringBuilder key, Object... arguments) {
+        for (Object argument : arguments) {
+            key.append(':').append(Objects.toString(argument, "").replace("\\", "\\\\").replace(":", "\\:"));
+        }
+        return key.toString();
+    }
+
+    public Flight<V> execute(String key, Supplier<Result<V, Error>> call) {
+        if (!settings.enabled()) {
+            return lead(call);
+        }
+
+        CompletableFuture<Flight<V>> flight = new CompletableFuture<>();
+        CompletableFuture<Flight<V>> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            shared.increment();
+            Result<V, Error> leaderResult = await(existing).result();
+            if (shareFailures || leaderResult.isSuccess()) {
+                return new Flight<>(leaderResult, true);
+            }
+            fallbacks.increment();
+            return new Flight<>(call.get(), false);
+        }
+
+        try {
+            Flight<V> outcome = settings.clustered() ? executeClustered(key, call) : lead(call);
+            flight.complete(outcome);
+            return outcome;
+        } catch (Throwable failure) {
+            flight.completeExceptionally(failure);
+            throw failure;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    private Flight<V> lead(Supplier<Result<V, Error>> call) {
+        leaders.increment();
+        return new Flight<>(call.get(), false);
+    }
+
+    private Flight<V> executeClustered(String key, Supplier<Result<V, Error>> call) {
+        String lockKey = keyPrefix + "lock:" + key;
+        String resultKey = keyPrefix + "result:" + key;
+        String lockToken = UUID.randomUUID().toString();
+
+        if (!tryLock(lockKey, lockToken)) {
+            Optional<V> published = awaitPublished(lockKey, resultKey);
+            if (published.isPresent()) {
+                shared.increment();
+                return new Flight<>(Result.success(published.get()), true);
+            }
+            fallbacks.increment();
+            return new Flight<>(call.get(), false);
+        }
+
+        try {
+            Flight<V> outcome = lead(call);
+            if (outcome.result() instanceof Result.Success<V, Error>(var value)) {
+                publish(resultKey, value);
+            }
+            return outcome;
+        } finally {
+            unlock(lockKey, lockToken);
+        }
+    }
+
+    private boolean tryLock(String lockKey, String lockToken) {
+        try {
+            return !Boolean.FALSE.equals(redisTemplate.opsForValue().setIfAbsent(lockKey, lockToken, settings.lockTtl()));
+        } catch (Exception e) {
+            log.warn("Failed to acquire {} flight lock in Redis: {}", name, e.getMessage());
+            return true;
+        }
+    }
+
+    private Optional<V> awaitPublished(String lockKey, String resultKey) {
+        long deadline = System.nanoTime() + settings.waitTimeout().toNanos();
+        try {
+            while (System.nanoTime() < deadline) {
+                List<String> values = redisTemplate.opsForValue().multiGet(List.of(resultKey, lockKey));
+                if (values == null) {
+                    return Optional.empty();
+                }
+                if (values.get(0) != null) {
+                    S value = objectMapper.readValue(values.get(0), sharedType);
+                    return Optional.ofNullable(decoder.apply(value));
+                }
+                if (values.get(1) == null) {
+                    return Optional.empty();
+                }
+                Thread.sleep(settings.pollInterval());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.warn("Failed to read published {} flight result from Redis: {}", name, e.getMessage());
+        }
+        return Optional.empty();
+    }
+
+    private void publish(String resultKey, V value) {
+        try {
+            redisTemplate.opsForValue().set(resultKey, objectMapper.writeValueAsString(encoder.apply(value)), settings.resultTtl());
+        } catch (Exception e) {
+            log.warn("Failed to publish {} flight result to Redis: {}", name, e.getMessage());
+        }
+    }
+
+    private void unlock(String lockKey, String lockToken) {
+        try {
+            redisTemplate.execute(UNLOCK_SCRIPT, List.of(lockKey), lockToken);
+        } catch (Exception e) {
+            log.warn("Failed to release {} flight lock in Redis: {}", name, e.getMessage());
+        }
+    }
+
+    private Flight<V> await(CompletableFuture<Flight<V>> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw e;
+        }
+    }
+
+    private Counter counter(MeterRegistry meterRegistry, String role) {
+        return Counter.builder("youtube.singleflight.calls")
+                .tag("operation", name)
+                .tag("role", role)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.youtube.common.cache;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+@Component
+public class SingleFlights {
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final SingleFlight.FlightSettings settings;
+
+    public SingleFlights(
+            StringRedisTemplate redisTemplate,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${youtube.singleflight.enabled:true}") boolean enabled,
+            @Value("${youtube.singleflight.cluster.enabled:false}") boolean clustered,
+            @Value("${youtube.singleflight.cluster.lock-ttl:10s}") Duration lockTtl,
+            @Value("${youtube.singleflight.cluster.result-ttl:5s}") Duration resultTtl,
+            @Value("${youtube.singleflight.cluster.wait-timeout:5s}") Duration waitTimeout,
+            @Value("${youtube.singleflight.cluster.poll-interval:25ms}") Duration pollInterval
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.settings = new SingleFlight.FlightSettings(enabled, clustered, lockTtl, resultTtl, waitTimeout, pollInterval);
+    }
+
+    public <V, S> SingleFlight<V, S> forOperation(
+            String operation,
+            TypeReference<S> sharedType,
+            Function<V, S> encoder,
+            Function<S, V> decoder
+    ) {
+        return create(operation, sharedType, encoder, decoder, true);
+    }
+
+    public <V, S> SingleFlight<V, S> forSharedOperation(
+            String operation,
+            TypeReference<S> sharedType,
+            Function<V, S> encoder,
+            Function<S, V> decoder
+    ) {
+        return create(operation, sharedType, encoder, decoder, false);
+    }
+
+    private <V, S> SingleFlight<V, S> create(
+            String operation,
+            TypeReference<S> sharedType,
+            Function<V, S> encoder,
+            Function<S, V> decoder,
+            boolean shareFailures
+    ) {
+        return new SingleFlight<>(
+                operation,
+                redisTemplate,
+                objectMapper,
+                objectMapper.getTypeFactory().constructType(sharedType),
+                encoder,
+                decoder,
+                settings,
+                shareFailures,
+                meterRegistry
+        );
+    }
+}
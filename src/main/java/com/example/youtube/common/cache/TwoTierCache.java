@@ -0,0 +1,176 @@
+package com.example.youtube.common.cache;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+public final class TwoTierCache<V> {
+
+    private static final Logger log = LoggerFactory.getLogger(TwoTierCache.class);
+
+    public record CacheSettings(long localMaxSize, Duration localTtl, Duration redisTtl) {}
+
+    private final String name;
+    private final String keyPrefix;
+    private final Cache<String, V> local;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final JavaType valueType;
+    private final Duration redisTtl;
+    private final Counter localHits;
+    private final Counter redisHits;
+    private final Counter misses;
+
+    public TwoTierCache(
+            String name,
+            StringRedisTemplate redisTemplate,
+            ObjectMapper objectMapper,
+            JavaType valueType,
+            CacheSettings settings,
+            MeterRegistry meterRegistry
+    ) {
+        this.name = name;
+        this.keyPrefix = "youtube:cache:" + name + ":";
+        this.local = Caffeine.newBuilder()
+                .maximumSize(settings.localMaxSize())
+                .expireAfterWrite(settings.localTtl())
+                .build();
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.valueType = valueType;
+        this.redisTtl = settings.redisTtl();
+        this.localHits = counter(meterRegistry, "local_hit");
+        this.redisHits = counter(meterRegistry, "redis_hit");
+        this.misses = counter(meterRegistry, "miss");
+    }
+
+    public Optional<V> get(String key) {
+        V cached = local.getIfPresent(key);
+        if (cached != null) {
+            localHits.increment();
+            return Optional.of(cached);
+        }
+
+        Optional<V> shared = readShared(key);
+        shared.ifPresentOrElse(value -> {
+            redisHits.increment();
+            local.put(key, value);
+        }, misses::increment);
+        return shared;
+    }
+
+    public Map<String, V> getAll(Collection<String> keys) {
+        Map<String, V> found = new HashMap<>(local.getAllPresent(keys));
+        localHits.increment(found.size());
+
+        List<String> missing = keys.stream().distinct().filter(key -> !found.containsKey(key)).toList();
+        if (missing.isEmpty()) {
+            return found;
+        }
+
+        Map<String, V> shared = readAllShared(missing);
+        shared.forEach(local::put);
+        found.putAll(shared);
+        redisHits.increment(shared.size());
+        misses.increment(missing.size() - shared.size());
+        return found;
+    }
+
+    public void putAll(Map<String, V> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        local.putAll(entries);
+        try {
+            Map<byte[], byte[]> serialized = new HashMap<>();
+            for (var entry : entries.entrySet()) {
+                serialized.put(
+                        (keyPrefix + entry.getKey()).getBytes(StandardCharsets.UTF_8),
+                        objectMapper.writeValueAsBytes(entry.getValue())
+                );
+            }
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                serialized.forEach((key, value) -> connection.stringCommands()
+                        .set(key, value, Expiration.from(redisTtl), RedisStringCommands.SetOption.upsert()));
+                return null;
+            });
+        } catch (Exception e) {
+            log.warn("Failed to write {} {} cache entries to Redis: {}", entries.size(), name, e.getMessage());
+        }
+    }
+
+    public void put(String key, V value) {
+        local.put(key, value);
+        try {
+            redisTemplate.opsForValue().set(keyPrefix + key, objectMapper.writeValueAsString(value), redisTtl);
+        } catch (Exception e) {
+            log.warn("Failed to write {} cache entry to Redis: {}", name, e.getMessage());
+        }
+    }
+
+    public void invalidate(String key) {
+        local.invalidate(key);
+        try {
+            redisTemplate.delete(keyPrefix + key);
+        } catch (Exception e) {
+            log.warn("Failed to invalidate {} cache entry in Redis: {}", name, e.getMessage());
+        }
+    }
+
+    private Optional<V> readShared(String key) {
+        try {
+            String json = redisTemplate.opsForValue().get(keyPrefix + key);
+            if (json == null) {
+                return Optional.empty();
+            }
+            return Optional.of(objectMapper.readValue(json, valueType));
+        } catch (Exception e) {
+            log.warn("Failed to read {} cache entry from Redis: {}", name, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private Map<String, V> readAllShared(List<String> keys) {
+        Map<String, V> found = new HashMap<>();
+        try {
+            List<String> values = redisTemplate.opsForValue().multiGet(keys.stream().map(key -> keyPrefix + key).toList());
+            if (values == null) {
+                return found;
+            }
+            for (int index = 0; index < keys.size(); index++) {
+                String json = values.get(index);
+                if (json != null) {
+                    found.put(keys.get(index), objectMapper.readValue(json, valueType));
+                }
+            }
+        } catch (Exception e) {
+            log.warn("Failed to read {} cache entries from Redis: {}", name, e.getMessage());
+        }
+        return found;
+    }
+
+    private Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("youtube.cache.gets")
+                .tag("cache", name)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -1,7 +1,7 @@
 package com.example.youtube.common.config;
 
-import com.google.api.client.googleapis.javanet.GoogleNetHttpTransport;
-import com.google.api.client.http.javanet.NetHttpTransport;
+import com.google.api.client.http.HttpRequestInitializer;
+import com.google.api.client.http.HttpTransport;
 import com.google.api.client.json.JsonFactory;
 import com.google.api.client.json.gson.GsonFactory;
 import com.google.api.services.youtube.YouTube;
@@ -24,19 +24,18 @@ public class GoogleApiConfig {
     @Value("${google.scopes}")
     private String scopes;
 
-    @Bean
-    public NetHttpTransport httpTransport() throws Exception {
-        return GoogleNetHttpTransport.newTrustedTransport();
-    }
-
     @Bean
     public JsonFactory jsonFactory() {
         return GsonFactory.getDefaultInstance();
     }
 
     @Bean
-    public YouTube youtubeClient(NetHttpTransport httpTransport, JsonFactory jsonFactory) {
-        return new YouTube.Builder(httpTransport, jsonFactory, null)
+    public YouTube youtubeClient(
+            HttpTransport httpTransport,
+            JsonFactory jsonFactory,
+            HttpRequestInitializer googleRequestInitializer
+    ) {
+        return new YouTube.Builder(httpTransport, jsonFactory, googleRequestInitializer)
                 .setApplicationName("youtube-service")
                 .build();
     }
@@ -0,0 +1,54 @@
+package com.example.youtube.common.config;
+
+import com.example.youtube.common.http.JdkHttpTransport;
+import com.google.api.client.googleapis.javanet.GoogleNetHttpTransport;
+import com.google.api.client.http.HttpRequestInitializer;
+import com.google.api.client.http.HttpTransport;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+
+@Configuration
+public class HttpTransportConfig {
+
+    @Value("${google.http.connect-timeout:10s}")
+    private Duration connectTimeout;
+
+    @Value("${google.http.read-timeout:30s}")
+    private Duration readTimeout;
+
+    @Value("${google.http.response-timeout:30s}")
+    private Duration responseTimeout;
+
+    @Bean(destroyMethod = "shutdown")
+    @ConditionalOnProperty(name = "google.http.transport", havingValue = "jdk")
+    public HttpTransport jdkHttpTransport() {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(connectTimeout)
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+
+        return new JdkHttpTransport(httpClient, responseTimeout);
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    @ConditionalOnProperty(name = "google.http.transport", havingValue = "net", matchIfMissing = true)
+    public HttpTransport netHttpTransport() throws Exception {
+        return GoogleNetHttpTransport.newTrustedTransport();
+    }
+
+    @Bean
+    public HttpRequestInitializer googleRequestInitializer() {
+        return request -> {
+            request.setConnectTimeout((int) connectTimeout.toMillis());
+            request.setReadTimeout((int) readTimeout.toMillis());
+        };
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.youtube.common.config;
+
+import com.example.youtube.common.text.MusicVideoClassifier;
+import com.example.youtube.search.domain.service.MusicMatchRanker;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+import java.util.Objects;
+
+@Configuration
+public class MusicFilterConfig {
+
+    @Bean
+    public MusicVideoClassifier musicVideoClassifier(
+            @Value("${youtube.music-filter.title-keywords:#{null}}") List<String> titleKeywords,
+            @Value("${youtube.music-filter.description-keywords:#{null}}") List<String> descriptionKeywords
+    ) {
+        if (titleKeywords == null && descriptionKeywords == null) {
+            return MusicVideoClassifier.defaults();
+        }
+        return MusicVideoClassifier.of(
+                Objects.requireNonNullElse(titleKeywords, MusicVideoClassifier.DEFAULT_TITLE_KEYWORDS),
+                Objects.requireNonNullElse(descriptionKeywords, MusicVideoClassifier.DEFAULT_DESCRIPTION_KEYWORDS)
+        );
+    }
+
+    @Bean
+    public MusicMatchRanker musicMatchRanker(MusicVideoClassifier musicVideoClassifier) {
+        return new MusicMatchRanker(musicVideoClassifier);
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.youtube.common.http;
+
+import com.google.api.client.http.LowLevelHttpRequest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Set;
+
+final class JdkHttpRequest extends LowLevelHttpRequest {
+
+    private static final Set<String> RESTRICTED_HEADERS = Set.of(
+            "connection", "content-length", "expect", "host", "upgrade"
+    );
+
+    private final HttpClient httpClient;
+    private final HttpRequest.Builder builder;
+    private final String method;
+    private final Duration responseTimeout;
+
+    JdkHttpRequest(HttpClient httpClient, String method, String url, Duration responseTimeout) {
+        this.httpClient = httpClient;
+        this.method = method;
+        this.builder = HttpRequest.newBuilder(URI.create(url));
+        this.responseTimeout = responseTimeout;
+    }
+
+    @Override
+    public void addHeader(String name, String value) {
+        if (!RESTRICTED_HEADERS.contains(name.toLowerCase(Locale.ROOT))) {
+            builder.header(name, value);
+        }
+    }
+
+    @Override
+    public JdkHttpResponse execute() throws IOException {
+        builder.method(method, bodyPublisher());
+        builder.timeout(responseTimeout);
+
+        if (getContentType() != null) {
+            builder.header("Content-Type", getContentType());
+        }
+        if (getContentEncoding() != null) {
+            builder.header("Content-Encoding", getContentEncoding());
+        }
+
+        try {
+            HttpResponse<InputStream> response = httpClient.send(builder.build(), HttpResponse.BodyHandlers.ofInputStream());
+            return new JdkHttpResponse(response);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("HTTP request interrupted: " + method);
+        }
+    }
+
+    private HttpRequest.BodyPublisher bodyPublisher() throws IOException {
+        if (getStreamingContent() == null) {
+            return HttpRequest.BodyPublishers.noBody();
+        }
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        getStreamingContent().writeTo(buffer);
+        return HttpRequest.BodyPublishers.ofByteArray(buffer.toByteArray());
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.youtube.common.http;
+
+import com.google.api.client.http.LowLevelHttpResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+
+final class JdkHttpResponse extends LowLevelHttpResponse {
+
+    private final HttpResponse<InputStream> response;
+    private final List<String> headerNames = new ArrayList<>();
+    private final List<String> headerValues = new ArrayList<>();
+
+    JdkHttpResponse(HttpResponse<InputStream> response) {
+        this.response = response;
+        response.headers().map().forEach((name, values) -> {
+            if (name.startsWith(":")) {
+                return;
+            }
+            for (String value : values) {
+                headerNames.add(name);
+                headerValues.add(value);
+            }
+        });
+    }
+
+    @Override
+    public InputStream getContent() {
+        return response.body();
+    }
+
+    @Override
+    public String getContentEncoding() {
+        return response.headers().firstValue("content-encoding").orElse(null);
+    }
+
+    @Override
+    public long getContentLength() {
+        return response.headers().firstValueAsLong("content-length").orElse(-1L);
+    }
+
+    @Override
+    public String getContentType() {
+        return response.headers().firstValue("content-type").orElse(null);
+    }
+
+    @Override
+    public String getStatusLine() {
+        String version = response.version() == HttpClient.Version.HTTP_2 ? "HTTP/2" : "HTTP/1.1";
+        return version + " " + response.statusCode();
+    }
+
+    @Override
+    public int getStatusCode() {
+        return response.statusCode();
+    }
+
+    @Override
+    public String getReasonPhrase() {
+        return null;
+    }
+
+    @Override
+    public int getHeaderCount() {
+        return headerNames.size();
+    }
+
+    @Override
+    public String getHeaderName(int index) {
+        return headerNames.get(index);
+    }
+
+    @Override
+    public String getHeaderValue(int index) {
+        return headerValues.get(index);
+    }
+
+    @Override
+    public void disconnect() throws IOException {
+        response.body().close();
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.youtube.common.http;
+
+import com.google.api.client.http.HttpTransport;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.Objects;
+
+public final class JdkHttpTransport extends HttpTransport {
+
+    private final HttpClient httpClient;
+    private final Duration responseTimeout;
+
+    public JdkHttpTransport(HttpClient httpClient, Duration responseTimeout) {
+        this.httpClient = Objects.requireNonNull(httpClient, "HTTP client cannot be null");
+        this.responseTimeout = Objects.requireNonNull(responseTimeout, "Response timeout cannot be null");
+    }
+
+    @Override
+    public boolean supportsMethod(String method) {
+        return true;
+    }
+
+    @Override
+    protected JdkHttpRequest buildRequest(String method, String url) {
+        return new JdkHttpRequest(httpClient, method, url, responseTimeout);
+    }
+
+    @Override
+    public void shutdown() {
+        httpClient.shutdownNow();
+    }
+}
@@ -7,14 +7,16 @@ public sealed interface Error permits
     Error.ExternalServiceError,
     Error.InvalidInputError,
     Error.ResourceNotFoundError,
+    Error.ConflictError,
     Error.QuotaExceededError {
 
     record AuthenticationError(String message, String details) implements Error {}
     record InvalidStateError(String message) implements Error {}
     record TokenExchangeError(String message, String reason) implements Error {}
-    record ExternalServiceError(String service, String message, Throwable cause) implements Error {}
+    record ExternalServiceError(String service, String message, Throwable cause, boolean notSent) implements Error {}
     record InvalidInputError(String field, String message) implements Error {}
     record ResourceNotFoundError(String resource, String identifier) implements Error {}
+    record ConflictError(String resource, String identifier) implements Error {}
     record QuotaExceededError(long currentUsage, long dailyLimit) implements Error {}
 
     static AuthenticationError authenticationError(String message, String details) {
@@ -30,7 +32,11 @@ public sealed interface Error permits
     }
 
     static ExternalServiceError externalServiceError(String service, String message, Throwable cause) {
-        return new ExternalServiceError(service, message, cause);
+        return new ExternalServiceError(service, message, cause, false);
+    }
+
+    static ExternalServiceError externalServiceError(String service, String message, Throwable cause, boolean notSent) {
+        return new ExternalServiceError(service, message, cause, notSent);
     }
 
     static InvalidInputError invalidInputError(String field, String message) {
@@ -41,6 +47,10 @@ public sealed interface Error permits
         return new ResourceNotFoundError(resource, identifier);
     }
 
+    static ConflictError conflictError(String resource, String identifier) {
+        return new ConflictError(resource, identifier);
+    }
+
     static QuotaExceededError quotaExceededError(long currentUsage, long dailyLimit) {
         return new QuotaExceededError(currentUsage, dailyLimit);
     }
@@ -53,6 +63,7 @@ public sealed interface Error permits
             case ExternalServiceError e -> e.message();
             case InvalidInputError e -> e.message();
             case ResourceNotFoundError e -> "Resource not found: " + e.resource();
+            case ConflictError e -> e.resource() + " is already in progress";
             case QuotaExceededError e -> "Quota exceeded: " + e.currentUsage() + "/" + e.dailyLimit();
         };
     }
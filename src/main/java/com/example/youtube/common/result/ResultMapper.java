@@ -1,7 +1,9 @@
 package com.example.youtube.common.result;
 
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.function.Function;
 
@@ -15,7 +17,7 @@ public final class ResultMapper {
     ) {
         return result.fold(
                 value -> ResponseEntity.ok(successMapper.apply(value)),
-                error -> ResponseEntity.status(statusFor(error)).body(mapError(error))
+                error -> ResponseEntity.status(statusFor(error)).body(toErrorDTO(error))
         );
     }
 
@@ -30,7 +32,28 @@ public final class ResultMapper {
     public static <T> ResponseEntity<?> created(Result<T, Error> result, Function<T, ?> successMapper) {
         return result.fold(
                 value -> ResponseEntity.status(HttpStatus.CREATED).body(successMapper.apply(value)),
-                error -> ResponseEntity.status(statusFor(error)).body(mapError(error))
+                error -> ResponseEntity.status(statusFor(error)).body(toErrorDTO(error))
+        );
+    }
+
+    public static <T> ResponseEntity<?> accepted(Result<T, Error> result, Function<T, ?> successMapper) {
+        return result.fold(
+                value -> ResponseEntity.status(HttpStatus.ACCEPTED).body(successMapper.apply(value)),
+                error -> ResponseEntity.status(statusFor(error)).body(toErrorDTO(error))
+        );
+    }
+
+    public static <T> ResponseEntity<StreamingResponseBody> streamed(
+            Result<T, Error> result,
+            MediaType contentType,
+            Function<T, StreamingResponseBody> bodyMapper,
+            Function<ErrorDTO, StreamingResponseBody> errorMapper
+    ) {
+        return result.fold(
+                value -> ResponseEntity.ok().contentType(contentType).body(bodyMapper.apply(value)),
+                error -> ResponseEntity.status(statusFor(error))
+                        .contentType(contentType)
+                        .body(errorMapper.apply(toErrorDTO(error)))
         );
     }
 
@@ -38,13 +61,14 @@ public final class ResultMapper {
         return switch (error) {
             case Error.AuthenticationError _, Error.InvalidStateError _, Error.TokenExchangeError _ -> HttpStatus.UNAUTHORIZED;
             case Error.ResourceNotFoundError _ -> HttpStatus.NOT_FOUND;
+            case Error.ConflictError _ -> HttpStatus.CONFLICT;
             case Error.InvalidInputError _ -> HttpStatus.BAD_REQUEST;
             case Error.ExternalServiceError _ -> HttpStatus.SERVICE_UNAVAILABLE;
             case Error.QuotaExceededError _ -> HttpStatus.TOO_MANY_REQUESTS;
         };
     }
 
-    private static ErrorDTO mapError(Error error) {
+    public static ErrorDTO toErrorDTO(Error error) {
         return switch (error) {
             case Error.AuthenticationError(var message, var details) ->
                 new ErrorDTO("AUTHENTICATION_ERROR", message, details);
@@ -52,12 +76,14 @@ public final class ResultMapper {
                 new ErrorDTO("INVALID_STATE", message, null);
             case Error.TokenExchangeError(var message, var reason) ->
                 new ErrorDTO("TOKEN_EXCHANGE_FAILED", message, reason);
-            case Error.ExternalServiceError(var service, var message, _) ->
+            case Error.ExternalServiceError(var service, var message, _, _) ->
                 new ErrorDTO("EXTERNAL_SERVICE_ERROR", message, "Service: " + service);
             case Error.InvalidInputError(var field, var message) ->
                 new ErrorDTO("INVALID_INPUT", message, "Field: " + field);
             case Error.ResourceNotFoundError(var resource, var identifier) ->
                 new ErrorDTO("RESOURCE_NOT_FOUND", resource + " not found", "ID: " + identifier);
+            case Error.ConflictError(var resource, var identifier) ->
+                new ErrorDTO("CONFLICT", resource + " is already in progress", "ID: " + identifier);
             case Error.QuotaExceededError(var currentUsage, var dailyLimit) ->
                 new ErrorDTO("QUOTA_EXCEEDED", "YouTube API quota exceeded", "Usage: " + currentUsage + "/" + dailyLimit);
         };
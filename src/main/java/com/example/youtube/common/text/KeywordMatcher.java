@@ -0,0 +1,131 @@
+package com.example.youtube.common.text;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+
+public final class KeywordMatcher {
+
+    private static final int ASCII = 128;
+
+    private final List<String> keywords;
+    private final char[][] patterns;
+    private final int window;
+    private final int[] asciiShifts;
+    private final char[] otherChars;
+    private final int[] otherShifts;
+
+    private KeywordMatcher(List<String> keywords) {
+        this.keywords = keywords;
+        this.patterns = keywords.stream().map(String::toCharArray).toArray(char[][]::new);
+        this.window = keywords.stream().mapToInt(String::length).min().orElse(0);
+
+        this.asciiShifts = new int[ASCII];
+        Arrays.fill(asciiShifts, window);
+        char[] others = new char[0];
+        int[] shifts = new int[0];
+        for (char[] pattern : patterns) {
+            for (int position = 0; position < window; position++) {
+                char c = pattern[position];
+                int shift = window - 1 - position;
+                if (c < ASCII) {
+                    asciiShifts[c] = Math.min(asciiShifts[c], shift);
+                    asciiShifts[Character.toUpperCase(c)] = asciiShifts[c];
+                    continue;
+                }
+                int index = Arrays.binarySearch(others, c);
+                if (index >= 0) {
+                    shifts[index] = Math.min(shifts[index], shift);
+                    continue;
+                }
+                int insertAt = -index - 1;
+                others = insert(others, insertAt, c);
+                shifts = insert(shifts, insertAt, shift);
+            }
+        }
+        this.otherChars = others;
+        this.otherShifts = shifts;
+    }
+
+    public static KeywordMatcher of(Collection<String> keywords) {
+        List<String> normalized = keywords.stream()
+                .filter(keyword -> keyword != null && !keyword.isBlank())
+                .map(keyword -> keyword.toLowerCase(Locale.ROOT))
+                .distinct()
+                .toList();
+        return new KeywordMatcher(normalized);
+    }
+
+    public List<String> keywords() {
+        return keywords;
+    }
+
+    public boolean containsAny(CharSequence text) {
+        if (text == null || patterns.length == 0) {
+            return false;
+        }
+
+        int length = text.length();
+        int end = window - 1;
+        while (end < length) {
+            int shift = shiftFor(text.charAt(end));
+            if (shift > 0) {
+                end += shift;
+                continue;
+            }
+            if (matchesAt(text, end - window + 1)) {
+                return true;
+            }
+            end++;
+        }
+        return false;
+    }
+
+    private int shiftFor(char c) {
+        if (c < ASCII) {
+            return asciiShifts[c];
+        }
+        char lower = Character.toLowerCase(c);
+        if (lower < ASCII) {
+            return asciiShifts[lower];
+        }
+        int index = Arrays.binarySearch(otherChars, lower);
+        return index < 0 ? window : otherShifts[index];
+    }
+
+    private boolean matchesAt(CharSequence text, int start) {
+        for (char[] pattern : patterns) {
+            if (start + pattern.length <= text.length() && regionMatches(text, start, pattern)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean regionMatches(CharSequence text, int start, char[] pattern) {
+        for (int offset = 0; offset < pattern.length; offset++) {
+            char c = text.charAt(start + offset);
+            if (c != pattern[offset] && Character.toLowerCase(c) != pattern[offset]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static char[] insert(char[] values, int index, char value) {
+        char[] expanded = new char[values.length + 1];
+        System.arraycopy(values, 0, expanded, 0, index);
+        expanded[index] = value;
+        System.arraycopy(values, index, expanded, index + 1, values.length - index);
+        return expanded;
+    }
+
+    private static int[] insert(int[] values, int index, int value) {
+        int[] expanded = new int[values.length + 1];
+        System.arraycopy(values, 0, expanded, 0, index);
+        expanded[index] = value;
+        System.arraycopy(values, index, expanded, index + 1, values.length - index);
+        return expanded;
+    }
+}
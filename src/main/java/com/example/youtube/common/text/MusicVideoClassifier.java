@@ -0,0 +1,44 @@
+package com.example.youtube.common.text;
+
+import java.util.Collection;
+import java.util.List;
+
+public final class MusicVideoClassifier {
+
+    public static final List<String> DEFAULT_TITLE_KEYWORDS =
+            List.of("cover", "live", "karaoke", "instrumental", "tutorial", "reaction");
+    public static final List<String> DEFAULT_DESCRIPTION_KEYWORDS = List.of("cover version");
+
+    private static final MusicVideoClassifier DEFAULT = new MusicVideoClassifier(
+            KeywordMatcher.of(DEFAULT_TITLE_KEYWORDS),
+            KeywordMatcher.of(DEFAULT_DESCRIPTION_KEYWORDS)
+    );
+
+    private final KeywordMatcher titleKeywords;
+    private final KeywordMatcher descriptionKeywords;
+
+    private MusicVideoClassifier(KeywordMatcher titleKeywords, KeywordMatcher descriptionKeywords) {
+        this.titleKeywords = titleKeywords;
+        this.descriptionKeywords = descriptionKeywords;
+    }
+
+    public static MusicVideoClassifier defaults() {
+        return DEFAULT;
+    }
+
+    public static MusicVideoClassifier of(Collection<String> titleKeywords, Collection<String> descriptionKeywords) {
+        return new MusicVideoClassifier(KeywordMatcher.of(titleKeywords), KeywordMatcher.of(descriptionKeywords));
+    }
+
+    public boolean isMusicVideo(CharSequence title, CharSequence description) {
+        return !titleKeywords.containsAny(title) && !descriptionKeywords.containsAny(description);
+    }
+
+    public KeywordMatcher titleKeywords() {
+        return titleKeywords;
+    }
+
+    public KeywordMatcher descriptionKeywords() {
+        return descriptionKeywords;
+    }
+}
@@ -0,0 +1,164 @@
+package com.example.youtube.common.youtube;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Component
+public class AdaptiveConcurrencyLimiter {
+
+    private static final Logger log = LoggerFactory.getLogger(AdaptiveConcurrencyLimiter.class);
+
+    public enum Signal {
+        SUCCESS,
+        OVERLOAD,
+        IGNORE
+    }
+
+    public record LimiterSettings(
+            int initialLimit,
+            int minLimit,
+            int maxLimit,
+            double backoffRatio,
+            int maxQueueSize,
+            Duration queueTimeout
+    ) {
+        public LimiterSettings {
+            if (minLimit <= 0 || maxLimit < minLimit || initialLimit < minLimit || initialLimit > maxLimit) {
+                throw new IllegalArgumentException("Limits must satisfy 0 < min-limit <= initial-limit <= max-limit");
+            }
+            if (backoffRatio <= 0 || backoffRatio >= 1) {
+                throw new IllegalArgumentException("Backoff ratio must be between 0 and 1");
+            }
+        }
+    }
+
+    public static final class LimitExceededException extends IOException {
+        private static final long serialVersionUID = 1L;
+
+        public LimitExceededException(String message) {
+            super(message);
+        }
+    }
+
+    private final MeterRegistry meterRegistry;
+    private final LimiterSettings settings;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition permitReleased = lock.newCondition();
+    private double limit;
+    private int inFlight;
+    private int queued;
+
+    public AdaptiveConcurrencyLimiter(
+            MeterRegistry meterRegistry,
+            @Value("${youtube.limiter.initial-limit:8}") int initialLimit,
+            @Value("${youtube.limiter.min-limit:1}") int minLimit,
+            @Value("${youtube.limiter.max-limit:64}") int maxLimit,
+            @Value("${youtube.limiter.backoff-ratio:0.5}") double backoffRatio,
+            @Value("${youtube.limiter.queue.max-size:200}") int maxQueueSize,
+            @Value("${youtube.limiter.queue.timeout:5s}") Duration queueTimeout
+    ) {
+        this.meterRegistry = meterRegistry;
+        this.settings = new LimiterSettings(initialLimit, minLimit, maxLimit, backoffRatio, maxQueueSize, queueTimeout);
+        this.limit = initialLimit;
+    }
+
+    @PostConstruct
+    public void registerGauges() {
+        Gauge.builder("youtube.limiter.limit", this, AdaptiveConcurrencyLimiter::currentLimit).register(meterRegistry);
+        Gauge.builder("youtube.limiter.in_flight", this, AdaptiveConcurrencyLimiter::inFlight).register(meterRegistry);
+        Gauge.builder("youtube.limiter.queue_depth", this, AdaptiveConcurrencyLimiter::queueDepth).register(meterRegistry);
+    }
+
+    public void acquire() throws LimitExceededException {
+        lock.lock();
+        try {
+            if (inFlight < (int) limit) {
+                inFlight++;
+                return;
+            }
+
+            if (queued >= settings.maxQueueSize()) {
+                throw new LimitExceededException("YouTube call queue is full (" + queued + " waiting)");
+            }
+
+            queued++;
+            try {
+                long remainingNanos = settings.queueTimeout().toNanos();
+                while (inFlight >= (int) limit) {
+                    if (remainingNanos <= 0) {
+                        throw new LimitExceededException("Timed out waiting for a YouTube call slot");
+                    }
+                    remainingNanos = permitReleased.awaitNanos(remainingNanos);
+                }
+                inFlight++;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new LimitExceededException("Interrupted waiting for a YouTube call slot");
+            } finally {
+                queued--;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void release(Signal signal) {
+        lock.lock();
+        try {
+            inFlight--;
+            switch (signal) {
+                case SUCCESS -> limit = Math.min(settings.maxLimit(), limit + 1.0 / limit);
+                case OVERLOAD -> {
+                    double reduced = Math.max(settings.minLimit(), limit * settings.backoffRatio());
+                    if ((int) reduced < (int) limit) {
+                        log.warn("YouTube rate limited; concurrency limit {} -> {}", (int) limit, (int) reduced);
+                    }
+                    limit = reduced;
+                }
+                case IGNORE -> {
+                }
+            }
+            permitReleased.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int currentLimit() {
+        lock.lock();
+        try {
+            return (int) limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int inFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int queueDepth() {
+        lock.lock();
+        try {
+            return queued;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
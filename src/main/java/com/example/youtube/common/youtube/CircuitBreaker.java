@@ -0,0 +1,214 @@
+package com.example.youtube.common.youtube;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.locks.ReentrantLock;
+
+public class CircuitBreaker {
+
+    private static final Logger log = LoggerFactory.getLogger(CircuitBreaker.class);
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    public record Settings(
+            int windowSize,
+            int minimumCalls,
+            double failureRateThreshold,
+            double slowCallRateThreshold,
+            Duration slowCallDuration,
+            Duration openDuration,
+            int halfOpenProbes
+    ) {
+        public Settings {
+            if (windowSize <= 0 || minimumCalls <= 0 || minimumCalls > windowSize) {
+                throw new IllegalArgumentException("Circuit breaker window must satisfy 0 < minimum-calls <= window-size");
+            }
+            if (failureRateThreshold <= 0 || failureRateThreshold > 100 || slowCallRateThreshold <= 0 || slowCallRateThreshold > 100) {
+                throw new IllegalArgumentException("Circuit breaker thresholds must be percentages in (0, 100]");
+            }
+            if (halfOpenProbes <= 0) {
+                throw new IllegalArgumentException("Circuit breaker half-open-probes must be positive");
+            }
+        }
+    }
+
+    public record Snapshot(State state, double failureRate, double slowCallRate, int bufferedCalls, long notPermittedCalls) {}
+
+    public static final class CallNotPermittedException extends IOException {
+        private static final long serialVersionUID = 1L;
+
+        public CallNotPermittedException(String message) {
+            super(message);
+        }
+    }
+
+    private final String name;
+    private final Settings settings;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final boolean[] failedCalls;
+    private final boolean[] slowCalls;
+    private int nextSlot;
+    private int bufferedCalls;
+    private int failureCount;
+    private int slowCount;
+    private State state = State.CLOSED;
+    private long openedAtNanos;
+    private int probesInFlight;
+    private int probeSuccesses;
+    private long notPermittedCalls;
+
+    public CircuitBreaker(String name, Settings settings) {
+        this.name = name;
+        this.settings = settings;
+        this.failedCalls = new boolean[settings.windowSize()];
+        this.slowCalls = new boolean[settings.windowSize()];
+    }
+
+    public void acquirePermission() throws CallNotPermittedException {
+        lock.lock();
+        try {
+            if (state == State.OPEN && System.nanoTime() - openedAtNanos >= settings.openDuration().toNanos()) {
+                transitionTo(State.HALF_OPEN);
+            }
+
+            if (state == State.CLOSED) {
+                return;
+            }
+            if (state == State.HALF_OPEN && probesInFlight + probeSuccesses < settings.halfOpenProbes()) {
+                probesInFlight++;
+                return;
+            }
+
+            notPermittedCalls++;
+            throw new CallNotPermittedException("Circuit breaker for YouTube " + name + " is " + state);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void onSuccess(Duration elapsed) {
+        record(false, isSlow(elapsed));
+    }
+
+    public void onFailure(Duration elapsed) {
+        record(true, isSlow(elapsed));
+    }
+
+    public void onIgnored() {
+        lock.lock();
+        try {
+            if (state == State.HALF_OPEN && probesInFlight > 0) {
+                probesInFlight--;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public State state() {
+        lock.lock();
+        try {
+            return state;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public Snapshot snapshot() {
+        lock.lock();
+        try {
+            return new Snapshot(state, rate(failureCount), rate(slowCount), bufferedCalls, notPermittedCalls);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void record(boolean failed, boolean slow) {
+        lock.lock();
+        try {
+            switch (state) {
+                case HALF_OPEN -> recordProbe(failed || slow);
+                case CLOSED -> recordInWindow(failed, slow);
+                case OPEN -> {
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void recordProbe(boolean failed) {
+        if (probesInFlight > 0) {
+            probesInFlight--;
+        }
+        if (failed) {
+            transitionTo(State.OPEN);
+            return;
+        }
+        probeSuccesses++;
+        if (probeSuccesses >= settings.halfOpenProbes()) {
+            transitionTo(State.CLOSED);
+        }
+    }
+
+    private void recordInWindow(boolean failed, boolean slow) {
+        if (bufferedCalls == settings.windowSize()) {
+            failureCount -= failedCalls[nextSlot] ? 1 : 0;
+            slowCount -= slowCalls[nextSlot] ? 1 : 0;
+        } else {
+            bufferedCalls++;
+        }
+        failedCalls[nextSlot] = failed;
+        slowCalls[nextSlot] = slow;
+        failureCount += failed ? 1 : 0;
+        slowCount += slow ? 1 : 0;
+        nextSlot = (nextSlot + 1) % settings.windowSize();
+
+        if (bufferedCalls >= settings.minimumCalls()
+                && (rate(failureCount) >= settings.failureRateThreshold() || rate(slowCount) >= settings.slowCallRateThreshold())) {
+            log.warn("Opening circuit breaker for YouTube {}: failure rate {}%, slow call rate {}%",
+                    name, rate(failureCount), rate(slowCount));
+            transitionTo(State.OPEN);
+        }
+    }
+
+    private void transitionTo(State target) {
+        if (state != State.CLOSED) {
+            log.info("Circuit breaker for YouTube {} moved from {} to {}", name, state, target);
+        }
+        state = target;
+        probesInFlight = 0;
+        probeSuccesses = 0;
+        if (target == State.OPEN) {
+            openedAtNanos = System.nanoTime();
+        }
+        if (target == State.CLOSED) {
+            resetWindow();
+        }
+    }
+
+    private void resetWindow() {
+        Arrays.fill(failedCalls, false);
+        Arrays.fill(slowCalls, false);
+        nextSlot = 0;
+        bufferedCalls = 0;
+        failureCount = 0;
+        slowCount = 0;
+    }
+
+    private boolean isSlow(Duration elapsed) {
+        return elapsed.compareTo(settings.slowCallDuration()) >= 0;
+    }
+
+    private double rate(int count) {
+        return bufferedCalls == 0 ? 0 : count * 100.0 / bufferedCalls;
+    }
+}
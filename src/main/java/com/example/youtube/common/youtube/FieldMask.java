@@ -0,0 +1,41 @@
+package com.example.youtube.common.youtube;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+public record FieldMask(List<String> paths, String expression) {
+
+    public static FieldMask of(String... paths) {
+        Node root = new Node();
+        for (String path : paths) {
+            Node node = root;
+            for (String segment : path.split("/")) {
+                if (segment.isBlank()) {
+                    throw new IllegalArgumentException("Invalid field path: " + path);
+                }
+                node = node.children.computeIfAbsent(segment, _ -> new Node());
+            }
+        }
+        return new FieldMask(List.of(paths), root.render());
+    }
+
+    private static final class Node {
+        private final Map<String, Node> children = new LinkedHashMap<>();
+
+        private String render() {
+            return children.entrySet().stream()
+                    .map(entry -> renderChild(entry.getKey(), entry.getValue()))
+                    .collect(Collectors.joining(","));
+        }
+
+        private static String renderChild(String name, Node child) {
+            if (child.children.isEmpty()) {
+                return name;
+            }
+            String nested = child.render();
+            return child.children.size() == 1 ? name + "/" + nested : name + "(" + nested + ")";
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.youtube.common.youtube;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+public class YouTubeCircuitBreakers {
+
+    private final CircuitBreaker.Settings settings;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, CircuitBreaker> breakers = new ConcurrentHashMap<>();
+
+    public YouTubeCircuitBreakers(
+            MeterRegistry meterRegistry,
+            @Value("${youtube.circuit-breaker.window-size:20}") int windowSize,
+            @Value("${youtube.circuit-breaker.minimum-calls:10}") int minimumCalls,
+            @Value("${youtube.circuit-breaker.failure-rate-threshold:50}") double failureRateThreshold,
+            @Value("${youtube.circuit-breaker.slow-call-rate-threshold:80}") double slowCallRateThreshold,
+            @Value("${youtube.circuit-breaker.slow-call-duration:5s}") Duration slowCallDuration,
+            @Value("${youtube.circuit-breaker.open-duration:30s}") Duration openDuration,
+            @Value("${youtube.circuit-breaker.half-open-probes:3}") int halfOpenProbes
+    ) {
+        this.meterRegistry = meterRegistry;
+        this.settings = new CircuitBreaker.Settings(
+                windowSize,
+                minimumCalls,
+                failureRateThreshold,
+                slowCallRateThreshold,
+                slowCallDuration,
+                openDuration,
+                halfOpenProbes
+        );
+    }
+
+    public CircuitBreaker forOperation(String operation) {
+        return breakers.computeIfAbsent(operation, this::create);
+    }
+
+    public Map<String, CircuitBreaker.Snapshot> snapshots() {
+        Map<String, CircuitBreaker.Snapshot> snapshots = new TreeMap<>();
+        breakers.forEach((operation, breaker) -> snapshots.put(operation, breaker.snapshot()));
+        return snapshots;
+    }
+
+    private CircuitBreaker create(String operation) {
+        var breaker = new CircuitBreaker(operation, settings);
+        Gauge.builder("youtube.circuit.state", breaker, b -> b.state().ordinal())
+                .tag("operation", operation)
+                .register(meterRegistry);
+        return breaker;
+    }
+}
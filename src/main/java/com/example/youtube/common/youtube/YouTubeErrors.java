@@ -0,0 +1,32 @@
+package com.example.youtube.common.youtube;
+
+import com.google.api.client.googleapis.json.GoogleJsonError;
+import com.google.api.client.googleapis.json.GoogleJsonResponseException;
+
+import java.util.Set;
+
+public final class YouTubeErrors {
+
+    private static final Set<String> RATE_LIMIT_REASONS = Set.of("rateLimitExceeded", "userRateLimitExceeded");
+
+    private YouTubeErrors() {}
+
+    public static boolean isRateLimited(GoogleJsonResponseException e) {
+        if (e.getStatusCode() == 429) {
+            return true;
+        }
+        return e.getStatusCode() == 403 && hasReason(e, RATE_LIMIT_REASONS);
+    }
+
+    public static boolean isQuotaExceeded(GoogleJsonResponseException e) {
+        return e.getStatusCode() == 403 && hasReason(e, Set.of("quotaExceeded", "dailyLimitExceeded"));
+    }
+
+    private static boolean hasReason(GoogleJsonResponseException e, Set<String> reasons) {
+        GoogleJsonError details = e.getDetails();
+        if (details == null || details.getErrors() == null) {
+            return false;
+        }
+        return details.getErrors().stream().anyMatch(info -> reasons.contains(info.getReason()));
+    }
+}
@@ -0,0 +1,204 @@
+package com.example.youtube.common.youtube;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+public class YouTubeListResponseReader {
+
+    public record ListResponse(String etag, String nextPageToken, Integer totalResults, List<VideoItem> items) {}
+
+    public record VideoItem(
+            String videoId,
+            String title,
+            String channelTitle,
+            String description,
+            String thumbnailUrl,
+            Instant publishedAt
+    ) {}
+
+    private final JsonFactory jsonFactory = JsonFactory.builder().build();
+
+    public ListResponse read(InputStream content) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(content)) {
+            expect(parser.nextToken(), JsonToken.START_OBJECT);
+
+            String etag = null;
+            String nextPageToken = null;
+            Integer totalResults = null;
+            List<VideoItem> items = List.of();
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                switch (field) {
+                    case "etag" -> etag = parser.getValueAsString();
+                    case "nextPageToken" -> nextPageToken = parser.getValueAsString();
+                    case "pageInfo" -> totalResults = readTotalResults(parser, value);
+                    case "items" -> items = readItems(parser, value);
+                    default -> parser.skipChildren();
+                }
+            }
+
+            return new ListResponse(etag, nextPageToken, totalResults, items);
+        }
+    }
+
+    private Integer readTotalResults(JsonParser parser, JsonToken value) throws IOException {
+        if (value != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return null;
+        }
+
+        Integer totalResults = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            if ("totalResults".equals(field)) {
+                totalResults = parser.getValueAsInt();
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return totalResults;
+    }
+
+    private List<VideoItem> readItems(JsonParser parser, JsonToken value) throws IOException {
+        if (value != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return List.of();
+        }
+
+        List<VideoItem> items = new ArrayList<>();
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            items.add(readItem(parser));
+        }
+        return items;
+    }
+
+    private VideoItem readItem(JsonParser parser) throws IOException {
+        String idVideoId = null;
+        String resourceVideoId = null;
+        String title = null;
+        String channelTitle = null;
+        String description = null;
+        String mediumThumbnail = null;
+        String defaultThumbnail = null;
+        Instant publishedAt = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if ("id".equals(field) && value == JsonToken.START_OBJECT) {
+                idVideoId = readVideoId(parser);
+            } else if ("snippet".equals(field) && value == JsonToken.START_OBJECT) {
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String snippetField = parser.currentName();
+                    JsonToken snippetValue = parser.nextToken();
+                    switch (snippetField) {
+                        case "title" -> title = parser.getValueAsString();
+                        case "channelTitle" -> channelTitle = parser.getValueAsString();
+                        case "description" -> description = parser.getValueAsString();
+                        case "publishedAt" -> publishedAt = parseInstant(parser.getValueAsString());
+                        case "resourceId" -> {
+                            if (snippetValue == JsonToken.START_OBJECT) {
+                                resourceVideoId = readVideoId(parser);
+                            } else {
+                                parser.skipChildren();
+                            }
+                        }
+                        case "thumbnails" -> {
+                            if (snippetValue == JsonToken.START_OBJECT) {
+                                String[] urls = readThumbnails(parser);
+                                mediumThumbnail = urls[0];
+                                defaultThumbnail = urls[1];
+                            } else {
+                                parser.skipChildren();
+                            }
+                        }
+                        default -> parser.skipChildren();
+                    }
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+
+        return new VideoItem(
+                resourceVideoId != null ? resourceVideoId : idVideoId,
+                title,
+                channelTitle,
+                description,
+                mediumThumbnail != null ? mediumThumbnail : defaultThumbnail,
+                publishedAt
+        );
+    }
+
+    private String readVideoId(JsonParser parser) throws IOException {
+        String videoId = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            if ("videoId".equals(field)) {
+                videoId = parser.getValueAsString();
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return videoId;
+    }
+
+    private String[] readThumbnails(JsonParser parser) throws IOException {
+        String[] urls = new String[2];
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String size = parser.currentName();
+            JsonToken value = parser.nextToken();
+            int slot = switch (size) {
+                case "medium" -> 0;
+                case "default" -> 1;
+                default -> -1;
+            };
+            if (slot < 0 || value != JsonToken.START_OBJECT) {
+                parser.skipChildren();
+                continue;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                if ("url".equals(field)) {
+                    urls[slot] = parser.getValueAsString();
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+        return urls;
+    }
+
+    private Instant parseInstant(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return OffsetDateTime.parse(value).toInstant();
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private void expect(JsonToken actual, JsonToken expected) throws IOException {
+        if (actual != expected) {
+            throw new IOException("Malformed YouTube response: expected " + expected + " but found " + actual);
+        }
+    }
+}
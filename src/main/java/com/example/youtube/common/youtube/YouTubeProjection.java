@@ -0,0 +1,103 @@
+package com.example.youtube.common.youtube;
+
+import com.google.api.services.youtube.YouTubeRequest;
+
+import java.util.List;
+
+public enum YouTubeProjection {
+
+    SEARCH_VIDEOS(
+            List.of("snippet"),
+            FieldMask.of(
+                    "items/id/videoId",
+                    "items/snippet/title",
+                    "items/snippet/channelTitle",
+                    "items/snippet/description",
+                    "items/snippet/thumbnails/medium/url",
+                    "items/snippet/thumbnails/default/url"
+            )
+    ),
+    PLAYLIST_VIDEOS(
+            List.of("snippet"),
+            FieldMask.of(
+                    "etag",
+                    "nextPageToken",
+                    "pageInfo/totalResults",
+                    "items/snippet/resourceId/videoId",
+                    "items/snippet/title",
+                    "items/snippet/channelTitle",
+                    "items/snippet/description",
+                    "items/snippet/publishedAt",
+                    "items/snippet/thumbnails/medium/url",
+                    "items/snippet/thumbnails/default/url"
+            )
+    ),
+    USER_PLAYLISTS(
+            List.of("snippet", "contentDetails"),
+            FieldMask.of(
+                    "etag",
+                    "nextPageToken",
+                    "pageInfo/totalResults",
+                    "items/id",
+                    "items/snippet/title",
+                    "items/snippet/description",
+                    "items/snippet/channelId",
+                    "items/snippet/channelTitle",
+                    "items/snippet/publishedAt",
+                    "items/snippet/thumbnails/medium/url",
+                    "items/snippet/thumbnails/default/url",
+                    "items/contentDetails/itemCount"
+            )
+    ),
+    MY_CHANNEL(
+            List.of("id"),
+            FieldMask.of("items/id")
+    ),
+    PLAYLIST_ITEM_COUNT(
+            List.of("contentDetails"),
+            FieldMask.of("items/contentDetails/itemCount")
+    ),
+    VIDEO_DURATIONS(
+            List.of("contentDetails"),
+            FieldMask.of("items/id", "items/contentDetails/duration")
+    ),
+    CREATED_PLAYLIST(
+            List.of("snippet", "status"),
+            FieldMask.of(
+                    "id",
+                    "snippet/title",
+                    "snippet/description",
+                    "snippet/channelId",
+                    "snippet/channelTitle",
+                    "snippet/publishedAt",
+                    "snippet/thumbnails/medium/url",
+                    "snippet/thumbnails/default/url"
+            )
+    ),
+    INSERTED_PLAYLIST_ITEM(
+            List.of("snippet"),
+            FieldMask.of("id")
+    );
+
+    private final List<String> parts;
+    private final FieldMask fieldMask;
+
+    YouTubeProjection(List<String> parts, FieldMask fieldMask) {
+        this.parts = parts;
+        this.fieldMask = fieldMask;
+    }
+
+    public List<String> parts() {
+        return parts;
+    }
+
+    public FieldMask fieldMask() {
+        return fieldMask;
+    }
+
+    public <R extends YouTubeRequest<?>> R applyTo(R request) {
+        request.setFields(fieldMask.expression());
+        request.setPrettyPrint(false);
+        return request;
+    }
+}
@@ -0,0 +1,246 @@
+package com.example.youtube.common.youtube;
+
+import com.google.api.client.googleapis.json.GoogleJsonResponseException;
+import com.google.api.client.http.HttpResponse;
+import com.google.api.services.youtube.YouTubeRequest;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.ConnectException;
+import java.net.NoRouteToHostException;
+import java.net.UnknownHostException;
+import java.net.http.HttpConnectTimeoutException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+@Component
+public class YouTubeRequestExecutor {
+
+    private static final Logger log = LoggerFactory.getLogger(YouTubeRequestExecutor.class);
+    private static final String BEARER_PREFIX = "Bearer ";
+    private static final Set<Integer> TRANSIENT_STATUSES = Set.of(500, 502, 503, 504);
+
+    public record RetrySettings(int maxAttempts, Duration initialBackoff, Duration maxBackoff, Duration budget) {
+        public RetrySettings {
+            if (maxAttempts <= 0) {
+                throw new IllegalArgumentException("Retry max-attempts must be positive");
+            }
+        }
+    }
+
+    @FunctionalInterface
+    public interface ResponseParser<T> {
+        T parse(InputStream content) throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface Call<T> {
+        T execute() throws IOException;
+    }
+
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final YouTubeCircuitBreakers circuitBreakers;
+    private final RetrySettings retrySettings;
+    private final MeterRegistry meterRegistry;
+
+    public YouTubeRequestExecutor(
+            AdaptiveConcurrencyLimiter limiter,
+            YouTubeCircuitBreakers circuitBreakers,
+            MeterRegistry meterRegistry,
+            @Value("${youtube.retry.max-attempts:4}") int maxAttempts,
+            @Value("${youtube.retry.initial-backoff:200ms}") Duration initialBackoff,
+            @Value("${youtube.retry.max-backoff:5s}") Duration maxBackoff,
+            @Value("${youtube.retry.budget:10s}") Duration budget
+    ) {
+        this.limiter = limiter;
+        this.circuitBreakers = circuitBreakers;
+        this.meterRegistry = meterRegistry;
+        this.retrySettings = new RetrySettings(maxAttempts, initialBackoff, maxBackoff, budget);
+    }
+
+    public <T> T execute(YouTubeRequest<T> request, String accessToken) throws IOException {
+        return executeWithRetries(request, accessToken, request::execute);
+    }
+
+    public <T> T executeStreaming(YouTubeRequest<?> request, String accessToken, ResponseParser<T> parser) throws IOException {
+        return executeWithRetries(request, accessToken, () -> {
+            HttpResponse response = request.executeUnparsed();
+            try (InputStream content = response.getContent()) {
+                if (content == null) {
+                    throw new IOException("Empty response body from YouTube " + request.getUriTemplate());
+                }
+                return parser.parse(content);
+            } finally {
+                response.disconnect();
+            }
+        });
+    }
+
+    private <T> T executeWithRetries(YouTubeRequest<?> request, String accessToken, Call<T> call) throws IOException {
+        request.getRequestHeaders().setAuthorization(BEARER_PREFIX + accessToken);
+
+        boolean idempotent = "GET".equals(request.getRequestMethod());
+        CircuitBreaker circuitBreaker = circuitBreakers.forOperation(operationName(request));
+        long deadline = System.nanoTime() + retrySettings.budget().toNanos();
+        List<IOException> earlierAttempts = new ArrayList<>();
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return executeOnce(call, circuitBreaker);
+            } catch (IOException e) {
+                Optional<Duration> delay = retryDelay(e, idempotent, attempt);
+                if (delay.isEmpty() || System.nanoTime() + delay.get().toNanos() > deadline) {
+                    earlierAttempts.stream().filter(earlier -> earlier != e).forEach(e::addSuppressed);
+                    throw e;
+                }
+                earlierAttempts.add(e);
+
+                log.warn("Retrying YouTube {} {} in {} ms after attempt {}: {}",
+                        request.getRequestMethod(), request.getUriTemplate(), delay.get().toMillis(), attempt, e.getMessage());
+                Counter.builder("youtube.requests.retries")
+                        .tag("reason", retryReason(e))
+                        .register(meterRegistry)
+                        .increment();
+                sleep(delay.get(), e);
+            }
+        }
+    }
+
+    private <T> T executeOnce(Call<T> call, CircuitBreaker circuitBreaker) throws IOException {
+        circuitBreaker.acquirePermission();
+        try {
+            limiter.acquire();
+        } catch (AdaptiveConcurrencyLimiter.LimitExceededException e) {
+            circuitBreaker.onIgnored();
+            throw e;
+        }
+
+        long startedNanos = System.nanoTime();
+        AdaptiveConcurrencyLimiter.Signal signal = AdaptiveConcurrencyLimiter.Signal.IGNORE;
+        try {
+            T response = call.execute();
+            signal = AdaptiveConcurrencyLimiter.Signal.SUCCESS;
+            circuitBreaker.onSuccess(elapsedSince(startedNanos));
+            return response;
+        } catch (GoogleJsonResponseException e) {
+            if (YouTubeErrors.isRateLimited(e)) {
+                signal = AdaptiveConcurrencyLimiter.Signal.OVERLOAD;
+                circuitBreaker.onIgnored();
+            } else if (e.getStatusCode() < 500) {
+                signal = AdaptiveConcurrencyLimiter.Signal.SUCCESS;
+                circuitBreaker.onSuccess(elapsedSince(startedNanos));
+            } else {
+                circuitBreaker.onFailure(elapsedSince(startedNanos));
+            }
+            throw e;
+        } catch (IOException | RuntimeException e) {
+            circuitBreaker.onFailure(elapsedSince(startedNanos));
+            throw e;
+        } finally {
+            limiter.release(signal);
+        }
+    }
+
+    private static String operationName(YouTubeRequest<?> request) {
+        String action = switch (request.getRequestMethod() == null ? "" : request.getRequestMethod()) {
+            case "GET" -> "list";
+            case "POST" -> "insert";
+            case "PUT" -> "update";
+            case "DELETE" -> "delete";
+            default -> "call";
+        };
+        return request.getUriTemplate() + "." + action;
+    }
+
+    private static Duration elapsedSince(long startedNanos) {
+        return Duration.ofNanos(System.nanoTime() - startedNanos);
+    }
+
+    private Optional<Duration> retryDelay(IOException e, boolean idempotent, int attempt) {
+        if (attempt >= retrySettings.maxAttempts()
+                || e instanceof AdaptiveConcurrencyLimiter.LimitExceededException
+                || e instanceof CircuitBreaker.CallNotPermittedException) {
+            return Optional.empty();
+        }
+
+        Duration retryAfter = Duration.ZERO;
+        if (e instanceof GoogleJsonResponseException googleError) {
+            boolean rejected = YouTubeErrors.isRateLimited(googleError);
+            boolean transientFailure = TRANSIENT_STATUSES.contains(googleError.getStatusCode());
+            if (!rejected && !(idempotent && transientFailure)) {
+                return Optional.empty();
+            }
+            retryAfter = parseRetryAfter(googleError.getHeaders().getRetryAfter());
+        } else if (!idempotent) {
+            return Optional.empty();
+        }
+
+        long capMillis = Math.min(
+                retrySettings.maxBackoff().toMillis(),
+                retrySettings.initialBackoff().toMillis() << Math.min(attempt - 1, 20)
+        );
+        long jitteredMillis = capMillis / 2 + ThreadLocalRandom.current().nextLong(capMillis / 2 + 1);
+        Duration backoff = Duration.ofMillis(jitteredMillis);
+        return Optional.of(retryAfter.compareTo(backoff) > 0 ? retryAfter : backoff);
+    }
+
+    private Duration parseRetryAfter(String retryAfter) {
+        if (retryAfter == null || retryAfter.isBlank()) {
+            return Duration.ZERO;
+        }
+        try {
+            return Duration.ofSeconds(Math.max(0, Long.parseLong(retryAfter.trim())));
+        } catch (NumberFormatException e) {
+            try {
+                Instant retryAt = ZonedDateTime.parse(retryAfter.trim(), DateTimeFormatter.RFC_1123_DATE_TIME).toInstant();
+                Duration untilRetry = Duration.between(Instant.now(), retryAt);
+                return untilRetry.isNegative() ? Duration.ZERO : untilRetry;
+            } catch (DateTimeParseException ignored) {
+                return Duration.ZERO;
+            }
+        }
+    }
+
+    public static boolean wasNeverSent(Throwable failure) {
+        return neverSent(failure) && Arrays.stream(failure.getSuppressed()).allMatch(YouTubeRequestExecutor::neverSent);
+    }
+
+    private static boolean neverSent(Throwable failure) {
+        return switch (failure) {
+            case ConnectException _, NoRouteToHostException _, UnknownHostException _, HttpConnectTimeoutException _ -> true;
+            case CircuitBreaker.CallNotPermittedException _, AdaptiveConcurrencyLimiter.LimitExceededException _ -> true;
+            default -> false;
+        };
+    }
+
+    private String retryReason(IOException e) {
+        if (e instanceof GoogleJsonResponseException googleError) {
+            return YouTubeErrors.isRateLimited(googleError) ? "rate_limited" : String.valueOf(googleError.getStatusCode());
+        }
+        return "io";
+    }
+
+    private void sleep(Duration delay, IOException cause) throws IOException {
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw cause;
+        }
+    }
+}
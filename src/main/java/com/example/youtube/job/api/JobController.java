@@ -0,0 +1,42 @@
+package com.example.youtube.job.api;
+
+import com.example.youtube.common.result.ResultMapper;
+import com.example.youtube.job.api.dto.JobResponse;
+import com.example.youtube.job.api.dto.SubmitJobRequest;
+import com.example.youtube.job.application.JobUseCase;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/v1/jobs")
+public class JobController {
+
+    private final JobUseCase jobUseCase;
+
+    public JobController(JobUseCase jobUseCase) {
+        this.jobUseCase = jobUseCase;
+    }
+
+    @PostMapping
+    public ResponseEntity<?> submitJob(@RequestBody SubmitJobRequest request) {
+        var tracks = request.tracks() == null ? List.<JobUseCase.TrackRequest>of() : request.tracks().stream()
+                .map(track -> track == null
+                        ? new JobUseCase.TrackRequest(null, null)
+                        : new JobUseCase.TrackRequest(track.track(), track.artist()))
+                .toList();
+        var result = jobUseCase.submitJob(new JobUseCase.SubmitJobRequest(request.playlistId(), tracks));
+        return ResultMapper.accepted(result, JobResponse::fromDomain);
+    }
+
+    @GetMapping("/{jobId}")
+    public ResponseEntity<?> getJob(@PathVariable String jobId) {
+        return ResultMapper.toResponse(jobUseCase.getJob(jobId), JobResponse::fromDomain);
+    }
+}
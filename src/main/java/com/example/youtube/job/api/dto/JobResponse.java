@@ -0,0 +1,30 @@
+package com.example.youtube.job.api.dto;
+
+import com.example.youtube.job.domain.entity.ConversionJob;
+import com.example.youtube.job.domain.entity.JobProgress;
+
+import java.time.Instant;
+
+public record JobResponse(
+        String id,
+        String playlistId,
+        String status,
+        int totalTracks,
+        JobProgress progress,
+        String error,
+        Instant createdAt,
+        Instant updatedAt
+) {
+    public static JobResponse fromDomain(ConversionJob job) {
+        return new JobResponse(
+                job.id(),
+                job.playlistId(),
+                job.status().name(),
+                job.tracks().size(),
+                job.progress(),
+                job.error(),
+                job.createdAt(),
+                job.updatedAt()
+        );
+    }
+}
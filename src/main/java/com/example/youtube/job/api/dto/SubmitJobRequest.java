@@ -0,0 +1,10 @@
+package com.example.youtube.job.api.dto;
+
+import java.util.List;
+
+public record SubmitJobRequest(
+        String playlistId,
+        List<TrackRequest> tracks
+) {
+    public record TrackRequest(String track, String artist) {}
+}
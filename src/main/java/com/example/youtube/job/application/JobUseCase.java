@@ -0,0 +1,18 @@
+package com.example.youtube.job.application;
+
+import com.example.youtube.common.result.Error;
+import com.example.youtube.common.result.Result;
+import com.example.youtube.job.domain.entity.ConversionJob;
+
+import java.util.List;
+
+public interface JobUseCase {
+
+    record TrackRequest(String trackName, String artistName) {}
+
+    record SubmitJobRequest(String playlistId, List<TrackRequest> tracks) {}
+
+    Result<ConversionJob, Error> submitJob(SubmitJobRequest request);
+
+    Result<ConversionJob, Error> getJob(String jobId);
+}
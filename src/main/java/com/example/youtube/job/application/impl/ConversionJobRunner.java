@@ -0,0 +1,143 @@
+package com.example.youtube.job.application.impl;
+
+import com.example.youtube.auth.application.TokenQuery;
+import com.example.youtube.auth.domain.entity.Token;
+import com.example.youtube.common.result.Error;
+import com.example.youtube.common.result.Result;
+import com.example.youtube.job.domain.entity.ConversionJob;
+import com.example.youtube.job.domain.entity.JobProgress;
+import com.example.youtube.job.domain.repository.ConversionJobRepository;
+import com.example.youtube.playlist.application.PlaylistUseCase;
+import com.example.youtube.search.application.SearchUseCase;
+import com.example.youtube.search.application.SearchUseCase.MusicMatchResult;
+import com.example.youtube.search.domain.entity.SearchResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+public class ConversionJobRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(ConversionJobRunner.class);
+    private static final Duration REFRESH_MARGIN = Duration.ofMinutes(5);
+
+    private final ConversionJobRepository jobRepository;
+    private final TokenQuery tokenQuery;
+    private final SearchUseCase searchUseCase;
+    private final PlaylistUseCase playlistUseCase;
+    private final int chunkSize;
+
+    public ConversionJobRunner(
+            ConversionJobRepository jobRepository,
+            TokenQuery tokenQuery,
+            SearchUseCase searchUseCase,
+            PlaylistUseCase playlistUseCase,
+            @Value("${youtube.jobs.chunk-size:50}") int chunkSize
+    ) {
+        this.jobRepository = jobRepository;
+        this.tokenQuery = tokenQuery;
+        this.searchUseCase = searchUseCase;
+        this.playlistUseCase = playlistUseCase;
+        this.chunkSize = chunkSize;
+    }
+
+    public void run(String jobId) {
+        switch (jobRepository.findById(jobId)) {
+            case Result.Success<ConversionJob, Error>(var job) when job.isFinished() ->
+                    log.info("Conversion job {} already {}", jobId, job.status());
+            case Result.Success<ConversionJob, Error>(var job) -> process(job);
+            case Result.Failure<ConversionJob, Error>(var error) ->
+                    log.warn("Cannot run conversion job {}: {}", jobId, error.message());
+        }
+    }
+
+    private void process(ConversionJob job) {
+        log.info("Running conversion job {}: {} of {} tracks remaining", job.id(), job.remainingTracks().size(), job.tracks().size());
+        ConversionJob current = save(job.start());
+
+        while (!current.remainingTracks().isEmpty()) {
+            Result<Token, Error> credentials = freshCredentials(current.sessionId());
+            if (credentials instanceof Result.Failure<Token, Error>(var error)) {
+                save(current.fail(error.message()));
+                return;
+            }
+
+            Token token = credentials.getOrElse(null);
+            String playlistId = current.playlistId();
+            String chunkKey = current.id() + ":" + current.progress().processed();
+            List<ConversionJob.Track> chunk = current.remainingTracks().subList(0, Math.min(chunkSize, current.remainingTracks().size()));
+
+            switch (tokenQuery.callAs(token, () -> convertChunk(playlistId, chunkKey, chunk))) {
+                case Result.Success<JobProgress, Error>(var delta) -> current = save(current.advance(delta));
+                case Result.Failure<JobProgress, Error>(var error) -> {
+                    log.warn("Conversion job {} failed after {} tracks: {}", current.id(), current.progress().processed(), error.message());
+                    save(current.fail(error.message()));
+                    return;
+                }
+            }
+        }
+
+        ConversionJob completed = save(current.complete());
+        log.info("Conversion job {} completed: {}", completed.id(), completed.progress());
+    }
+
+    private Result<JobProgress, Error> convertChunk(String playlistId, String chunkKey, List<ConversionJob.Track> chunk) {
+        var requests = chunk.stream()
+                .map(track -> new SearchUseCase.MusicSearchRequest(track.trackName(), track.artistName()))
+                .toList();
+
+        return searchUseCase.searchMusicVideos(new SearchUseCase.BatchMusicSearchRequest(requests))
+                .flatMap(matches -> {
+                    List<String> videoIds = new ArrayList<>();
+                    int notFound = 0;
+                    for (MusicMatchResult match : matches) {
+                        switch (match.result()) {
+                            case Result.Success<SearchResult, Error>(var result) -> videoIds.add(result.videoId().youtubeId());
+                            case Result.Failure<SearchResult, Error>(Error.QuotaExceededError error) -> {
+                                return Result.failure(error);
+                            }
+                            case Result.Failure<SearchResult, Error>(Error.ResourceNotFoundError _) -> notFound++;
+                            case Result.Failure<SearchResult, Error> _ -> {
+                            }
+                        }
+                    }
+
+                    int matched = videoIds.size();
+                    int searchFailures = chunk.size() - matched - notFound;
+                    if (videoIds.isEmpty()) {
+                        return Result.success(new JobProgress(chunk.size(), 0, notFound, 0, 0, searchFailures));
+                    }
+
+                    int unmatched = notFound;
+                    return playlistUseCase.addVideosToPlaylist(new PlaylistUseCase.AddVideosRequest(playlistId, videoIds, chunkKey))
+                            .map(report -> new JobProgress(
+                                    chunk.size(),
+                                    matched,
+                                    unmatched,
+                                    (int) report.insertedCount(),
+                                    (int) report.skippedCount(),
+                                    searchFailures + (int) report.failedCount()
+                            ));
+                });
+    }
+
+    private Result<Token, Error> freshCredentials(String sessionId) {
+        return tokenQuery.findSessionToken(sessionId)
+                .flatMap(token -> token.expiresAt().isAfter(Instant.now().plus(REFRESH_MARGIN))
+                        ? Result.success(token)
+                        : tokenQuery.refreshSessionToken(sessionId));
+    }
+
+    private ConversionJob save(ConversionJob job) {
+        if (jobRepository.save(job) instanceof Result.Failure<Void, Error>(var error)) {
+            log.warn("Failed to persist progress of conversion job {}: {}", job.id(), error.message());
+        }
+        return job;
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.youtube.job.application.impl;
+
+import com.example.youtube.auth.application.TokenQuery;
+import com.example.youtube.common.result.Error;
+import com.example.youtube.common.result.Result;
+import com.example.youtube.job.application.JobUseCase;
+import com.example.youtube.job.domain.entity.ConversionJob;
+import com.example.youtube.job.domain.repository.ConversionJobRepository;
+import com.example.youtube.job.domain.repository.JobQueue;
+import com.example.youtube.playlist.application.PlaylistUseCase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+public class JobService implements JobUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(JobService.class);
+
+    private final TokenQuery tokenQuery;
+    private final PlaylistUseCase playlistUseCase;
+    private final ConversionJobRepository jobRepository;
+    private final JobQueue jobQueue;
+    private final int maxTracks;
+
+    public JobService(
+            TokenQuery tokenQuery,
+            PlaylistUseCase playlistUseCase,
+            ConversionJobRepository jobRepository,
+            JobQueue jobQueue,
+            @Value("${youtube.jobs.max-tracks:5000}") int maxTracks
+    ) {
+        this.tokenQuery = tokenQuery;
+        this.playlistUseCase = playlistUseCase;
+        this.jobRepository = jobRepository;
+        this.jobQueue = jobQueue;
+        this.maxTracks = maxTracks;
+    }
+
+    @Override
+    public Result<ConversionJob, Error> submitJob(SubmitJobRequest request) {
+        List<TrackRequest> tracks = request.tracks() == null ? List.of() : request.tracks();
+        log.info("Submitting conversion job for playlist {} with {} tracks", request.playlistId(), tracks.size());
+
+        if (tracks.size() > maxTracks) {
+            return Result.failure(Error.invalidInputError("tracks", "At most " + maxTracks + " tracks per job"));
+        }
+
+        for (int index = 0; index < tracks.size(); index++) {
+            TrackRequest track = tracks.get(index);
+            if (track == null || isBlank(track.trackName()) || isBlank(track.artistName())) {
+                return Result.failure(Error.invalidInputError(
+                        "tracks[" + index + "]", "Track name and artist name are required"));
+            }
+        }
+
+        return tokenQuery.currentSessionId()
+                .flatMap(sessionId -> playlistUseCase.getCurrentChannelId()
+                        .flatMap(ownerId -> ConversionJob.submit(
+                                request.playlistId(),
+                                tracks.stream().map(track -> new ConversionJob.Track(track.trackName(), track.artistName())).toList(),
+                                ownerId,
+                                sessionId
+                        )))
+                .andThen(jobRepository::save)
+                .andThen(this::enqueue);
+    }
+
+    @Override
+    public Result<ConversionJob, Error> getJob(String jobId) {
+        return playlistUseCase.getCurrentChannelId()
+                .flatMap(channelId -> jobRepository.findById(jobId)
+                        .flatMap(job -> job.isOwnedBy(channelId)
+                                ? Result.success(job)
+                                : Result.failure(Error.resourceNotFoundError("Conversion job", jobId))));
+    }
+
+    private Result<Void, Error> enqueue(ConversionJob job) {
+        Result<Void, Error> enqueued = jobQueue.enqueue(job.id());
+        if (enqueued instanceof Result.Failure<Void, Error>(var error)) {
+            log.warn("Failed to enqueue conversion job {}: {}", job.id(), error.message());
+            jobRepository.save(job.fail("Job could not be queued"));
+        }
+        return enqueued;
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.youtube.job.application.impl;
+
+import com.example.youtube.common.result.Error;
+import com.example.youtube.common.result.Result;
+import com.example.youtube.job.domain.entity.ConversionJob;
+import com.example.youtube.job.domain.repository.ConversionJobRepository;
+import com.example.youtube.job.domain.repository.JobQueue;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class JobWorker {
+
+    private static final Logger log = LoggerFactory.getLogger(JobWorker.class);
+    private static final Duration ERROR_BACKOFF = Duration.ofSeconds(5);
+
+    private final JobQueue jobQueue;
+    private final ConversionJobRepository jobRepository;
+    private final ConversionJobRunner jobRunner;
+    private final boolean enabled;
+    private final int workers;
+    private final Duration pollTimeout;
+    private final Duration staleAfter;
+    private final AtomicLong nextRecoveryNanos = new AtomicLong(System.nanoTime());
+    private final List<Thread> threads = new ArrayList<>();
+    private volatile boolean running;
+
+    public JobWorker(
+            JobQueue jobQueue,
+            ConversionJobRepository jobRepository,
+            ConversionJobRunner jobRunner,
+            @Value("${youtube.jobs.worker.enabled:true}") boolean enabled,
+            @Value("${youtube.jobs.worker.threads:2}") int workers,
+            @Value("${youtube.jobs.worker.poll-timeout:5s}") Duration pollTimeout,
+            @Value("${youtube.jobs.worker.stale-after:10m}") Duration staleAfter
+    ) {
+        this.jobQueue = jobQueue;
+        this.jobRepository = jobRepository;
+        this.jobRunner = jobRunner;
+        this.enabled = enabled;
+        this.workers = workers;
+        this.pollTimeout = pollTimeout;
+        this.staleAfter = staleAfter;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            log.info("Conversion job worker disabled");
+            return;
+        }
+
+        running = true;
+        for (int index = 0; index < workers; index++) {
+            threads.add(Thread.ofVirtual().name("conversion-job-worker-" + index).start(this::pollLoop));
+        }
+        log.info("Started {} conversion job workers", workers);
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        threads.forEach(Thread::interrupt);
+    }
+
+    private void pollLoop() {
+        while (running) {
+            try {
+                recoverStaleJobsIfDue();
+                jobQueue.poll(pollTimeout).ifPresent(this::runAndAcknowledge);
+            } catch (Exception e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("Conversion job worker error: {}", e.getMessage());
+                sleep(ERROR_BACKOFF);
+            }
+        }
+    }
+
+    private void runAndAcknowledge(String jobId) {
+        try {
+            jobRunner.run(jobId);
+        } finally {
+            jobQueue.acknowledge(jobId);
+        }
+    }
+
+    private void recoverStaleJobsIfDue() {
+        long due = nextRecoveryNanos.get();
+        if (System.nanoTime() - due < 0 || !nextRecoveryNanos.compareAndSet(due, System.nanoTime() + staleAfter.toNanos() / 2)) {
+            return;
+        }
+
+        Instant staleBefore = Instant.now().minus(staleAfter);
+        for (String jobId : jobQueue.inFlight()) {
+            switch (jobRepository.findById(jobId)) {
+                case Result.Success<ConversionJob, Error>(var job) when job.isFinished() -> jobQueue.acknowledge(jobId);
+                case Result.Success<ConversionJob, Error>(var job) -> {
+                    if (job.updatedAt().isBefore(staleBefore) && jobQueue.requeue(jobId)) {
+                        log.warn("Requeued stale conversion job {} at {} processed tracks", jobId, job.progress().processed());
+                    }
+                }
+                case Result.Failure<ConversionJob, Error>(Error.ResourceNotFoundError _) -> jobQueue.acknowledge(jobId);
+                case Result.Failure<ConversionJob, Error> _ -> {
+                }
+            }
+        }
+    }
+
+    private void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
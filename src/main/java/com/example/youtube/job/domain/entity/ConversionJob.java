@@ -0,0 +1,109 @@
+package com.example.youtube.job.domain.entity;
+
+import com.example.youtube.common.result.Error;
+import com.example.youtube.common.result.Result;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+public record ConversionJob(
+        String id,
+        String playlistId,
+        List<Track> tracks,
+        Status status,
+        JobProgress progress,
+        String ownerId,
+        String sessionId,
+        String error,
+        Instant createdAt,
+        Instant updatedAt
+) {
+    public enum Status {
+        QUEUED,
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    public record Track(String trackName, String artistName) {}
+
+    public ConversionJob {
+        Objects.requireNonNull(id, "Job ID cannot be null");
+        Objects.requireNonNull(playlistId, "Playlist ID cannot be null");
+        Objects.requireNonNull(status, "Status cannot be null");
+        Objects.requireNonNull(progress, "Progress cannot be null");
+        tracks = List.copyOf(Objects.requireNonNull(tracks, "Tracks cannot be null"));
+    }
+
+    public static Result<ConversionJob, Error> submit(String playlistId, List<Track> tracks, String ownerId, String sessionId) {
+        if (playlistId == null || playlistId.isBlank()) {
+            return Result.failure(Error.invalidInputError("playlistId", "Target playlist ID is required"));
+        }
+
+        if (tracks == null || tracks.isEmpty()) {
+            return Result.failure(Error.invalidInputError("tracks", "At least one track is required"));
+        }
+
+        Objects.requireNonNull(ownerId, "Owner ID cannot be null");
+        Objects.requireNonNull(sessionId, "Session ID cannot be null");
+
+        Instant now = Instant.now();
+        return Result.success(new ConversionJob(
+                UUID.randomUUID().toString(),
+                playlistId,
+                tracks,
+                Status.QUEUED,
+                JobProgress.none(),
+                ownerId,
+                sessionId,
+                null,
+                now,
+                now
+        ));
+    }
+
+    public ConversionJob start() {
+        return withState(Status.RUNNING, progress, null);
+    }
+
+    public ConversionJob advance(JobProgress delta) {
+        return withState(status, progress.plus(delta), null);
+    }
+
+    public ConversionJob complete() {
+        return withState(Status.COMPLETED, progress, null);
+    }
+
+    public ConversionJob fail(String reason) {
+        return withState(Status.FAILED, progress, reason);
+    }
+
+    public boolean isFinished() {
+        return status == Status.COMPLETED || status == Status.FAILED;
+    }
+
+    public List<Track> remainingTracks() {
+        return tracks.subList(Math.min(progress.processed(), tracks.size()), tracks.size());
+    }
+
+    public boolean isOwnedBy(String channelId) {
+        return ownerId != null && ownerId.equals(channelId);
+    }
+
+    private ConversionJob withState(Status newStatus, JobProgress newProgress, String newError) {
+        return new ConversionJob(
+                id,
+                playlistId,
+                tracks,
+                newStatus,
+                newProgress,
+                ownerId,
+                sessionId,
+                newError,
+                createdAt,
+                Instant.now()
+        );
+    }
+}
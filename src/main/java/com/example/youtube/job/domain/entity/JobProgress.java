@@ -0,0 +1,25 @@
+package com.example.youtube.job.domain.entity;
+
+public record JobProgress(
+        int processed,
+        int matched,
+        int notFound,
+        int inserted,
+        int skipped,
+        int failed
+) {
+    public static JobProgress none() {
+        return new JobProgress(0, 0, 0, 0, 0, 0);
+    }
+
+    public JobProgress plus(JobProgress other) {
+        return new JobProgress(
+                processed + other.processed,
+                matched + other.matched,
+                notFound + other.notFound,
+                inserted + other.inserted,
+                skipped + other.skipped,
+                failed + other.failed
+        );
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.youtube.job.domain.repository;
+
+import com.example.youtube.common.result.Error;
+import com.example.youtube.common.result.Result;
+import com.example.youtube.job.domain.entity.ConversionJob;
+
+public interface ConversionJobRepository {
+
+    Result<Void, Error> save(ConversionJob job);
+
+    Result<ConversionJob, Error> findById(String jobId);
+}
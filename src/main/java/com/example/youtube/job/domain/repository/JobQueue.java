@@ -0,0 +1,21 @@
+package com.example.youtube.job.domain.repository;
+
+import com.example.youtube.common.result.Error;
+import com.example.youtube.common.result.Result;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+public interface JobQueue {
+
+    Result<Void, Error> enqueue(String jobId);
+
+    Optional<String> poll(Duration timeout);
+
+    void acknowledge(String jobId);
+
+    List<String> inFlight();
+
+    boolean requeue(String jobId);
+}
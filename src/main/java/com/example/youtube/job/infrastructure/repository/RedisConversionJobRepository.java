@@ -0,0 +1,103 @@
+package com.example.youtube.job.infrastructure.repository;
+
+import com.example.youtube.common.result.Error;
+import com.example.youtube.common.result.Result;
+import com.example.youtube.job.domain.entity.ConversionJob;
+import com.example.youtube.job.domain.entity.JobProgress;
+import com.example.youtube.job.domain.repository.ConversionJobRepository;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public class RedisConversionJobRepository implements ConversionJobRepository {
+
+    private static final String KEY_PREFIX = "youtube:job:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration retention;
+
+    public RedisConversionJobRepository(
+            StringRedisTemplate redisTemplate,
+            ObjectMapper objectMapper,
+            @Value("${youtube.jobs.retention:7d}") Duration retention
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.retention = retention;
+    }
+
+    @Override
+    public Result<Void, Error> save(ConversionJob job) {
+        try {
+            redisTemplate.opsForValue().set(KEY_PREFIX + job.id(), objectMapper.writeValueAsString(JobData.fromDomain(job)), retention);
+            return Result.successVoid();
+        } catch (Exception e) {
+            return Result.failure(Error.externalServiceError("Redis", "Failed to save conversion job", e));
+        }
+    }
+
+    @Override
+    public Result<ConversionJob, Error> findById(String jobId) {
+        try {
+            String value = redisTemplate.opsForValue().get(KEY_PREFIX + jobId);
+            if (value == null) {
+                return Result.failure(Error.resourceNotFoundError("Conversion job", jobId));
+            }
+            return Result.success(objectMapper.readValue(value, JobData.class).toDomain());
+        } catch (Exception e) {
+            return Result.failure(Error.externalServiceError("Redis", "Failed to load conversion job", e));
+        }
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    private record JobData(
+            String id,
+            String playlistId,
+            List<ConversionJob.Track> tracks,
+            ConversionJob.Status status,
+            JobProgress progress,
+            String ownerId,
+            String sessionId,
+            String error,
+            Instant createdAt,
+            Instant updatedAt
+    ) {
+        static JobData fromDomain(ConversionJob job) {
+            return new JobData(
+                    job.id(),
+                    job.playlistId(),
+                    job.tracks(),
+                    job.status(),
+                    job.progress(),
+                    job.ownerId(),
+                    job.sessionId(),
+                    job.error(),
+                    job.createdAt(),
+                    job.updatedAt()
+            );
+        }
+
+        ConversionJob toDomain() {
+            return new ConversionJob(
+                    id,
+                    playlistId,
+                    tracks,
+                    status,
+                    progress,
+                    ownerId,
+                    sessionId,
+                    error,
+                    createdAt,
+                    updatedAt
+            );
+        }
+    }
+}
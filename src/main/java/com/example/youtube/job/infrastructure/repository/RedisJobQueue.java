@@ -0,0 +1,67 @@
+package com.example.youtube.job.infrastructure.repository;
+
+import com.example.youtube.common.result.Error;
+import com.example.youtube.common.result.Result;
+import com.example.youtube.job.domain.repository.JobQueue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+@Repository
+public class RedisJobQueue implements JobQueue {
+
+    private static final Logger log = LoggerFactory.getLogger(RedisJobQueue.class);
+    private static final String PENDING_KEY = "youtube:jobs:pending";
+    private static final String PROCESSING_KEY = "youtube:jobs:processing";
+
+    private final StringRedisTemplate redisTemplate;
+
+    public RedisJobQueue(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public Result<Void, Error> enqueue(String jobId) {
+        try {
+            redisTemplate.opsForList().leftPush(PENDING_KEY, jobId);
+            return Result.successVoid();
+        } catch (Exception e) {
+            return Result.failure(Error.externalServiceError("Redis", "Failed to enqueue conversion job", e));
+        }
+    }
+
+    @Override
+    public Optional<String> poll(Duration timeout) {
+        return Optional.ofNullable(redisTemplate.opsForList().rightPopAndLeftPush(PENDING_KEY, PROCESSING_KEY, timeout));
+    }
+
+    @Override
+    public void acknowledge(String jobId) {
+        try {
+            redisTemplate.opsForList().remove(PROCESSING_KEY, 1, jobId);
+        } catch (Exception e) {
+            log.warn("Failed to acknowledge conversion job {}: {}", jobId, e.getMessage());
+        }
+    }
+
+    @Override
+    public List<String> inFlight() {
+        return Objects.requireNonNullElse(redisTemplate.opsForList().range(PROCESSING_KEY, 0, -1), List.of());
+    }
+
+    @Override
+    public boolean requeue(String jobId) {
+        Long removed = redisTemplate.opsForList().remove(PROCESSING_KEY, 1, jobId);
+        if (removed == null || removed == 0) {
+            return false;
+        }
+        redisTemplate.opsForList().rightPush(PENDING_KEY, jobId);
+        return true;
+    }
+}
@@ -1,28 +1,45 @@
 package com.example.youtube.playlist.api;
 
+import com.example.youtube.common.result.Error;
+import com.example.youtube.common.result.Result;
 import com.example.youtube.common.result.ResultMapper;
 import com.example.youtube.playlist.api.dto.AddVideosRequest;
+import com.example.youtube.playlist.api.dto.AddVideosResponse;
 import com.example.youtube.playlist.api.dto.CreatePlaylistRequest;
 import com.example.youtube.playlist.api.dto.PagedVideosResponse;
 import com.example.youtube.playlist.api.dto.PlaylistResponse;
+import com.example.youtube.playlist.api.dto.StreamErrorResponse;
+import com.example.youtube.playlist.api.dto.VideoResponse;
 import com.example.youtube.playlist.application.PlaylistUseCase;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 
 @RestController
 @RequestMapping("/v1/playlists")
 public class PlaylistController {
 
+    private static final byte[] NEWLINE = {'\n'};
+
     private final PlaylistUseCase playlistUseCase;
+    private final ObjectMapper objectMapper;
 
-    public PlaylistController(PlaylistUseCase playlistUseCase) {
+    public PlaylistController(PlaylistUseCase playlistUseCase, ObjectMapper objectMapper) {
         this.playlistUseCase = playlistUseCase;
+        this.objectMapper = objectMapper;
     }
 
     @GetMapping
@@ -37,13 +54,67 @@ public class PlaylistController {
     public ResponseEntity<?> getPlaylistVideos(
             @PathVariable String playlistId,
             @RequestParam(defaultValue = "25") int maxResults,
-            @RequestParam(required = false) String pageToken
+            @RequestParam(required = false) String pageToken,
+            @RequestParam(defaultValue = "false") boolean enrich
     ) {
-        var request = new PlaylistUseCase.GetVideosRequest(playlistId, maxResults, pageToken);
+        var request = new PlaylistUseCase.GetVideosRequest(playlistId, maxResults, pageToken, enrich);
         var result = playlistUseCase.getPlaylistVideos(request);
         return ResultMapper.toResponse(result, PagedVideosResponse::fromDomain);
     }
 
+    @GetMapping(value = "/{playlistId}/videos/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamPlaylistVideos(
+            @PathVariable String playlistId,
+            @RequestParam(defaultValue = "false") boolean enrich
+    ) {
+        var result = playlistUseCase.streamPlaylistVideos(playlistId, enrich);
+        return ResultMapper.streamed(
+                result,
+                MediaType.APPLICATION_NDJSON,
+                stream -> output -> writeNdjson(stream, output),
+                error -> output -> writeErrorLine(output, error)
+        );
+    }
+
+    private void writeNdjson(PlaylistUseCase.VideoStream stream, OutputStream output) throws IOException {
+        try {
+            var outcome = stream.forEachPage(videos -> {
+                for (var video : videos) {
+                    writeLine(output, VideoResponse.fromDomain(video));
+                }
+                flush(output);
+            });
+            if (outcome instanceof Result.Failure<Void, Error>(var error)) {
+                writeErrorLine(output, ResultMapper.toErrorDTO(error));
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private void writeErrorLine(OutputStream output, ResultMapper.ErrorDTO error) throws IOException {
+        output.write(objectMapper.writeValueAsBytes(new StreamErrorResponse(error)));
+        output.write(NEWLINE);
+        output.flush();
+    }
+
+    private void writeLine(OutputStream output, Object line) {
+        try {
+            output.write(objectMapper.writeValueAsBytes(line));
+            output.write(NEWLINE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void flush(OutputStream output) {
+        try {
+            output.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     @PostMapping
     public ResponseEntity<?> createPlaylist(@RequestBody CreatePlaylistRequest request) {
         var useCaseRequest = new PlaylistUseCase.CreatePlaylistRequest(
@@ -57,10 +128,11 @@ public class PlaylistController {
     @PostMapping("/{playlistId}/videos")
     public ResponseEntity<?> addVideosToPlaylist(
             @PathVariable String playlistId,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
             @RequestBody AddVideosRequest request
     ) {
-        var useCaseRequest = new PlaylistUseCase.AddVideosRequest(playlistId, request.videoIds());
+        var useCaseRequest = new PlaylistUseCase.AddVideosRequest(playlistId, request.videoIds(), idempotencyKey);
         var result = playlistUseCase.addVideosToPlaylist(useCaseRequest);
-        return ResultMapper.toResponse(result, _ -> null);
+        return ResultMapper.toResponse(result, AddVideosResponse::fromDomain);
     }
 }
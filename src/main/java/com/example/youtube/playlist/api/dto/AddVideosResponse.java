@@ -0,0 +1,46 @@
+package com.example.youtube.playlist.api.dto;
+
+import com.example.youtube.playlist.domain.entity.BulkInsertReport;
+import com.example.youtube.playlist.domain.entity.InsertOutcome;
+
+import java.util.List;
+
+public record AddVideosResponse(
+        String playlistId,
+        long inserted,
+        long failed,
+        long skipped,
+        List<String> failedVideoIds,
+        List<String> skippedVideoIds,
+        List<VideoInsertResponse> items
+) {
+    public record VideoInsertResponse(
+            String videoId,
+            Long position,
+            String status,
+            String playlistItemId,
+            String error
+    ) {
+        public static VideoInsertResponse fromDomain(InsertOutcome outcome) {
+            return new VideoInsertResponse(
+                    outcome.videoId(),
+                    outcome.isInserted() ? outcome.position() : null,
+                    outcome.status().name(),
+                    outcome.playlistItemId(),
+                    outcome.error() != null ? outcome.error().message() : null
+            );
+        }
+    }
+
+    public static AddVideosResponse fromDomain(BulkInsertReport report) {
+        return new AddVideosResponse(
+                report.playlistId(),
+                report.insertedCount(),
+                report.failedCount(),
+                report.skippedCount(),
+                report.failedVideoIds(),
+                report.skippedVideoIds(),
+                report.outcomes().stream().map(VideoInsertResponse::fromDomain).toList()
+        );
+    }
+}
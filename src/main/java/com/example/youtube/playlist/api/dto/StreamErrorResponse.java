@@ -0,0 +1,7 @@
+package com.example.youtube.playlist.api.dto;
+
+import com.example.youtube.common.result.ResultMapper.ErrorDTO;
+
+public record StreamErrorResponse(
+        ErrorDTO error
+) {}
@@ -2,25 +2,39 @@ package com.example.youtube.playlist.application;
 
 import com.example.youtube.common.result.Error;
 import com.example.youtube.common.result.Result;
+import com.example.youtube.playlist.domain.entity.BulkInsertReport;
 import com.example.youtube.playlist.domain.entity.PageResult;
 import com.example.youtube.playlist.domain.entity.YouTubePlaylist;
 import com.example.youtube.playlist.domain.entity.YouTubeVideo;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface PlaylistUseCase {
 
     record CreatePlaylistRequest(String title, String description) {}
 
-    record AddVideosRequest(String playlistId, List<String> videoIds) {}
+    record AddVideosRequest(String playlistId, List<String> videoIds, String idempotencyKey) {
+        public AddVideosRequest(String playlistId, List<String> videoIds) {
+            this(playlistId, videoIds, null);
+        }
+    }
 
-    record GetVideosRequest(String playlistId, int maxResults, String pageToken) {}
+    record GetVideosRequest(String playlistId, int maxResults, String pageToken, boolean enrich) {}
+
+    interface VideoStream {
+        Result<Void, Error> forEachPage(Consumer<List<YouTubeVideo>> pageConsumer);
+    }
+
+    Result<String, Error> getCurrentChannelId();
 
     Result<List<YouTubePlaylist>, Error> getUserPlaylists();
 
     Result<PageResult<YouTubeVideo>, Error> getPlaylistVideos(GetVideosRequest request);
 
+    Result<VideoStream, Error> streamPlaylistVideos(String playlistId, boolean enrich);
+
     Result<YouTubePlaylist, Error> createPlaylist(CreatePlaylistRequest request);
 
-    Result<Void, Error> addVideosToPlaylist(AddVideosRequest request);
+    Result<BulkInsertReport, Error> addVideosToPlaylist(AddVideosRequest request);
 }
@@ -0,0 +1,58 @@
+package com.example.youtube.playlist.application.impl;
+
+import com.example.youtube.playlist.domain.entity.BulkInsertReport;
+import com.example.youtube.playlist.domain.entity.InsertOutcome;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+record InsertPlan(
+        List<String> requested,
+        Set<String> existing,
+        Map<String, InsertOutcome> completed,
+        List<String> toInsert
+) {
+
+    static InsertPlan of(List<String> requested, Set<String> existing, Map<String, InsertOutcome> completed) {
+        Set<String> seen = new HashSet<>();
+        List<String> toInsert = new ArrayList<>();
+        for (String videoId : requested) {
+            if (seen.add(videoId) && !completed.containsKey(videoId) && !existing.contains(videoId)) {
+                toInsert.add(videoId);
+            }
+        }
+        return new InsertPlan(List.copyOf(requested), Set.copyOf(existing), Map.copyOf(completed), List.copyOf(toInsert));
+    }
+
+    int resumedCount() {
+        return (int) requested.stream().distinct().filter(completed::containsKey).count();
+    }
+
+    int skippedCount() {
+        return requested.size() - toInsert.size() - resumedCount();
+    }
+
+    BulkInsertReport report(String playlistId, List<InsertOutcome> insertOutcomes) {
+        Iterator<InsertOutcome> inserts = insertOutcomes.iterator();
+        Set<String> seen = new HashSet<>();
+        List<InsertOutcome> outcomes = new ArrayList<>(requested.size());
+
+        for (String videoId : requested) {
+            if (!seen.add(videoId)) {
+                outcomes.add(InsertOutcome.duplicate(videoId));
+            } else if (completed.containsKey(videoId)) {
+                outcomes.add(completed.get(videoId));
+            } else if (existing.contains(videoId)) {
+                outcomes.add(InsertOutcome.alreadyPresent(videoId));
+            } else {
+                outcomes.add(inserts.next());
+            }
+        }
+
+        return BulkInsertReport.of(playlistId, outcomes);
+    }
+}
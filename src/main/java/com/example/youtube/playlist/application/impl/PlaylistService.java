@@ -4,34 +4,67 @@ import com.example.youtube.auth.application.TokenQuery;
 import com.example.youtube.common.result.Error;
 import com.example.youtube.common.result.Result;
 import com.example.youtube.playlist.application.PlaylistUseCase;
+import com.example.youtube.playlist.domain.entity.BulkInsertReport;
+import com.example.youtube.playlist.domain.entity.InsertOutcome;
 import com.example.youtube.playlist.domain.entity.PageResult;
 import com.example.youtube.playlist.domain.entity.YouTubePlaylist;
 import com.example.youtube.playlist.domain.entity.YouTubeVideo;
+import com.example.youtube.playlist.domain.repository.ImportCheckpointRepository;
+import com.example.youtube.playlist.domain.repository.PlaylistCache;
+import com.example.youtube.playlist.domain.repository.PlaylistContentsCache;
 import com.example.youtube.playlist.domain.service.YouTubePlaylistPort;
+import com.example.youtube.quota.domain.entity.QuotaReservation;
+import com.example.youtube.quota.domain.service.QuotaRefundPolicy;
 import com.example.youtube.quota.domain.service.QuotaService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
 
 @Service
 public class PlaylistService implements PlaylistUseCase {
 
     private static final Logger log = LoggerFactory.getLogger(PlaylistService.class);
+    private static final int STREAM_PAGE_SIZE = 50;
+    private static final int MAX_IDEMPOTENCY_KEY_LENGTH = 255;
 
     private final TokenQuery tokenQuery;
     private final YouTubePlaylistPort youtubePlaylistPort;
     private final QuotaService quotaService;
+    private final PlaylistCache playlistCache;
+    private final PlaylistContentsCache contentsCache;
+    private final ImportCheckpointRepository checkpointRepository;
+    private final PlaylistVideoEnricher videoEnricher;
 
     public PlaylistService(
             TokenQuery tokenQuery,
             YouTubePlaylistPort youtubePlaylistPort,
-            QuotaService quotaService
+            QuotaService quotaService,
+            PlaylistCache playlistCache,
+            PlaylistContentsCache contentsCache,
+            ImportCheckpointRepository checkpointRepository,
+            PlaylistVideoEnricher videoEnricher
     ) {
         this.tokenQuery = tokenQuery;
         this.youtubePlaylistPort = youtubePlaylistPort;
         this.quotaService = quotaService;
+        this.playlistCache = playlistCache;
+        this.contentsCache = contentsCache;
+        this.checkpointRepository = checkpointRepository;
+        this.videoEnricher = videoEnricher;
+    }
+
+    @Override
+    public Result<String, Error> getCurrentChannelId() {
+        return tokenQuery.getCurrentUserToken().flatMap(token -> channelId(token.accessToken()));
     }
 
     @Override
@@ -39,8 +72,37 @@ public class PlaylistService implements PlaylistUseCase {
         log.info("Fetching user playlists");
 
         return tokenQuery.getCurrentUserToken()
-                .flatMap(token -> quotaService.consumeQuota(QuotaService.PLAYLISTS_LIST_COST)
-                        .flatMap(_ -> youtubePlaylistPort.getUserPlaylists(token.accessToken())));
+                .flatMap(token -> playlistCache.find(token.accessToken())
+                        .map(Result::<List<YouTubePlaylist>, Error>success)
+                        .orElseGet(() -> fetchAllPlaylists(token.accessToken())
+                                .andThen(playlists -> {
+                                    playlistCache.store(token.accessToken(), playlists);
+                                    return Result.successVoid();
+                                })));
+    }
+
+    private Result<List<YouTubePlaylist>, Error> fetchAllPlaylists(String accessToken) {
+        List<YouTubePlaylist> playlists = new ArrayList<>();
+        String pageToken = null;
+
+        do {
+            String currentPageToken = pageToken;
+            var page = quotaService.reserveQuota(QuotaService.PLAYLISTS_LIST_COST)
+                    .flatMap(reservation -> settle(reservation, youtubePlaylistPort.getUserPlaylists(accessToken, currentPageToken)));
+
+            switch (page) {
+                case Result.Success<PageResult<YouTubePlaylist>, Error>(var fetched) -> {
+                    playlists.addAll(fetched.items());
+                    pageToken = fetched.hasNextPage() ? fetched.nextPageToken() : null;
+                }
+                case Result.Failure<PageResult<YouTubePlaylist>, Error>(var error) -> {
+                    return Result.failure(error);
+                }
+            }
+        } while (pageToken != null);
+
+        log.info("Fetched {} playlists", playlists.size());
+        return Result.success(playlists);
     }
 
     @Override
@@ -48,15 +110,41 @@ public class PlaylistService implements PlaylistUseCase {
         log.info("Fetching videos for playlist: {}", request.playlistId());
 
         return tokenQuery.getCurrentUserToken()
-                .flatMap(token -> quotaService.consumeQuota(QuotaService.PLAYLIST_ITEMS_LIST_COST)
-                        .flatMap(_ -> youtubePlaylistPort.getPlaylistVideos(
+                .flatMap(token -> quotaService.reserveQuota(QuotaService.PLAYLIST_ITEMS_LIST_COST)
+                        .flatMap(reservation -> settle(reservation, youtubePlaylistPort.getPlaylistVideos(
                                 token.accessToken(),
                                 request.playlistId(),
                                 request.maxResults(),
                                 request.pageToken()
+                        )))
+                        .map(page -> request.enrich()
+                                ? PageResult.of(videoEnricher.enrich(token.accessToken(), page.items()), page.nextPageToken(), page.totalResults())
+                                : page));
+    }
+
+    @Override
+    public Result<VideoStream, Error> streamPlaylistVideos(String playlistId, boolean enrich) {
+        log.info("Streaming all videos for playlist: {}", playlistId);
+
+        return tokenQuery.getCurrentUserToken()
+                .flatMap(token -> fetchFullPage(token.accessToken(), playlistId, null)
+                        .map(firstPage -> new PlaylistVideoStream(
+                                firstPage,
+                                pageToken -> fetchFullPage(token.accessToken(), playlistId, pageToken),
+                                enrich ? videos -> videoEnricher.enrich(token.accessToken(), videos) : UnaryOperator.identity()
                         )));
     }
 
+    private Result<PageResult<YouTubeVideo>, Error> fetchFullPage(String accessToken, String playlistId, String pageToken) {
+        return quotaService.reserveQuota(QuotaService.PLAYLIST_ITEMS_LIST_COST)
+                .flatMap(reservation -> settle(reservation, youtubePlaylistPort.getPlaylistVideos(
+                        accessToken,
+                        playlistId,
+                        STREAM_PAGE_SIZE,
+                        pageToken
+                )));
+    }
+
     @Override
     public Result<YouTubePlaylist, Error> createPlaylist(CreatePlaylistRequest request) {
         log.info("Creating playlist: {}", request.title());
@@ -66,30 +154,177 @@ public class PlaylistService implements PlaylistUseCase {
         }
 
         return tokenQuery.getCurrentUserToken()
-                .flatMap(token -> quotaService.consumeQuota(QuotaService.PLAYLISTS_INSERT_COST)
-                        .flatMap(_ -> youtubePlaylistPort.createPlaylist(
+                .flatMap(token -> quotaService.reserveQuota(QuotaService.PLAYLISTS_INSERT_COST)
+                        .flatMap(reservation -> settle(reservation, youtubePlaylistPort.createPlaylist(
                                 token.accessToken(),
                                 request.title(),
                                 request.description()
-                        )));
+                        ))
+                        .andThen(playlist -> {
+                            playlistCache.add(token.accessToken(), playlist);
+                            return Result.successVoid();
+                        })));
     }
 
     @Override
-    public Result<Void, Error> addVideosToPlaylist(AddVideosRequest request) {
+    public Result<BulkInsertReport, Error> addVideosToPlaylist(AddVideosRequest request) {
         log.info("Adding {} videos to playlist: {}", request.videoIds().size(), request.playlistId());
 
         if (request.videoIds().isEmpty()) {
             return Result.failure(Error.invalidInputError("videoIds", "At least one video ID is required"));
         }
 
-        int totalCost = request.videoIds().size() * QuotaService.PLAYLIST_ITEMS_INSERT_COST;
+        String key = request.idempotencyKey();
+        if (key != null && (key.isBlank() || key.length() > MAX_IDEMPOTENCY_KEY_LENGTH)) {
+            return Result.failure(Error.invalidInputError(
+                    "Idempotency-Key", "Idempotency key must be 1-" + MAX_IDEMPOTENCY_KEY_LENGTH + " characters"));
+        }
 
         return tokenQuery.getCurrentUserToken()
-                .flatMap(token -> quotaService.consumeQuota(totalCost)
-                        .flatMap(_ -> youtubePlaylistPort.addVideosToPlaylist(
+                .flatMap(token -> key == null
+                        ? planAndImport(token.accessToken(), request, null)
+                        : channelId(token.accessToken()).flatMap(channelId -> claimAndImport(
                                 token.accessToken(),
+                                request,
+                                channelId + ":" + request.playlistId() + ":" + key
+                        )));
+    }
+
+    private Result<BulkInsertReport, Error> claimAndImport(String accessToken, AddVideosRequest request, String importKey) {
+        String claimToken = UUID.randomUUID().toString();
+        return checkpointRepository.claim(importKey, claimToken)
+                .flatMap(claimed -> {
+                    if (!claimed) {
+                        log.info("Import {} is already running elsewhere", importKey);
+                        return Result.failure(Error.conflictError("Import", request.idempotencyKey()));
+                    }
+                    try {
+                        return planAndImport(accessToken, request, importKey);
+                    } finally {
+                        checkpointRepository.release(importKey, claimToken);
+                    }
+                });
+    }
+
+    private Result<BulkInsertReport, Error> planAndImport(String accessToken, AddVideosRequest request, String importKey) {
+        return completedInserts(importKey)
+                .flatMap(completed -> existingVideoIds(accessToken, request.playlistId())
+                        .flatMap(existing -> importVideos(
+                                accessToken,
                                 request.playlistId(),
-                                request.videoIds()
+                                InsertPlan.of(request.videoIds(), existing, completed),
+                                importKey
                         )));
     }
+
+    private Result<String, Error> channelId(String accessToken) {
+        return playlistCache.findOwner(accessToken)
+                .map(Result::<String, Error>success)
+                .orElseGet(() -> quotaService.reserveQuota(QuotaService.CHANNELS_LIST_COST)
+                        .flatMap(reservation -> settle(reservation, youtubePlaylistPort.getChannelId(accessToken)))
+                        .andThen(channelId -> {
+                            playlistCache.storeOwner(accessToken, channelId);
+                            return Result.successVoid();
+                        }));
+    }
+
+    private Result<BulkInsertReport, Error> importVideos(String accessToken, String playlistId, InsertPlan plan, String importKey) {
+        if (plan.resumedCount() > 0) {
+            log.info("Resuming import {} after {} checkpointed inserts", importKey, plan.resumedCount());
+        }
+        if (plan.skippedCount() > 0) {
+            log.info("Skipping {} duplicate or already present videos", plan.skippedCount());
+        }
+        if (plan.toInsert().isEmpty()) {
+            return Result.success(plan.report(playlistId, List.of()));
+        }
+        return insertVideos(accessToken, playlistId, plan.toInsert(), checkpointer(importKey))
+                .map(report -> plan.report(playlistId, report.outcomes()));
+    }
+
+    private Result<Map<String, InsertOutcome>, Error> completedInserts(String importKey) {
+        return importKey != null ? checkpointRepository.findCompleted(importKey) : Result.success(Map.of());
+    }
+
+    private Consumer<InsertOutcome> checkpointer(String importKey) {
+        return importKey != null ? outcome -> checkpointRepository.recordInserted(importKey, outcome) : _ -> {};
+    }
+
+    private Result<Set<String>, Error> existingVideoIds(String accessToken, String playlistId) {
+        return contentsCache.find(playlistId)
+                .map(Result::<Set<String>, Error>success)
+                .orElseGet(() -> fetchPlaylistVideoIds(accessToken, playlistId)
+                        .andThen(videoIds -> {
+                            contentsCache.store(playlistId, videoIds);
+                            return Result.successVoid();
+                        }));
+    }
+
+    private Result<Set<String>, Error> fetchPlaylistVideoIds(String accessToken, String playlistId) {
+        Set<String> videoIds = new HashSet<>();
+        String pageToken = null;
+
+        do {
+            switch (fetchFullPage(accessToken, playlistId, pageToken)) {
+                case Result.Success<PageResult<YouTubeVideo>, Error>(var page) -> {
+                    page.items().forEach(video -> videoIds.add(video.id().youtubeId()));
+                    pageToken = page.hasNextPage() ? page.nextPageToken() : null;
+                }
+                case Result.Failure<PageResult<YouTubeVideo>, Error>(var error) -> {
+                    return Result.failure(error);
+                }
+            }
+        } while (pageToken != null);
+
+        log.info("Loaded {} existing videos of playlist {}", videoIds.size(), playlistId);
+        return Result.success(videoIds);
+    }
+
+    private Result<BulkInsertReport, Error> insertVideos(
+            String accessToken,
+            String playlistId,
+            List<String> videoIds,
+            Consumer<InsertOutcome> onInserted
+    ) {
+        int insertCost = videoIds.size() * QuotaService.PLAYLIST_ITEMS_INSERT_COST;
+
+        return quotaService.reserveQuota(QuotaService.PLAYLISTS_LIST_COST + insertCost)
+                .flatMap(reservation -> settleInserts(reservation, youtubePlaylistPort.addVideosToPlaylist(
+                        accessToken,
+                        playlistId,
+                        videoIds,
+                        onInserted
+                )))
+                .andThen(report -> {
+                    if (report.insertedCount() > 0) {
+                        playlistCache.invalidate(accessToken);
+                        contentsCache.addAll(playlistId, report.outcomes().stream()
+                                .filter(InsertOutcome::isInserted)
+                                .map(InsertOutcome::videoId)
+                                .toList());
+                    }
+                    return Result.successVoid();
+                });
+    }
+
+    private Result<BulkInsertReport, Error> settleInserts(QuotaReservation reservation, Result<BulkInsertReport, Error> outcome) {
+        int unsentInserts = outcome.fold(
+                report -> (int) report.outcomes().stream()
+                        .filter(insert -> insert.isFailed() && QuotaRefundPolicy.isRefundable(insert.error()))
+                        .count(),
+                _ -> (reservation.units() - QuotaService.PLAYLISTS_LIST_COST) / QuotaService.PLAYLIST_ITEMS_INSERT_COST
+        );
+
+        QuotaReservation inserts = reservation.portion(unsentInserts * QuotaService.PLAYLIST_ITEMS_INSERT_COST);
+        quotaService.releaseQuota(inserts);
+        settle(reservation.remainderAfter(inserts.units()), outcome);
+        return outcome;
+    }
+
+    private <T> Result<T, Error> settle(QuotaReservation reservation, Result<T, Error> outcome) {
+        if (outcome instanceof Result.Failure<T, Error>(var error) && QuotaRefundPolicy.isRefundable(error)) {
+            quotaService.releaseQuota(reservation);
+        }
+        return outcome;
+    }
 }
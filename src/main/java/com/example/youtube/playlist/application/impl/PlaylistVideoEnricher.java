@@ -0,0 +1,83 @@
+package com.example.youtube.playlist.application.impl;
+
+import com.example.youtube.common.result.Error;
+import com.example.youtube.common.result.Result;
+import com.example.youtube.playlist.domain.entity.VideoDetails;
+import com.example.youtube.playlist.domain.entity.YouTubeVideo;
+import com.example.youtube.playlist.domain.repository.VideoDetailsCache;
+import com.example.youtube.playlist.domain.service.YouTubePlaylistPort;
+import com.example.youtube.quota.domain.entity.QuotaReservation;
+import com.example.youtube.quota.domain.service.QuotaRefundPolicy;
+import com.example.youtube.quota.domain.service.QuotaService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Component
+public class PlaylistVideoEnricher {
+
+    private static final Logger log = LoggerFactory.getLogger(PlaylistVideoEnricher.class);
+    private static final int MAX_IDS_PER_CALL = 50;
+
+    private final YouTubePlaylistPort youtubePlaylistPort;
+    private final QuotaService quotaService;
+    private final VideoDetailsCache videoDetailsCache;
+
+    public PlaylistVideoEnricher(
+            YouTubePlaylistPort youtubePlaylistPort,
+            QuotaService quotaService,
+            VideoDetailsCache videoDetailsCache
+    ) {
+        this.youtubePlaylistPort = youtubePlaylistPort;
+        this.quotaService = quotaService;
+        this.videoDetailsCache = videoDetailsCache;
+    }
+
+    public List<YouTubeVideo> enrich(String accessToken, List<YouTubeVideo> videos) {
+        if (videos.isEmpty()) {
+            return videos;
+        }
+
+        List<String> videoIds = videos.stream().map(video -> video.id().youtubeId()).distinct().toList();
+        Map<String, VideoDetails> details = new HashMap<>(videoDetailsCache.findAll(videoIds));
+        List<String> missing = videoIds.stream().filter(id -> !details.containsKey(id)).toList();
+
+        for (int from = 0; from < missing.size(); from += MAX_IDS_PER_CALL) {
+            List<String> batch = missing.subList(from, Math.min(from + MAX_IDS_PER_CALL, missing.size()));
+            fetchDetails(accessToken, batch).fold(
+                    fetched -> {
+                        videoDetailsCache.storeAll(fetched);
+                        fetched.forEach(detail -> details.put(detail.videoId(), detail));
+                        return null;
+                    },
+                    error -> {
+                        log.warn("Skipping enrichment for {} videos: {}", batch.size(), error.message());
+                        return null;
+                    }
+            );
+        }
+
+        return videos.stream()
+                .map(video -> {
+                    VideoDetails detail = details.get(video.id().youtubeId());
+                    return detail != null ? video.withDurationSeconds(detail.durationSeconds()) : video;
+                })
+                .toList();
+    }
+
+    private Result<List<VideoDetails>, Error> fetchDetails(String accessToken, List<String> videoIds) {
+        return quotaService.reserveQuota(QuotaService.VIDEOS_LIST_COST)
+                .flatMap(reservation -> settle(reservation, youtubePlaylistPort.getVideoDetails(accessToken, videoIds)));
+    }
+
+    private <T> Result<T, Error> settle(QuotaReservation reservation, Result<T, Error> outcome) {
+        if (outcome instanceof Result.Failure<T, Error>(var error) && QuotaRefundPolicy.isRefundable(error)) {
+            quotaService.releaseQuota(reservation);
+        }
+        return outcome;
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.youtube.playlist.application.impl;
+
+import com.example.youtube.common.result.Error;
+import com.example.youtube.common.result.Result;
+import com.example.youtube.playlist.application.PlaylistUseCase;
+import com.example.youtube.playlist.domain.entity.PageResult;
+import com.example.youtube.playlist.domain.entity.YouTubeVideo;
+
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+final class PlaylistVideoStream implements PlaylistUseCase.VideoStream {
+
+    private final PageResult<YouTubeVideo> firstPage;
+    private final Function<String, Result<PageResult<YouTubeVideo>, Error>> pageFetcher;
+    private final UnaryOperator<List<YouTubeVideo>> pageEnricher;
+
+    PlaylistVideoStream(
+            PageResult<YouTubeVideo> firstPage,
+            Function<String, Result<PageResult<YouTubeVideo>, Error>> pageFetcher,
+            UnaryOperator<List<YouTubeVideo>> pageEnricher
+    ) {
+        this.firstPage = firstPage;
+        this.pageFetcher = pageFetcher;
+        this.pageEnricher = pageEnricher;
+    }
+
+    @Override
+    public Result<Void, Error> forEachPage(Consumer<List<YouTubeVideo>> pageConsumer) {
+        PageResult<YouTubeVideo> page = firstPage;
+
+        try (ExecutorService prefetcher = Executors.newVirtualThreadPerTaskExecutor()) {
+            while (true) {
+                String nextPageToken = page.nextPageToken();
+                Future<Result<PageResult<YouTubeVideo>, Error>> nextPage = page.hasNextPage()
+                        ? prefetcher.submit(() -> pageFetcher.apply(nextPageToken))
+                        : null;
+
+                try {
+                    pageConsumer.accept(pageEnricher.apply(page.items()));
+                } catch (RuntimeException e) {
+                    if (nextPage != null) {
+                        nextPage.cancel(true);
+                    }
+                    throw e;
+                }
+
+                if (nextPage == null) {
+                    return Result.successVoid();
+                }
+
+                switch (await(nextPage)) {
+                    case Result.Success<PageResult<YouTubeVideo>, Error>(var fetched) -> page = fetched;
+                    case Result.Failure<PageResult<YouTubeVideo>, Error>(var error) -> {
+                        return Result.failure(error);
+                    }
+                }
+            }
+        }
+    }
+
+    private Result<PageResult<YouTubeVideo>, Error> await(Future<Result<PageResult<YouTubeVideo>, Error>> nextPage) {
+        try {
+            return nextPage.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Result.failure(Error.externalServiceError("YouTube", "Playlist stream interrupted", e));
+        } catch (ExecutionException e) {
+            return Result.failure(Error.externalServiceError("YouTube", "Failed to fetch playlist page", e.getCause()));
+        }
+    }
+}
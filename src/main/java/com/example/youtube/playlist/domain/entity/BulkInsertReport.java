@@ -0,0 +1,48 @@
+package com.example.youtube.playlist.domain.entity;
+
+import java.util.List;
+import java.util.Objects;
+
+public record BulkInsertReport(
+        String playlistId,
+        List<InsertOutcome> outcomes
+) {
+    public BulkInsertReport {
+        Objects.requireNonNull(playlistId, "Playlist ID cannot be null");
+        outcomes = List.copyOf(Objects.requireNonNull(outcomes, "Outcomes cannot be null"));
+    }
+
+    public static BulkInsertReport of(String playlistId, List<InsertOutcome> outcomes) {
+        return new BulkInsertReport(playlistId, outcomes);
+    }
+
+    public long insertedCount() {
+        return outcomes.stream().filter(InsertOutcome::isInserted).count();
+    }
+
+    public long failedCount() {
+        return outcomes.stream().filter(InsertOutcome::isFailed).count();
+    }
+
+    public long skippedCount() {
+        return outcomes.stream().filter(InsertOutcome::isSkipped).count();
+    }
+
+    public List<String> skippedVideoIds() {
+        return outcomes.stream()
+                .filter(InsertOutcome::isSkipped)
+                .map(InsertOutcome::videoId)
+                .toList();
+    }
+
+    public List<String> failedVideoIds() {
+        return outcomes.stream()
+                .filter(InsertOutcome::isFailed)
+                .map(InsertOutcome::videoId)
+                .toList();
+    }
+
+    public boolean isComplete() {
+        return outcomes.stream().noneMatch(InsertOutcome::isFailed);
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.youtube.playlist.domain.entity;
+
+import com.example.youtube.common.result.Error;
+
+import java.util.Objects;
+
+public record InsertOutcome(
+        String videoId,
+        long position,
+        Status status,
+        String playlistItemId,
+        Error error
+) {
+    public enum Status {
+        INSERTED,
+        FAILED,
+        DUPLICATE,
+        ALREADY_PRESENT
+    }
+
+    public static final long NO_POSITION = -1L;
+
+    public InsertOutcome {
+        Objects.requireNonNull(videoId, "Video ID cannot be null");
+        Objects.requireNonNull(status, "Status cannot be null");
+        if (status == Status.FAILED) {
+            Objects.requireNonNull(error, "Failed outcome requires an error");
+        }
+    }
+
+    public static InsertOutcome inserted(String videoId, long position, String playlistItemId) {
+        return new InsertOutcome(videoId, position, Status.INSERTED, playlistItemId, null);
+    }
+
+    public static InsertOutcome failed(String videoId, long position, Error error) {
+        return new InsertOutcome(videoId, position, Status.FAILED, null, error);
+    }
+
+    public static InsertOutcome duplicate(String videoId) {
+        return new InsertOutcome(videoId, NO_POSITION, Status.DUPLICATE, null, null);
+    }
+
+    public static InsertOutcome alreadyPresent(String videoId) {
+        return new InsertOutcome(videoId, NO_POSITION, Status.ALREADY_PRESENT, null, null);
+    }
+
+    public boolean isInserted() {
+        return status == Status.INSERTED;
+    }
+
+    public boolean isFailed() {
+        return status == Status.FAILED;
+    }
+
+    public boolean isSkipped() {
+        return status == Status.DUPLICATE || status == Status.ALREADY_PRESENT;
+    }
+}
@@ -0,0 +1,3 @@
+package com.example.youtube.playlist.domain.entity;
+
+public record VideoDetails(String videoId, int durationSeconds) {}
@@ -2,6 +2,7 @@ package com.example.youtube.playlist.domain.entity;
 
 import com.example.youtube.common.result.Error;
 import com.example.youtube.common.result.Result;
+import com.example.youtube.common.text.MusicVideoClassifier;
 
 import java.time.Instant;
 import java.util.Objects;
@@ -96,13 +97,14 @@ public final class YouTubeVideo {
         return publishedAt;
     }
 
-    public boolean isMusicVideo() {
-        String lowerTitle = title.toLowerCase();
-        String lowerDesc = description.toLowerCase();
-        return !lowerTitle.contains("cover") &&
-               !lowerTitle.contains("live") &&
-               !lowerTitle.contains("karaoke") &&
-               !lowerTitle.contains("instrumental") &&
-               !lowerDesc.contains("cover version");
+    public YouTubeVideo withDurationSeconds(int durationSeconds) {
+        if (durationSeconds < 0 || durationSeconds == this.durationSeconds) {
+            return this;
+        }
+        return new YouTubeVideo(id, title, channelTitle, description, durationSeconds, thumbnailUrl, publishedAt);
+    }
+
+    public boolean isMusicVideo(MusicVideoClassifier classifier) {
+        return classifier.isMusicVideo(title, description);
     }
 }
@@ -0,0 +1,18 @@
+package com.example.youtube.playlist.domain.repository;
+
+import com.example.youtube.common.result.Error;
+import com.example.youtube.common.result.Result;
+import com.example.youtube.playlist.domain.entity.InsertOutcome;
+
+import java.util.Map;
+
+public interface ImportCheckpointRepository {
+
+    Result<Boolean, Error> claim(String importKey, String claimToken);
+
+    void release(String importKey, String claimToken);
+
+    Result<Map<String, InsertOutcome>, Error> findCompleted(String importKey);
+
+    void recordInserted(String importKey, InsertOutcome outcome);
+}
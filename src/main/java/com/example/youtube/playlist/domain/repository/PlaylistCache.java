@@ -0,0 +1,21 @@
+package com.example.youtube.playlist.domain.repository;
+
+import com.example.youtube.playlist.domain.entity.YouTubePlaylist;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface PlaylistCache {
+
+    Optional<List<YouTubePlaylist>> find(String accessToken);
+
+    void store(String accessToken, List<YouTubePlaylist> playlists);
+
+    void add(String accessToken, YouTubePlaylist playlist);
+
+    void invalidate(String accessToken);
+
+    Optional<String> findOwner(String accessToken);
+
+    void storeOwner(String accessToken, String channelId);
+}
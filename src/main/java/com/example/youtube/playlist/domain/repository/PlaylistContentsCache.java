@@ -0,0 +1,16 @@
+package com.example.youtube.playlist.domain.repository;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.Set;
+
+public interface PlaylistContentsCache {
+
+    Optional<Set<String>> find(String playlistId);
+
+    void store(String playlistId, Set<String> videoIds);
+
+    void addAll(String playlistId, Collection<String> videoIds);
+
+    void invalidate(String playlistId);
+}
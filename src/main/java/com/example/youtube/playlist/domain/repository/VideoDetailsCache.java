@@ -0,0 +1,13 @@
+package com.example.youtube.playlist.domain.repository;
+
+import com.example.youtube.playlist.domain.entity.VideoDetails;
+
+import java.util.Collection;
+import java.util.Map;
+
+public interface VideoDetailsCache {
+
+    Map<String, VideoDetails> findAll(Collection<String> videoIds);
+
+    void storeAll(Collection<VideoDetails> details);
+}
@@ -2,15 +2,21 @@ package com.example.youtube.playlist.domain.service;
 
 import com.example.youtube.common.result.Error;
 import com.example.youtube.common.result.Result;
+import com.example.youtube.playlist.domain.entity.BulkInsertReport;
+import com.example.youtube.playlist.domain.entity.InsertOutcome;
 import com.example.youtube.playlist.domain.entity.PageResult;
+import com.example.youtube.playlist.domain.entity.VideoDetails;
 import com.example.youtube.playlist.domain.entity.YouTubePlaylist;
 import com.example.youtube.playlist.domain.entity.YouTubeVideo;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface YouTubePlaylistPort {
 
-    Result<List<YouTubePlaylist>, Error> getUserPlaylists(String accessToken);
+    Result<String, Error> getChannelId(String accessToken);
+
+    Result<PageResult<YouTubePlaylist>, Error> getUserPlaylists(String accessToken, String pageToken);
 
     Result<PageResult<YouTubeVideo>, Error> getPlaylistVideos(
             String accessToken,
@@ -19,15 +25,18 @@ public interface YouTubePlaylistPort {
             String pageToken
     );
 
+    Result<List<VideoDetails>, Error> getVideoDetails(String accessToken, List<String> videoIds);
+
     Result<YouTubePlaylist, Error> createPlaylist(
             String accessToken,
             String title,
             String description
     );
 
-    Result<Void, Error> addVideosToPlaylist(
+    Result<BulkInsertReport, Error> addVideosToPlaylist(
             String accessToken,
             String playlistId,
-            List<String> videoIds
+            List<String> videoIds,
+            Consumer<InsertOutcome> onInserted
     );
 }
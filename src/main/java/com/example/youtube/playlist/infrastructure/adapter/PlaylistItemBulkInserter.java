@@ -0,0 +1,104 @@
+package com.example.youtube.playlist.infrastructure.adapter;
+
+import com.example.youtube.common.result.Error;
+import com.example.youtube.playlist.domain.entity.InsertOutcome;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+@Component
+public class PlaylistItemBulkInserter {
+
+    private static final Logger log = LoggerFactory.getLogger(PlaylistItemBulkInserter.class);
+
+    @FunctionalInterface
+    public interface ItemCount {
+        long fetch() throws IOException;
+    }
+
+    @FunctionalInterface
+    public interface ItemInsert {
+        String insert(String videoId) throws Exception;
+    }
+
+    private static final class PlaylistLock {
+        private final ReentrantLock lock = new ReentrantLock();
+        private int holders;
+    }
+
+    private final ConcurrentMap<String, PlaylistLock> playlistLocks = new ConcurrentHashMap<>();
+
+    public List<InsertOutcome> insertAll(
+            String playlistId,
+            ItemCount itemCount,
+            List<String> videoIds,
+            ItemInsert itemInsert,
+            Function<Exception, Error> errorMapper
+    ) throws IOException {
+        return insertAll(playlistId, itemCount, videoIds, itemInsert, errorMapper, _ -> {});
+    }
+
+    public List<InsertOutcome> insertAll(
+            String playlistId,
+            ItemCount itemCount,
+            List<String> videoIds,
+            ItemInsert itemInsert,
+            Function<Exception, Error> errorMapper,
+            Consumer<InsertOutcome> onInserted
+    ) throws IOException {
+        PlaylistLock playlistLock = acquire(playlistId);
+        try {
+            long nextPosition = itemCount.fetch();
+            List<InsertOutcome> outcomes = new ArrayList<>(videoIds.size());
+
+            for (String videoId : videoIds) {
+                if (Thread.currentThread().isInterrupted()) {
+                    outcomes.add(InsertOutcome.failed(videoId, InsertOutcome.NO_POSITION,
+                            Error.externalServiceError("YouTube", "Insert interrupted before dispatch", null)));
+                    continue;
+                }
+
+                try {
+                    String playlistItemId = itemInsert.insert(videoId);
+                    InsertOutcome inserted = InsertOutcome.inserted(videoId, nextPosition++, playlistItemId);
+                    onInserted.accept(inserted);
+                    outcomes.add(inserted);
+                } catch (Exception e) {
+                    log.warn("Failed to insert video {} into playlist {}: {}", videoId, playlistId, e.getMessage());
+                    outcomes.add(InsertOutcome.failed(videoId, InsertOutcome.NO_POSITION, errorMapper.apply(e)));
+                }
+            }
+            return outcomes;
+        } finally {
+            release(playlistId, playlistLock);
+        }
+    }
+
+    int lockedPlaylists() {
+        return playlistLocks.size();
+    }
+
+    private PlaylistLock acquire(String playlistId) {
+        PlaylistLock playlistLock = playlistLocks.compute(playlistId, (_, existing) -> {
+            PlaylistLock held = existing != null ? existing : new PlaylistLock();
+            held.holders++;
+            return held;
+        });
+        playlistLock.lock.lock();
+        return playlistLock;
+    }
+
+    private void release(String playlistId, PlaylistLock playlistLock) {
+        playlistLock.lock.unlock();
+        playlistLocks.computeIfPresent(playlistId, (_, held) -> --held.holders == 0 ? null : held);
+    }
+}
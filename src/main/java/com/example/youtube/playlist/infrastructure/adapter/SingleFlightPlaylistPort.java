@@ -0,0 +1,189 @@
+package com.example.youtube.playlist.infrastructure.adapter;
+
+import com.example.youtube.common.cache.SingleFlight;
+import com.example.youtube.common.cache.SingleFlights;
+import com.example.youtube.common.result.Error;
+import com.example.youtube.common.result.Result;
+import com.example.youtube.playlist.domain.entity.BulkInsertReport;
+import com.example.youtube.playlist.domain.entity.InsertOutcome;
+import com.example.youtube.playlist.domain.entity.PageResult;
+import com.example.youtube.playlist.domain.entity.VideoDetails;
+import com.example.youtube.playlist.domain.entity.YouTubePlaylist;
+import com.example.youtube.playlist.domain.entity.YouTubeVideo;
+import com.example.youtube.playlist.domain.service.YouTubePlaylistPort;
+import com.example.youtube.quota.domain.entity.QuotaReservation;
+import com.example.youtube.quota.domain.service.QuotaRefundPolicy;
+import com.example.youtube.quota.domain.service.QuotaService;
+import com.fasterxml.jackson.core.type.TypeReference;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+@Component
+@Primary
+@ConditionalOnProperty(name = "youtube.singleflight.enabled", havingValue = "true", matchIfMissing = true)
+public class SingleFlightPlaylistPort implements YouTubePlaylistPort {
+
+    private final YouTubePlaylistAdapter delegate;
+    private final QuotaService quotaService;
+    private final SingleFlight<PageResult<YouTubePlaylist>, PageResult<SharedPlaylist>> playlistPages;
+    private final SingleFlight<PageResult<YouTubeVideo>, PageResult<SharedVideo>> videoPages;
+    private final SingleFlight<List<VideoDetails>, List<VideoDetails>> videoDetails;
+
+    public SingleFlightPlaylistPort(YouTubePlaylistAdapter delegate, QuotaService quotaService, SingleFlights singleFlights) {
+        this.delegate = delegate;
+        this.quotaService = quotaService;
+        this.playlistPages = singleFlights.forOperation(
+                "playlists.list",
+                new TypeReference<>() {},
+                page -> mapItems(page, SharedPlaylist::fromDomain),
+                page -> mapItems(page, SharedPlaylist::toDomain)
+        );
+        this.videoPages = singleFlights.forOperation(
+                "playlistItems.list",
+                new TypeReference<>() {},
+                page -> mapItems(page, SharedVideo::fromDomain),
+                page -> mapItems(page, SharedVideo::toDomain)
+        );
+        this.videoDetails = singleFlights.forOperation(
+                "videos.list",
+                new TypeReference<>() {},
+                Function.identity(),
+                Function.identity()
+        );
+    }
+
+    @Override
+    public Result<String, Error> getChannelId(String accessToken) {
+        return delegate.getChannelId(accessToken);
+    }
+
+    @Override
+    public Result<PageResult<YouTubePlaylist>, Error> getUserPlaylists(String accessToken, String pageToken) {
+        return settle(
+                playlistPages.execute(
+                        SingleFlight.key(accessToken, pageToken),
+                        () -> delegate.getUserPlaylists(accessToken, pageToken)
+                ),
+                QuotaService.PLAYLISTS_LIST_COST
+        );
+    }
+
+    @Override
+    public Result<PageResult<YouTubeVideo>, Error> getPlaylistVideos(
+            String accessToken,
+            String playlistId,
+            int maxResults,
+            String pageToken
+    ) {
+        return settle(
+                videoPages.execute(
+                        SingleFlight.key(accessToken, playlistId, maxResults, pageToken),
+                        () -> delegate.getPlaylistVideos(accessToken, playlistId, maxResults, pageToken)
+                ),
+                QuotaService.PLAYLIST_ITEMS_LIST_COST
+        );
+    }
+
+    @Override
+    public Result<List<VideoDetails>, Error> getVideoDetails(String accessToken, List<String> videoIds) {
+        return settle(
+                videoDetails.execute(
+                        SingleFlight.key(accessToken, String.join(",", videoIds)),
+                        () -> delegate.getVideoDetails(accessToken, videoIds)
+                ),
+                QuotaService.VIDEOS_LIST_COST
+        );
+    }
+
+    @Override
+    public Result<YouTubePlaylist, Error> createPlaylist(String accessToken, String title, String description) {
+        return delegate.createPlaylist(accessToken, title, description);
+    }
+
+    @Override
+    public Result<BulkInsertReport, Error> addVideosToPlaylist(
+            String accessToken,
+            String playlistId,
+            List<String> videoIds,
+            Consumer<InsertOutcome> onInserted
+    ) {
+        return delegate.addVideosToPlaylist(accessToken, playlistId, videoIds, onInserted);
+    }
+
+    private <T> Result<T, Error> settle(SingleFlight.Flight<T> flight, int cost) {
+        boolean refundedByCaller = flight.result() instanceof Result.Failure<T, Error>(var error)
+                && QuotaRefundPolicy.isRefundable(error);
+        if (flight.shared() && !refundedByCaller) {
+            quotaService.releaseQuota(new QuotaReservation(cost));
+        }
+        return flight.result();
+    }
+
+    private static <A, B> PageResult<B> mapItems(PageResult<A> page, Function<A, B> mapper) {
+        List<B> items = page.items().stream().map(mapper).filter(Objects::nonNull).toList();
+        return PageResult.of(items, page.nextPageToken(), page.totalResults());
+    }
+
+    record SharedPlaylist(
+            String id,
+            String title,
+            String description,
+            String channelId,
+            String channelTitle,
+            int itemCount,
+            String thumbnailUrl,
+            Instant publishedAt
+    ) {
+        static SharedPlaylist fromDomain(YouTubePlaylist playlist) {
+            return new SharedPlaylist(
+                    playlist.id().youtubeId(),
+                    playlist.title(),
+                    playlist.description(),
+                    playlist.channelId(),
+                    playlist.channelTitle(),
+                    playlist.itemCount(),
+                    playlist.thumbnailUrl(),
+                    playlist.publishedAt()
+            );
+        }
+
+        YouTubePlaylist toDomain() {
+            return YouTubePlaylist.create(id, title, description, channelId, channelTitle, itemCount, thumbnailUrl, publishedAt)
+                    .getOrElse(null);
+        }
+    }
+
+    record SharedVideo(
+            String id,
+            String title,
+            String channelTitle,
+            String description,
+            int durationSeconds,
+            String thumbnailUrl,
+            Instant publishedAt
+    ) {
+        static SharedVideo fromDomain(YouTubeVideo video) {
+            return new SharedVideo(
+                    video.id().youtubeId(),
+                    video.title(),
+                    video.channelTitle(),
+                    video.description(),
+                    video.durationSeconds(),
+                    video.thumbnailUrl(),
+                    video.publishedAt()
+            );
+        }
+
+        YouTubeVideo toDomain() {
+            return YouTubeVideo.create(id, title, channelTitle, description, durationSeconds, thumbnailUrl, publishedAt)
+                    .getOrElse(null);
+        }
+    }
+}
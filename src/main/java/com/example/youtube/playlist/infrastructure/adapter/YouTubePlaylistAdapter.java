@@ -2,53 +2,104 @@ package com.example.youtube.playlist.infrastructure.adapter;
 
 import com.example.youtube.common.result.Error;
 import com.example.youtube.common.result.Result;
+import com.example.youtube.common.youtube.YouTubeErrors;
+import com.example.youtube.common.youtube.YouTubeListResponseReader;
+import com.example.youtube.common.youtube.YouTubeProjection;
+import com.example.youtube.common.youtube.YouTubeRequestExecutor;
+import com.example.youtube.playlist.domain.entity.BulkInsertReport;
+import com.example.youtube.playlist.domain.entity.InsertOutcome;
 import com.example.youtube.playlist.domain.entity.PageResult;
+import com.example.youtube.playlist.domain.entity.VideoDetails;
 import com.example.youtube.playlist.domain.entity.YouTubePlaylist;
 import com.example.youtube.playlist.domain.entity.YouTubeVideo;
 import com.example.youtube.playlist.domain.service.YouTubePlaylistPort;
+import com.example.youtube.playlist.infrastructure.repository.ETagPageCache;
 import com.google.api.client.googleapis.json.GoogleJsonResponseException;
-import com.google.api.client.http.HttpRequestInitializer;
-import com.google.api.client.http.javanet.NetHttpTransport;
-import com.google.api.client.json.JsonFactory;
 import com.google.api.services.youtube.YouTube;
+import com.google.api.services.youtube.model.ChannelListResponse;
 import com.google.api.services.youtube.model.Playlist;
 import com.google.api.services.youtube.model.PlaylistItem;
 import com.google.api.services.youtube.model.PlaylistItemSnippet;
 import com.google.api.services.youtube.model.PlaylistSnippet;
 import com.google.api.services.youtube.model.PlaylistStatus;
 import com.google.api.services.youtube.model.ResourceId;
+import com.google.api.services.youtube.model.Video;
+import com.google.api.services.youtube.model.VideoListResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.time.Instant;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 @Component
 public class YouTubePlaylistAdapter implements YouTubePlaylistPort {
 
     private static final Logger log = LoggerFactory.getLogger(YouTubePlaylistAdapter.class);
+    private static final int MAX_IDS_PER_VIDEOS_LIST = 50;
+
+    private final YouTube youtube;
+    private final YouTubeRequestExecutor requestExecutor;
+    private final PlaylistItemBulkInserter bulkInserter;
+    private final ETagPageCache etagPageCache;
+    private final YouTubeListResponseReader responseReader;
+
+    public YouTubePlaylistAdapter(
+            YouTube youtube,
+            YouTubeRequestExecutor requestExecutor,
+            PlaylistItemBulkInserter bulkInserter,
+            ETagPageCache etagPageCache,
+            YouTubeListResponseReader responseReader
+    ) {
+        this.youtube = youtube;
+        this.requestExecutor = requestExecutor;
+        this.bulkInserter = bulkInserter;
+        this.etagPageCache = etagPageCache;
+        this.responseReader = responseReader;
+    }
 
-    private final NetHttpTransport httpTransport;
-    private final JsonFactory jsonFactory;
+    @Override
+    public Result<String, Error> getChannelId(String accessToken) {
+        try {
+            var request = YouTubeProjection.MY_CHANNEL.applyTo(youtube.channels()
+                    .list(YouTubeProjection.MY_CHANNEL.parts())
+                    .setMine(true));
 
-    public YouTubePlaylistAdapter(NetHttpTransport httpTransport, JsonFactory jsonFactory) {
-        this.httpTransport = httpTransport;
-        this.jsonFactory = jsonFactory;
+            ChannelListResponse response = requestExecutor.execute(request, accessToken);
+            if (response.getItems() == null || response.getItems().isEmpty()) {
+                return Result.failure(Error.resourceNotFoundError("Channel", "mine"));
+            }
+            return Result.success(response.getItems().getFirst().getId());
+        } catch (GoogleJsonResponseException e) {
+            return handleGoogleError(e, "fetch channel");
+        } catch (IOException e) {
+            log.error("Failed to fetch channel", e);
+            return Result.failure(transportError("Failed to fetch channel", e));
+        }
     }
 
     @Override
-    public Result<List<YouTubePlaylist>, Error> getUserPlaylists(String accessToken) {
+    public Result<PageResult<YouTubePlaylist>, Error> getUserPlaylists(String accessToken, String pageToken) {
+        Optional<ETagPageCache.CachedPage<YouTubePlaylist>> cached = etagPageCache.findPlaylistPage(accessToken, pageToken);
         try {
-            YouTube youtube = buildAuthenticatedClient(accessToken);
-
-            var response = youtube.playlists()
-                    .list(List.of("snippet", "contentDetails"))
+            var request = YouTubeProjection.USER_PLAYLISTS.applyTo(youtube.playlists()
+                    .list(YouTubeProjection.USER_PLAYLISTS.parts())
                     .setMine(true)
-                    .setMaxResults(50L)
-                    .execute();
+                    .setMaxResults(50L));
+
+            if (pageToken != null && !pageToken.isBlank()) {
+                request.setPageToken(pageToken);
+            }
+            cached.ifPresent(page -> request.getRequestHeaders().setIfNoneMatch(page.etag()));
+
+            var response = requestExecutor.execute(request, accessToken);
+            etagPageCache.recordResponse("playlists", false);
 
             List<YouTubePlaylist> playlists = new ArrayList<>();
             if (response.getItems() != null) {
@@ -71,12 +122,19 @@ public class YouTubePlaylistAdapter implements YouTubePlaylistPort {
                 }
             }
 
-            return Result.success(playlists);
+            int total = response.getPageInfo() != null ? response.getPageInfo().getTotalResults() : playlists.size();
+            var page = PageResult.of(playlists, response.getNextPageToken(), total);
+            etagPageCache.storePlaylistPage(accessToken, pageToken, response.getEtag(), page);
+            return Result.success(page);
         } catch (GoogleJsonResponseException e) {
+            if (isNotModified(e) && cached.isPresent()) {
+                etagPageCache.recordResponse("playlists", true);
+                return Result.success(cached.get().page());
+            }
             return handleGoogleError(e, "fetch playlists");
         } catch (IOException e) {
             log.error("Failed to fetch user playlists", e);
-            return Result.failure(Error.externalServiceError("YouTube", "Failed to fetch playlists", e));
+            return Result.failure(transportError("Failed to fetch playlists", e));
         }
     }
 
@@ -87,56 +145,93 @@ public class YouTubePlaylistAdapter implements YouTubePlaylistPort {
             int maxResults,
             String pageToken
     ) {
+        Optional<ETagPageCache.CachedPage<YouTubeVideo>> cached =
+                etagPageCache.findVideoPage(accessToken, playlistId, maxResults, pageToken);
         try {
-            YouTube youtube = buildAuthenticatedClient(accessToken);
-
-            var request = youtube.playlistItems()
-                    .list(List.of("snippet", "contentDetails"))
+            var request = YouTubeProjection.PLAYLIST_VIDEOS.applyTo(youtube.playlistItems()
+                    .list(YouTubeProjection.PLAYLIST_VIDEOS.parts())
                     .setPlaylistId(playlistId)
-                    .setMaxResults((long) Math.min(maxResults, 50));
+                    .setMaxResults((long) Math.min(maxResults, 50)));
 
             if (pageToken != null && !pageToken.isBlank()) {
                 request.setPageToken(pageToken);
             }
-
-            var response = request.execute();
-
-            List<YouTubeVideo> videos = new ArrayList<>();
-            if (response.getItems() != null) {
-                for (PlaylistItem item : response.getItems()) {
-                    var snippet = item.getSnippet();
-                    YouTubeVideo.create(
-                            snippet.getResourceId().getVideoId(),
-                            snippet.getTitle(),
-                            snippet.getChannelTitle(),
-                            snippet.getDescription(),
-                            0,
-                            extractThumbnailUrl(snippet),
-                            parseDateTime(snippet.getPublishedAt())
-                    ).fold(videos::add,
-                            error -> {
-                                log.warn("Skipping invalid video: {}", error);
-                                return null;
-                            }
-                    );
-                }
+            cached.ifPresent(page -> request.getRequestHeaders().setIfNoneMatch(page.etag()));
+
+            var response = requestExecutor.executeStreaming(request, accessToken, responseReader::read);
+            etagPageCache.recordResponse("playlist_items", false);
+
+            List<YouTubeVideo> videos = new ArrayList<>(response.items().size());
+            for (var item : response.items()) {
+                YouTubeVideo.create(
+                        item.videoId(),
+                        item.title(),
+                        item.channelTitle(),
+                        item.description(),
+                        0,
+                        item.thumbnailUrl(),
+                        item.publishedAt()
+                ).fold(videos::add,
+                        error -> {
+                            log.warn("Skipping invalid video: {}", error);
+                            return null;
+                        }
+                );
             }
 
-            int total = response.getPageInfo() != null ? response.getPageInfo().getTotalResults() : videos.size();
-            return Result.success(PageResult.of(videos, response.getNextPageToken(), total));
+            int total = response.totalResults() != null ? response.totalResults() : videos.size();
+            var page = PageResult.of(videos, response.nextPageToken(), total);
+            etagPageCache.storeVideoPage(accessToken, playlistId, maxResults, pageToken, response.etag(), page);
+            return Result.success(page);
         } catch (GoogleJsonResponseException e) {
+            if (isNotModified(e) && cached.isPresent()) {
+                etagPageCache.recordResponse("playlist_items", true);
+                return Result.success(cached.get().page());
+            }
             return handleGoogleError(e, "fetch playlist videos");
         } catch (IOException e) {
             log.error("Failed to fetch playlist videos", e);
-            return Result.failure(Error.externalServiceError("YouTube", "Failed to fetch playlist videos", e));
+            return Result.failure(transportError("Failed to fetch playlist videos", e));
         }
     }
 
     @Override
-    public Result<YouTubePlaylist, Error> createPlaylist(String accessToken, String title, String description) {
+    public Result<List<VideoDetails>, Error> getVideoDetails(String accessToken, List<String> videoIds) {
         try {
-            YouTube youtube = buildAuthenticatedClient(accessToken);
+            var response = requestExecutor.execute(videoDetailsRequest(videoIds), accessToken);
+
+            List<VideoDetails> details = new ArrayList<>();
+            collectVideoDetails(response, details);
+            return Result.success(details);
+        } catch (GoogleJsonResponseException e) {
+            return handleGoogleError(e, "fetch video details");
+        } catch (IOException e) {
+            log.error("Failed to fetch video details", e);
+            return Result.failure(transportError("Failed to fetch video details", e));
+        }
+    }
+
+    private YouTube.Videos.List videoDetailsRequest(List<String> videoIds) throws IOException {
+        return YouTubeProjection.VIDEO_DURATIONS.applyTo(youtube.videos()
+                .list(YouTubeProjection.VIDEO_DURATIONS.parts())
+                .setId(videoIds)
+                .setMaxResults((long) Math.min(videoIds.size(), MAX_IDS_PER_VIDEOS_LIST)));
+    }
+
+    private void collectVideoDetails(VideoListResponse response, List<VideoDetails> details) {
+        if (response.getItems() == null) {
+            return;
+        }
+        for (Video item : response.getItems()) {
+            if (item.getContentDetails() != null) {
+                details.add(new VideoDetails(item.getId(), parseDurationSeconds(item.getContentDetails().getDuration())));
+            }
+        }
+    }
 
+    @Override
+    public Result<YouTubePlaylist, Error> createPlaylist(String accessToken, String title, String description) {
+        try {
             Playlist playlist = new Playlist();
             PlaylistSnippet snippet = new PlaylistSnippet();
             snippet.setTitle(title);
@@ -147,9 +242,11 @@ public class YouTubePlaylistAdapter implements YouTubePlaylistPort {
             status.setPrivacyStatus("private");
             playlist.setStatus(status);
 
-            Playlist response = youtube.playlists()
-                    .insert(List.of("snippet", "status", "contentDetails"), playlist)
-                    .execute();
+            Playlist response = requestExecutor.execute(
+                    YouTubeProjection.CREATED_PLAYLIST.applyTo(
+                            youtube.playlists().insert(YouTubeProjection.CREATED_PLAYLIST.parts(), playlist)),
+                    accessToken
+            );
 
             return YouTubePlaylist.create(
                     response.getId(),
@@ -165,71 +262,108 @@ public class YouTubePlaylistAdapter implements YouTubePlaylistPort {
             return handleGoogleError(e, "create playlist");
         } catch (IOException e) {
             log.error("Failed to create playlist", e);
-            return Result.failure(Error.externalServiceError("YouTube", "Failed to create playlist", e));
+            return Result.failure(transportError("Failed to create playlist", e));
         }
     }
 
     @Override
-    public Result<Void, Error> addVideosToPlaylist(String accessToken, String playlistId, List<String> videoIds) {
+    public Result<BulkInsertReport, Error> addVideosToPlaylist(
+            String accessToken,
+            String playlistId,
+            List<String> videoIds,
+            Consumer<InsertOutcome> onInserted
+    ) {
         try {
-            YouTube youtube = buildAuthenticatedClient(accessToken);
-
-            for (String videoId : videoIds) {
-                PlaylistItem playlistItem = new PlaylistItem();
-                PlaylistItemSnippet snippet = new PlaylistItemSnippet();
-                snippet.setPlaylistId(playlistId);
-
-                ResourceId resourceId = new ResourceId();
-                resourceId.setKind("youtube#video");
-                resourceId.setVideoId(videoId);
-                snippet.setResourceId(resourceId);
-
-                playlistItem.setSnippet(snippet);
-
-                youtube.playlistItems()
-                        .insert(List.of("snippet"), playlistItem)
-                        .execute();
-            }
+            List<InsertOutcome> outcomes = bulkInserter.insertAll(
+                    playlistId,
+                    () -> fetchItemCount(accessToken, playlistId),
+                    videoIds,
+                    videoId -> insertPlaylistItem(accessToken, playlistId, videoId),
+                    e -> toError(e, "add video to playlist"),
+                    onInserted
+            );
 
-            return Result.successVoid();
+            var report = BulkInsertReport.of(playlistId, outcomes);
+            log.info("Inserted {}/{} videos into playlist {}", report.insertedCount(), videoIds.size(), playlistId);
+            return Result.success(report);
         } catch (GoogleJsonResponseException e) {
             return handleGoogleError(e, "add videos to playlist");
         } catch (IOException e) {
             log.error("Failed to add videos to playlist", e);
-            return Result.failure(Error.externalServiceError("YouTube", "Failed to add videos to playlist", e));
+            return Result.failure(transportError("Failed to add videos to playlist", e));
+        }
+    }
+
+    private long fetchItemCount(String accessToken, String playlistId) throws IOException {
+        var request = YouTubeProjection.PLAYLIST_ITEM_COUNT.applyTo(youtube.playlists()
+                .list(YouTubeProjection.PLAYLIST_ITEM_COUNT.parts())
+                .setId(List.of(playlistId)));
+
+        var response = requestExecutor.execute(request, accessToken);
+
+        if (response.getItems() == null || response.getItems().isEmpty()) {
+            return 0L;
         }
+        Long itemCount = response.getItems().getFirst().getContentDetails().getItemCount();
+        return itemCount != null ? itemCount : 0L;
+    }
+
+    private String insertPlaylistItem(String accessToken, String playlistId, String videoId) throws IOException {
+        PlaylistItem inserted = requestExecutor.execute(playlistItemInsertRequest(playlistId, videoId), accessToken);
+        return inserted.getId();
     }
 
-    private YouTube buildAuthenticatedClient(String accessToken) {
-        HttpRequestInitializer initializer = request -> {
-            request.getHeaders().setAuthorization("Bearer " + accessToken);
-            request.setConnectTimeout(30_000);
-            request.setReadTimeout(30_000);
-        };
+    private YouTube.PlaylistItems.Insert playlistItemInsertRequest(String playlistId, String videoId) throws IOException {
+        PlaylistItem playlistItem = new PlaylistItem();
+        PlaylistItemSnippet snippet = new PlaylistItemSnippet();
+        snippet.setPlaylistId(playlistId);
+
+        ResourceId resourceId = new ResourceId();
+        resourceId.setKind("youtube#video");
+        resourceId.setVideoId(videoId);
+        snippet.setResourceId(resourceId);
+
+        playlistItem.setSnippet(snippet);
 
-        return new YouTube.Builder(httpTransport, jsonFactory, initializer)
-                .setApplicationName("youtube-service")
-                .build();
+        return YouTubeProjection.INSERTED_PLAYLIST_ITEM.applyTo(
+                youtube.playlistItems().insert(YouTubeProjection.INSERTED_PLAYLIST_ITEM.parts(), playlistItem));
+    }
+
+    private boolean isNotModified(GoogleJsonResponseException e) {
+        return e.getStatusCode() == 304;
     }
 
     private <T> Result<T, Error> handleGoogleError(GoogleJsonResponseException e, String operation) {
-        int statusCode = e.getStatusCode();
-        String message = e.getDetails() != null ? e.getDetails().getMessage() : e.getMessage();
+        return Result.failure(toError(e, operation));
+    }
+
+    private Error toError(Exception e, String operation) {
+        if (!(e instanceof GoogleJsonResponseException googleError)) {
+            return transportError("Failed to " + operation, e);
+        }
+
+        int statusCode = googleError.getStatusCode();
+        String message = googleError.getDetails() != null ? googleError.getDetails().getMessage() : googleError.getMessage();
 
         log.error("YouTube API error during {}: {} - {}", operation, statusCode, message);
 
+        if (YouTubeErrors.isRateLimited(googleError) || YouTubeErrors.isQuotaExceeded(googleError)) {
+            return Error.externalServiceError("YouTube", message, googleError);
+        }
+
         if (statusCode == 401 || statusCode == 403) {
-            return Result.failure(Error.authenticationError(
-                    "YouTube authentication failed",
-                    message
-            ));
+            return Error.authenticationError("YouTube authentication failed", message);
         }
 
         if (statusCode == 404) {
-            return Result.failure(Error.resourceNotFoundError("YouTube resource", operation));
+            return Error.resourceNotFoundError("YouTube resource", operation);
         }
 
-        return Result.failure(Error.externalServiceError("YouTube", message, e));
+        return Error.externalServiceError("YouTube", message, googleError);
+    }
+
+    private static Error transportError(String message, Exception e) {
+        return Error.externalServiceError("YouTube", message, e, YouTubeRequestExecutor.wasNeverSent(e));
     }
 
     private String extractThumbnailUrl(PlaylistSnippet snippet) {
@@ -245,17 +379,16 @@ public class YouTubePlaylistAdapter implements YouTubePlaylistPort {
         return null;
     }
 
-    private String extractThumbnailUrl(PlaylistItemSnippet snippet) {
-        if (snippet.getThumbnails() == null) {
-            return null;
-        }
-        if (snippet.getThumbnails().getMedium() != null) {
-            return snippet.getThumbnails().getMedium().getUrl();
+    private int parseDurationSeconds(String isoDuration) {
+        if (isoDuration == null || isoDuration.isBlank()) {
+            return 0;
         }
-        if (snippet.getThumbnails().getDefault() != null) {
-            return snippet.getThumbnails().getDefault().getUrl();
+        try {
+            return (int) Duration.parse(isoDuration).toSeconds();
+        } catch (DateTimeParseException e) {
+            log.warn("Unparseable video duration: {}", isoDuration);
+            return 0;
         }
-        return null;
     }
 
     private Instant parseDateTime(com.google.api.client.util.DateTime dateTime) {
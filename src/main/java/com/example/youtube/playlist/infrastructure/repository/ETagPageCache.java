@@ -0,0 +1,170 @@
+package com.example.youtube.playlist.infrastructure.repository;
+
+import com.example.youtube.common.cache.TokenFingerprint;
+import com.example.youtube.common.cache.TwoTierCache;
+import com.example.youtube.playlist.domain.entity.PageResult;
+import com.example.youtube.playlist.domain.entity.YouTubePlaylist;
+import com.example.youtube.playlist.domain.entity.YouTubeVideo;
+import com.example.youtube.playlist.domain.repository.PlaylistCache;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+@Repository
+public class ETagPageCache {
+
+    public record CachedPage<T>(String etag, PageResult<T> page) {}
+
+    private final TwoTierCache<VideoPage> videoPages;
+    private final TwoTierCache<PlaylistPage> playlistPages;
+    private final PlaylistCache owners;
+    private final MeterRegistry meterRegistry;
+
+    public ETagPageCache(
+            PlaylistCache owners,
+            StringRedisTemplate redisTemplate,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${youtube.playlist.etag.local.max-size:10000}") long localMaxSize,
+            @Value("${youtube.playlist.etag.local.ttl:10m}") Duration localTtl,
+            @Value("${youtube.playlist.etag.redis.ttl:1d}") Duration redisTtl
+    ) {
+        var settings = new TwoTierCache.CacheSettings(localMaxSize, localTtl, redisTtl);
+        this.videoPages = new TwoTierCache<>(
+                "etag-playlist-items",
+                redisTemplate,
+                objectMapper,
+                objectMapper.getTypeFactory().constructType(VideoPage.class),
+                settings,
+                meterRegistry
+        );
+        this.playlistPages = new TwoTierCache<>(
+                "etag-playlists",
+                redisTemplate,
+                objectMapper,
+                objectMapper.getTypeFactory().constructType(PlaylistPage.class),
+                settings,
+                meterRegistry
+        );
+        this.owners = owners;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public Optional<CachedPage<YouTubeVideo>> findVideoPage(String accessToken, String playlistId, int maxResults, String pageToken) {
+        return videoPages.get(videoPageKey(accessToken, playlistId, maxResults, pageToken)).map(VideoPage::toDomain);
+    }
+
+    public void storeVideoPage(
+            String accessToken,
+            String playlistId,
+            int maxResults,
+            String pageToken,
+            String etag,
+            PageResult<YouTubeVideo> page
+    ) {
+        if (etag != null) {
+            videoPages.put(videoPageKey(accessToken, playlistId, maxResults, pageToken), VideoPage.fromDomain(etag, page));
+        }
+    }
+
+    public Optional<CachedPage<YouTubePlaylist>> findPlaylistPage(String accessToken, String pageToken) {
+        return playlistPages.get(playlistPageKey(accessToken, pageToken)).map(PlaylistPage::toDomain);
+    }
+
+    public void storePlaylistPage(String accessToken, String pageToken, String etag, PageResult<YouTubePlaylist> page) {
+        if (etag != null) {
+            playlistPages.put(playlistPageKey(accessToken, pageToken), PlaylistPage.fromDomain(etag, page));
+        }
+    }
+
+    public void recordResponse(String resource, boolean notModified) {
+        Counter.builder("youtube.conditional.responses")
+                .tag("resource", resource)
+                .tag("result", notModified ? "not_modified" : "full")
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private String videoPageKey(String accessToken, String playlistId, int maxResults, String pageToken) {
+        return owner(accessToken) + ":" + playlistId + ":" + maxResults + ":" + Objects.requireNonNullElse(pageToken, "");
+    }
+
+    private String playlistPageKey(String accessToken, String pageToken) {
+        return owner(accessToken) + ":" + Objects.requireNonNullElse(pageToken, "");
+    }
+
+    private String owner(String accessToken) {
+        return owners.findOwner(accessToken).orElseGet(() -> "token:" + TokenFingerprint.of(accessToken));
+    }
+
+    record CachedVideo(
+            String id,
+            String title,
+            String channelTitle,
+            String description,
+            int durationSeconds,
+            String thumbnailUrl,
+            Instant publishedAt
+    ) {
+        static CachedVideo fromDomain(YouTubeVideo video) {
+            return new CachedVideo(
+                    video.id().youtubeId(),
+                    video.title(),
+                    video.channelTitle(),
+                    video.description(),
+                    video.durationSeconds(),
+                    video.thumbnailUrl(),
+                    video.publishedAt()
+            );
+        }
+
+        YouTubeVideo toDomain() {
+            return YouTubeVideo.create(id, title, channelTitle, description, durationSeconds, thumbnailUrl, publishedAt)
+                    .getOrElse(null);
+        }
+    }
+
+    record VideoPage(String etag, List<CachedVideo> items, String nextPageToken, int totalResults) {
+        static VideoPage fromDomain(String etag, PageResult<YouTubeVideo> page) {
+            return new VideoPage(
+                    etag,
+                    page.items().stream().map(CachedVideo::fromDomain).toList(),
+                    page.nextPageToken(),
+                    page.totalResults()
+            );
+        }
+
+        CachedPage<YouTubeVideo> toDomain() {
+            List<YouTubeVideo> videos = items.stream().map(CachedVideo::toDomain).filter(Objects::nonNull).toList();
+            return new CachedPage<>(etag, PageResult.of(videos, nextPageToken, totalResults));
+        }
+    }
+
+    record PlaylistPage(String etag, List<TwoTierPlaylistCache.CachedPlaylist> items, String nextPageToken, int totalResults) {
+        static PlaylistPage fromDomain(String etag, PageResult<YouTubePlaylist> page) {
+            return new PlaylistPage(
+                    etag,
+                    page.items().stream().map(TwoTierPlaylistCache.CachedPlaylist::fromDomain).toList(),
+                    page.nextPageToken(),
+                    page.totalResults()
+            );
+        }
+
+        CachedPage<YouTubePlaylist> toDomain() {
+            List<YouTubePlaylist> playlists = items.stream()
+                    .map(TwoTierPlaylistCache.CachedPlaylist::toDomain)
+                    .filter(Objects::nonNull)
+                    .toList();
+            return new CachedPage<>(etag, PageResult.of(playlists, nextPageToken, totalResults));
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.youtube.playlist.infrastructure.repository;
+
+import com.example.youtube.common.result.Error;
+import com.example.youtube.common.result.Result;
+import com.example.youtube.playlist.domain.entity.InsertOutcome;
+import com.example.youtube.playlist.domain.repository.ImportCheckpointRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+public class RedisImportCheckpointRepository implements ImportCheckpointRepository {
+
+    private static final Logger log = LoggerFactory.getLogger(RedisImportCheckpointRepository.class);
+    private static final String KEY_PREFIX = "youtube:import:";
+    private static final String CLAIM_PREFIX = "youtube:import-claim:";
+    private static final RedisScript<Long> RECORD_SCRIPT = RedisScript.of("""
+            redis.call('HSET', KEYS[1], ARGV[1], ARGV[2])
+            return redis.call('PEXPIRE', KEYS[1], ARGV[3])
+            """, Long.class);
+    private static final RedisScript<Long> RELEASE_SCRIPT = RedisScript.of("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+              return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration checkpointTtl;
+    private final Duration claimTtl;
+
+    public RedisImportCheckpointRepository(
+            StringRedisTemplate redisTemplate,
+            ObjectMapper objectMapper,
+            @Value("${youtube.playlist.import.checkpoint-ttl:24h}") Duration checkpointTtl,
+            @Value("${youtube.playlist.import.claim-ttl:15m}") Duration claimTtl
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.checkpointTtl = checkpointTtl;
+        this.claimTtl = claimTtl;
+    }
+
+    @Override
+    public Result<Boolean, Error> claim(String importKey, String claimToken) {
+        try {
+            return Result.success(Boolean.TRUE.equals(
+                    redisTemplate.opsForValue().setIfAbsent(CLAIM_PREFIX + importKey, claimToken, claimTtl)));
+        } catch (Exception e) {
+            log.error("Failed to claim import {}", importKey, e);
+            return Result.failure(Error.externalServiceError("Redis", "Failed to claim import", e));
+        }
+    }
+
+    @Override
+    public void release(String importKey, String claimToken) {
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(CLAIM_PREFIX + importKey), claimToken);
+        } catch (Exception e) {
+            log.warn("Failed to release claim on import {}: {}", importKey, e.getMessage());
+        }
+    }
+
+    @Override
+    public Result<Map<String, InsertOutcome>, Error> findCompleted(String importKey) {
+        try {
+            Map<Object, Object> entries = redisTemplate.opsForHash().entries(KEY_PREFIX + importKey);
+            Map<String, InsertOutcome> completed = new HashMap<>(entries.size());
+            for (Map.Entry<Object, Object> entry : entries.entrySet()) {
+                String videoId = (String) entry.getKey();
+                CompletedInsert insert = objectMapper.readValue((String) entry.getValue(), CompletedInsert.class);
+                completed.put(videoId, InsertOutcome.inserted(videoId, insert.position(), insert.playlistItemId()));
+            }
+            return Result.success(completed);
+        } catch (Exception e) {
+            log.error("Failed to load import checkpoint {}", importKey, e);
+            return Result.failure(Error.externalServiceError("Redis", "Failed to load import checkpoint", e));
+        }
+    }
+
+    @Override
+    public void recordInserted(String importKey, InsertOutcome outcome) {
+        try {
+            String value = objectMapper.writeValueAsString(new CompletedInsert(outcome.position(), outcome.playlistItemId()));
+            redisTemplate.execute(
+                    RECORD_SCRIPT,
+                    List.of(KEY_PREFIX + importKey),
+                    outcome.videoId(),
+                    value,
+                    String.valueOf(checkpointTtl.toMillis())
+            );
+        } catch (Exception e) {
+            log.warn("Failed to checkpoint insert of {} for import {}: {}", outcome.videoId(), importKey, e.getMessage());
+        }
+    }
+
+    private record CompletedInsert(long position, String playlistItemId) {}
+}
@@ -0,0 +1,123 @@
+package com.example.youtube.playlist.infrastructure.repository;
+
+import com.example.youtube.playlist.domain.repository.PlaylistContentsCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Repository
+public class RedisPlaylistContentsCache implements PlaylistContentsCache {
+
+    private static final Logger log = LoggerFactory.getLogger(RedisPlaylistContentsCache.class);
+    private static final String CACHE_NAME = "playlist-contents";
+    private static final String KEY_PREFIX = "youtube:playlist-contents:";
+    private static final String PRESENT_MARKER = "";
+    private static final RedisScript<Long> STORE_SCRIPT = RedisScript.of("""
+            redis.call('DEL', KEYS[1])
+            for first = 2, #ARGV, 1000 do
+                redis.call('SADD', KEYS[1], unpack(ARGV, first, math.min(first + 999, #ARGV)))
+            end
+            redis.call('PEXPIRE', KEYS[1], ARGV[1])
+            return #ARGV - 2
+            """, Long.class);
+    private static final RedisScript<Long> ADD_SCRIPT = RedisScript.of("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return -1
+            end
+            local added = 0
+            for first = 1, #ARGV, 1000 do
+                added = added + redis.call('SADD', KEYS[1], unpack(ARGV, first, math.min(first + 999, #ARGV)))
+            end
+            return added
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration ttl;
+    private final Counter hits;
+    private final Counter misses;
+
+    public RedisPlaylistContentsCache(
+            StringRedisTemplate redisTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${youtube.playlist.contents.cache.redis.ttl:10m}") Duration ttl
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.ttl = ttl;
+        this.hits = counter(meterRegistry, "redis_hit");
+        this.misses = counter(meterRegistry, "miss");
+    }
+
+    @Override
+    public Optional<Set<String>> find(String playlistId) {
+        try {
+            Set<String> members = redisTemplate.opsForSet().members(KEY_PREFIX + playlistId);
+            if (members == null || members.isEmpty()) {
+                misses.increment();
+                return Optional.empty();
+            }
+            hits.increment();
+            return Optional.of(members.stream()
+                    .filter(member -> !member.equals(PRESENT_MARKER))
+                    .collect(Collectors.toUnmodifiableSet()));
+        } catch (Exception e) {
+            log.warn("Failed to read contents of playlist {} from Redis: {}", playlistId, e.getMessage());
+            misses.increment();
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void store(String playlistId, Set<String> videoIds) {
+        List<String> arguments = new ArrayList<>(videoIds.size() + 2);
+        arguments.add(String.valueOf(ttl.toMillis()));
+        arguments.add(PRESENT_MARKER);
+        arguments.addAll(videoIds);
+        try {
+            redisTemplate.execute(STORE_SCRIPT, List.of(KEY_PREFIX + playlistId), arguments.toArray());
+        } catch (Exception e) {
+            log.warn("Failed to store contents of playlist {} in Redis: {}", playlistId, e.getMessage());
+        }
+    }
+
+    @Override
+    public void addAll(String playlistId, Collection<String> videoIds) {
+        if (videoIds.isEmpty()) {
+            return;
+        }
+        try {
+            redisTemplate.execute(ADD_SCRIPT, List.of(KEY_PREFIX + playlistId), videoIds.toArray());
+        } catch (Exception e) {
+            log.warn("Failed to add {} videos to cached playlist {}: {}", videoIds.size(), playlistId, e.getMessage());
+            invalidate(playlistId);
+        }
+    }
+
+    @Override
+    public void invalidate(String playlistId) {
+        try {
+            redisTemplate.delete(KEY_PREFIX + playlistId);
+        } catch (Exception e) {
+            log.warn("Failed to invalidate contents of playlist {} in Redis: {}", playlistId, e.getMessage());
+        }
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("youtube.cache.gets")
+                .tag("cache", CACHE_NAME)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,139 @@
+package com.example.youtube.playlist.infrastructure.repository;
+
+import com.example.youtube.common.cache.TokenFingerprint;
+import com.example.youtube.common.cache.TwoTierCache;
+import com.example.youtube.playlist.domain.entity.YouTubePlaylist;
+import com.example.youtube.playlist.domain.repository.PlaylistCache;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+@Repository
+public class TwoTierPlaylistCache implements PlaylistCache {
+
+    private static final String TOKEN_OWNER_PREFIX = "token:";
+
+    private final TwoTierCache<String> owners;
+    private final TwoTierCache<List<CachedPlaylist>> playlists;
+
+    public TwoTierPlaylistCache(
+            StringRedisTemplate redisTemplate,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${youtube.playlist.cache.local.max-size:1000}") long localMaxSize,
+            @Value("${youtube.playlist.cache.local.ttl:1m}") Duration localTtl,
+            @Value("${youtube.playlist.cache.redis.ttl:5m}") Duration redisTtl,
+            @Value("${youtube.playlist.cache.owner-ttl:1h}") Duration ownerTtl
+    ) {
+        this.owners = new TwoTierCache<>(
+                "playlist-owner",
+                redisTemplate,
+                objectMapper,
+                objectMapper.getTypeFactory().constructType(String.class),
+                new TwoTierCache.CacheSettings(localMaxSize, ownerTtl, ownerTtl),
+                meterRegistry
+        );
+        this.playlists = new TwoTierCache<>(
+                "playlists",
+                redisTemplate,
+                objectMapper,
+                objectMapper.getTypeFactory().constructCollectionType(List.class, CachedPlaylist.class),
+                new TwoTierCache.CacheSettings(localMaxSize, localTtl, redisTtl),
+                meterRegistry
+        );
+    }
+
+    @Override
+    public Optional<List<YouTubePlaylist>> find(String accessToken) {
+        return owners.get(TokenFingerprint.of(accessToken))
+                .flatMap(playlists::get)
+                .map(entries -> entries.stream()
+                        .map(CachedPlaylist::toDomain)
+                        .filter(Objects::nonNull)
+                        .toList());
+    }
+
+    @Override
+    public void store(String accessToken, List<YouTubePlaylist> userPlaylists) {
+        String tokenFingerprint = TokenFingerprint.of(accessToken);
+        String owner = userPlaylists.stream()
+                .map(YouTubePlaylist::channelId)
+                .filter(Objects::nonNull)
+                .findFirst()
+                .orElse(TOKEN_OWNER_PREFIX + tokenFingerprint);
+
+        owners.put(tokenFingerprint, owner);
+        playlists.put(owner, userPlaylists.stream().map(CachedPlaylist::fromDomain).toList());
+    }
+
+    @Override
+    public void add(String accessToken, YouTubePlaylist playlist) {
+        owners.get(TokenFingerprint.of(accessToken)).ifPresent(owner -> playlists.get(owner).ifPresent(entries -> {
+            List<CachedPlaylist> updated = new ArrayList<>(entries.size() + 1);
+            updated.add(CachedPlaylist.fromDomain(playlist));
+            updated.addAll(entries);
+            playlists.put(owner, updated);
+        }));
+    }
+
+    @Override
+    public void invalidate(String accessToken) {
+        owners.get(TokenFingerprint.of(accessToken)).ifPresent(playlists::invalidate);
+    }
+
+    @Override
+    public Optional<String> findOwner(String accessToken) {
+        return owners.get(TokenFingerprint.of(accessToken)).filter(owner -> !owner.startsWith(TOKEN_OWNER_PREFIX));
+    }
+
+    @Override
+    public void storeOwner(String accessToken, String channelId) {
+        owners.put(TokenFingerprint.of(accessToken), channelId);
+    }
+
+    record CachedPlaylist(
+            String id,
+            String title,
+            String description,
+            String channelId,
+            String channelTitle,
+            int itemCount,
+            String thumbnailUrl,
+            Instant publishedAt
+    ) {
+        static CachedPlaylist fromDomain(YouTubePlaylist playlist) {
+            return new CachedPlaylist(
+                    playlist.id().youtubeId(),
+                    playlist.title(),
+                    playlist.description(),
+                    playlist.channelId(),
+                    playlist.channelTitle(),
+                    playlist.itemCount(),
+                    playlist.thumbnailUrl(),
+                    playlist.publishedAt()
+            );
+        }
+
+        YouTubePlaylist toDomain() {
+            return YouTubePlaylist.create(
+                    id,
+                    title,
+                    description,
+                    channelId,
+                    channelTitle,
+                    itemCount,
+                    thumbnailUrl,
+                    publishedAt
+            ).getOrElse(null);
+        }
+    }
+}
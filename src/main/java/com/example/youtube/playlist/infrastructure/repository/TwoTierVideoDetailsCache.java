@@ -0,0 +1,51 @@
+package com.example.youtube.playlist.infrastructure.repository;
+
+import com.example.youtube.common.cache.TwoTierCache;
+import com.example.youtube.playlist.domain.entity.VideoDetails;
+import com.example.youtube.playlist.domain.repository.VideoDetailsCache;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Repository
+public class TwoTierVideoDetailsCache implements VideoDetailsCache {
+
+    private final TwoTierCache<VideoDetails> cache;
+
+    public TwoTierVideoDetailsCache(
+            StringRedisTemplate redisTemplate,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${youtube.video.cache.local.max-size:50000}") long localMaxSize,
+            @Value("${youtube.video.cache.local.ttl:1h}") Duration localTtl,
+            @Value("${youtube.video.cache.redis.ttl:7d}") Duration redisTtl
+    ) {
+        this.cache = new TwoTierCache<>(
+                "video",
+                redisTemplate,
+                objectMapper,
+                objectMapper.getTypeFactory().constructType(VideoDetails.class),
+                new TwoTierCache.CacheSettings(localMaxSize, localTtl, redisTtl),
+                meterRegistry
+        );
+    }
+
+    @Override
+    public Map<String, VideoDetails> findAll(Collection<String> videoIds) {
+        return cache.getAll(videoIds);
+    }
+
+    @Override
+    public void storeAll(Collection<VideoDetails> details) {
+        cache.putAll(details.stream()
+                .collect(Collectors.toMap(VideoDetails::videoId, Function.identity(), (first, _) -> first)));
+    }
+}
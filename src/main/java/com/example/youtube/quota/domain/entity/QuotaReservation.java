@@ -0,0 +1,21 @@
+package com.example.youtube.quota.domain.entity;
+
+public record QuotaReservation(int units) {
+
+    public QuotaReservation {
+        if (units < 0) {
+            throw new IllegalArgumentException("Reserved units cannot be negative");
+        }
+    }
+
+    public QuotaReservation portion(int portionUnits) {
+        if (portionUnits < 0 || portionUnits > units) {
+            throw new IllegalArgumentException("Portion must be between 0 and " + units + " units");
+        }
+        return new QuotaReservation(portionUnits);
+    }
+
+    public QuotaReservation remainderAfter(int portionUnits) {
+        return portion(units - portionUnits);
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.youtube.quota.domain.service;
+
+import com.example.youtube.common.result.Error;
+
+public final class QuotaRefundPolicy {
+
+    private QuotaRefundPolicy() {}
+
+    public static boolean isRefundable(Error error) {
+        return error instanceof Error.ExternalServiceError serviceError && serviceError.notSent();
+    }
+}
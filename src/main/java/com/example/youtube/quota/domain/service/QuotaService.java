@@ -2,6 +2,7 @@ package com.example.youtube.quota.domain.service;
 
 import com.example.youtube.common.result.Error;
 import com.example.youtube.common.result.Result;
+import com.example.youtube.quota.domain.entity.QuotaReservation;
 
 public interface QuotaService {
 
@@ -12,9 +13,15 @@ public interface QuotaService {
     int PLAYLISTS_INSERT_COST = 50;
     int PLAYLIST_ITEMS_INSERT_COST = 50;
     int PLAYLIST_ITEMS_LIST_COST = 1;
+    int VIDEOS_LIST_COST = 1;
+    int CHANNELS_LIST_COST = 1;
 
     Result<Void, Error> consumeQuota(int units);
 
+    Result<QuotaReservation, Error> reserveQuota(int units);
+
+    void releaseQuota(QuotaReservation reservation);
+
     Result<Long, Error> getCurrentUsage();
 
     Result<Long, Error> getRemainingQuota();
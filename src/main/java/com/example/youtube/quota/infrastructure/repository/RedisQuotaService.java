@@ -2,51 +2,232 @@ package com.example.youtube.quota.infrastructure.repository;
 
 import com.example.youtube.common.result.Error;
 import com.example.youtube.common.result.Result;
+import com.example.youtube.quota.domain.entity.QuotaReservation;
 import com.example.youtube.quota.domain.service.QuotaService;
+import jakarta.annotation.PreDestroy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
 import java.time.LocalDate;
 import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
 
 @Service
 public class RedisQuotaService implements QuotaService {
 
     private static final Logger log = LoggerFactory.getLogger(RedisQuotaService.class);
     private static final String QUOTA_KEY_PREFIX = "youtube:quota:";
+    private static final RedisScript<Long> RESERVE_SCRIPT = RedisScript.of("""
+            local units = tonumber(ARGV[1])
+            local usage = tonumber(redis.call('GET', KEYS[1]) or '0')
+            if usage + units > tonumber(ARGV[2]) then
+                return -usage - 1
+            end
+            usage = redis.call('INCRBY', KEYS[1], units)
+            if redis.call('TTL', KEYS[1]) == -1 then
+                redis.call('EXPIRE', KEYS[1], ARGV[3])
+            end
+            return usage
+            """, Long.class);
+    private static final RedisScript<Long> RELEASE_SCRIPT = RedisScript.of("""
+            local usage = tonumber(redis.call('GET', KEYS[1]) or '0')
+            local units = math.min(usage, tonumber(ARGV[1]))
+            if units > 0 then
+                redis.call('DECRBY', KEYS[1], units)
+            end
+            return units
+            """, Long.class);
+
+    public record LeaseSettings(boolean enabled, long minSize, long maxSize, Duration targetWindow) {
+        public LeaseSettings {
+            if (enabled && (minSize <= 0 || maxSize < minSize)) {
+                throw new IllegalArgumentException("Lease sizes must satisfy 0 < min-size <= max-size");
+            }
+        }
+    }
+
+    private record Lease(String key, long remaining) {}
+
+    private record Reservation(boolean reserved, long usage) {}
 
     private final StringRedisTemplate redisTemplate;
+    private final LeaseSettings leaseSettings;
+    private final AtomicReference<Lease> lease = new AtomicReference<>(new Lease("", 0));
+    private final ReentrantLock leaseLock = new ReentrantLock();
+    private final LongAdder consumedSinceClaim = new LongAdder();
+    private long lastClaimNanos;
 
-    public RedisQuotaService(StringRedisTemplate redisTemplate) {
+    public RedisQuotaService(
+            StringRedisTemplate redisTemplate,
+            @Value("${youtube.quota.lease.enabled:false}") boolean leaseEnabled,
+            @Value("${youtube.quota.lease.min-size:100}") long leaseMinSize,
+            @Value("${youtube.quota.lease.max-size:1000}") long leaseMaxSize,
+            @Value("${youtube.quota.lease.target-window:60s}") Duration leaseTargetWindow
+    ) {
         this.redisTemplate = redisTemplate;
+        this.leaseSettings = new LeaseSettings(leaseEnabled, leaseMinSize, leaseMaxSize, leaseTargetWindow);
     }
 
     @Override
     public Result<Void, Error> consumeQuota(int units) {
-        return hasAvailableQuota(units).flatMap(hasQuota -> {
-            if (!hasQuota) {
-                return getCurrentUsage().flatMap(usage ->
-                        Result.failure(Error.quotaExceededError(usage, DAILY_QUOTA_LIMIT)));
+        try {
+            return leaseSettings.enabled() ? consumeFromLease(units) : consumeFromRedis(units);
+        } catch (Exception e) {
+            log.error("Failed to consume quota", e);
+            return Result.failure(Error.externalServiceError("Redis", "Failed to update quota", e));
+        }
+    }
+
+    @Override
+    public Result<QuotaReservation, Error> reserveQuota(int units) {
+        return consumeQuota(units).map(_ -> new QuotaReservation(units));
+    }
+
+    @Override
+    public void releaseQuota(QuotaReservation reservation) {
+        if (reservation.units() == 0) {
+            return;
+        }
+
+        String key = buildDailyKey();
+        if (leaseSettings.enabled()) {
+            Lease restored = lease.updateAndGet(existing -> existing.key().equals(key)
+                    ? new Lease(key, existing.remaining() + reservation.units())
+                    : existing);
+            if (restored.key().equals(key)) {
+                consumedSinceClaim.add(-reservation.units());
+                log.info("Released {} reserved quota units back to the local lease", reservation.units());
+                return;
             }
+        }
+
+        try {
+            Long released = redisTemplate.execute(RELEASE_SCRIPT, List.of(key), String.valueOf(reservation.units()));
+            log.info("Released {} reserved quota units", released);
+        } catch (Exception e) {
+            log.warn("Failed to release {} reserved quota units: {}", reservation.units(), e.getMessage());
+        }
+    }
+
+    private Result<Void, Error> consumeFromRedis(int units) {
+        Reservation reservation = reserve(buildDailyKey(), units);
 
-            try {
-                String key = buildDailyKey();
-                Long newUsage = redisTemplate.opsForValue().increment(key, units);
+        if (!reservation.reserved()) {
+            log.warn("Rejected {} quota units. Current usage: {}", units, reservation.usage());
+            return Result.failure(Error.quotaExceededError(reservation.usage(), DAILY_QUOTA_LIMIT));
+        }
 
-                if (newUsage != null && newUsage == units) {
-                    redisTemplate.expire(key, calculateTimeUntilMidnightPT());
-                }
+        log.info("Consumed {} quota units. Current usage: {}", units, reservation.usage());
+        return Result.successVoid();
+    }
 
-                log.info("Consumed {} quota units. Current usage: {}", units, newUsage);
+    private Result<Void, Error> consumeFromLease(int units) {
+        String key = buildDailyKey();
+        if (takeFromLease(key, units)) {
+            return Result.successVoid();
+        }
+
+        leaseLock.lock();
+        try {
+            if (takeFromLease(key, units)) {
                 return Result.successVoid();
-            } catch (Exception e) {
-                log.error("Failed to consume quota", e);
-                return Result.failure(Error.externalServiceError("Redis", "Failed to update quota", e));
             }
-        });
+
+            Lease current = lease.get();
+            if (!current.key().equals(key)) {
+                releaseLease();
+            }
+
+            long leaseSize = Math.max(nextLeaseSize(), units);
+            Reservation reservation = reserve(key, leaseSize);
+            if (!reservation.reserved() && leaseSize > units) {
+                leaseSize = units;
+                reservation = reserve(key, units);
+            }
+
+            if (!reservation.reserved()) {
+                log.warn("Rejected {} quota units. Current usage: {}", units, reservation.usage());
+                return Result.failure(Error.quotaExceededError(reservation.usage(), DAILY_QUOTA_LIMIT));
+            }
+
+            long claimed = leaseSize;
+            lease.updateAndGet(existing -> existing.key().equals(key)
+                    ? new Lease(key, existing.remaining() + claimed - units)
+                    : new Lease(key, claimed - units));
+            consumedSinceClaim.add(units);
+
+            log.info("Leased {} quota units. Current usage: {}", claimed, reservation.usage());
+            return Result.successVoid();
+        } finally {
+            leaseLock.unlock();
+        }
+    }
+
+    private boolean takeFromLease(String key, int units) {
+        while (true) {
+            Lease current = lease.get();
+            if (!current.key().equals(key) || current.remaining() < units) {
+                return false;
+            }
+            if (lease.compareAndSet(current, new Lease(key, current.remaining() - units))) {
+                consumedSinceClaim.add(units);
+                return true;
+            }
+        }
+    }
+
+    private long nextLeaseSize() {
+        long now = System.nanoTime();
+        long consumed = consumedSinceClaim.sumThenReset();
+        long elapsedNanos = now - lastClaimNanos;
+        boolean firstClaim = lastClaimNanos == 0;
+        lastClaimNanos = now;
+
+        if (firstClaim || elapsedNanos <= 0) {
+            return leaseSettings.minSize();
+        }
+
+        double unitsPerNano = (double) consumed / elapsedNanos;
+        long projected = (long) (unitsPerNano * leaseSettings.targetWindow().toNanos());
+        return Math.clamp(projected, leaseSettings.minSize(), leaseSettings.maxSize());
+    }
+
+    @PreDestroy
+    public void releaseLease() {
+        Lease released = lease.getAndSet(new Lease("", 0));
+        if (released.remaining() <= 0) {
+            return;
+        }
+
+        try {
+            Long returned = redisTemplate.execute(
+                    RELEASE_SCRIPT,
+                    List.of(released.key()),
+                    String.valueOf(released.remaining())
+            );
+            log.info("Returned {} unused leased quota units to {}", returned, released.key());
+        } catch (Exception e) {
+            log.warn("Failed to return {} leased quota units: {}", released.remaining(), e.getMessage());
+        }
+    }
+
+    private Reservation reserve(String key, long units) {
+        long reply = redisTemplate.execute(
+                RESERVE_SCRIPT,
+                List.of(key),
+                String.valueOf(units),
+                String.valueOf(DAILY_QUOTA_LIMIT),
+                String.valueOf(calculateTimeUntilMidnightPT().toSeconds())
+        );
+        return reply >= 0 ? new Reservation(true, reply) : new Reservation(false, -reply - 1);
     }
 
     @Override
@@ -55,7 +236,9 @@ public class RedisQuotaService implements QuotaService {
             String key = buildDailyKey();
             String value = redisTemplate.opsForValue().get(key);
             long usage = value != null ? Long.parseLong(value) : 0L;
-            return Result.success(usage);
+            Lease current = lease.get();
+            long unusedLease = current.key().equals(key) ? current.remaining() : 0L;
+            return Result.success(Math.max(0, usage - unusedLease));
         } catch (Exception e) {
             log.error("Failed to get current quota usage", e);
             return Result.failure(Error.externalServiceError("Redis", "Failed to retrieve quota usage", e));
@@ -1,14 +1,21 @@
 package com.example.youtube.search.api;
 
 import com.example.youtube.common.result.ResultMapper;
+import com.example.youtube.search.api.dto.BatchMusicSearchRequest;
+import com.example.youtube.search.api.dto.BatchMusicSearchResponse;
+import com.example.youtube.search.api.dto.MusicMatchResponse;
 import com.example.youtube.search.api.dto.SearchResultResponse;
 import com.example.youtube.search.application.SearchUseCase;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/v1/search")
 public class SearchController {
@@ -38,6 +45,17 @@ public class SearchController {
     ) {
         var request = new SearchUseCase.MusicSearchRequest(track, artist);
         var result = searchUseCase.searchMusicVideo(request);
-        return ResultMapper.toResponse(result, SearchResultResponse::fromDomain);
+        return ResultMapper.toResponse(result, MusicMatchResponse::fromDomain);
+    }
+
+    @PostMapping("/music/batch")
+    public ResponseEntity<?> searchMusicVideos(@RequestBody BatchMusicSearchRequest request) {
+        var tracks = request.tracks() == null ? List.<SearchUseCase.MusicSearchRequest>of() : request.tracks().stream()
+                .map(track -> track == null
+                        ? new SearchUseCase.MusicSearchRequest(null, null)
+                        : new SearchUseCase.MusicSearchRequest(track.track(), track.artist()))
+                .toList();
+        var result = searchUseCase.searchMusicVideos(new SearchUseCase.BatchMusicSearchRequest(tracks));
+        return ResultMapper.toResponse(result, BatchMusicSearchResponse::fromDomain);
     }
 }
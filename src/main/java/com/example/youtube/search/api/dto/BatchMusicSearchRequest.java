@@ -0,0 +1,9 @@
+package com.example.youtube.search.api.dto;
+
+import java.util.List;
+
+public record BatchMusicSearchRequest(
+        List<TrackRequest> tracks
+) {
+    public record TrackRequest(String track, String artist) {}
+}
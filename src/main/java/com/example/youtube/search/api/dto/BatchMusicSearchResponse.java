@@ -0,0 +1,58 @@
+package com.example.youtube.search.api.dto;
+
+import com.example.youtube.common.result.Error;
+import com.example.youtube.common.result.ResultMapper;
+import com.example.youtube.common.result.ResultMapper.ErrorDTO;
+import com.example.youtube.search.application.SearchUseCase.MusicMatchResult;
+import com.example.youtube.search.domain.service.MusicMatchRanker;
+
+import java.util.List;
+
+public record BatchMusicSearchResponse(
+        int matched,
+        int lowConfidence,
+        int notFound,
+        int failed,
+        List<TrackMatchResponse> items
+) {
+    public enum MatchStatus { MATCHED, NOT_FOUND, ERROR }
+
+    public record TrackMatchResponse(
+            String track,
+            String artist,
+            MatchStatus status,
+            Boolean lowConfidence,
+            Double confidence,
+            SearchResultResponse result,
+            ErrorDTO error
+    ) {
+        public static TrackMatchResponse fromDomain(MusicMatchResult match) {
+            String track = match.request().trackName();
+            String artist = match.request().artistName();
+            return match.result().fold(
+                    result -> new TrackMatchResponse(track, artist, MatchStatus.MATCHED,
+                            result.hasConfidence() ? MusicMatchRanker.isLowConfidence(result.confidence()) : null,
+                            result.confidence(),
+                            SearchResultResponse.fromDomain(result), null),
+                    error -> new TrackMatchResponse(track, artist,
+                            error instanceof Error.ResourceNotFoundError ? MatchStatus.NOT_FOUND : MatchStatus.ERROR,
+                            null, null, null, ResultMapper.toErrorDTO(error))
+            );
+        }
+    }
+
+    public static BatchMusicSearchResponse fromDomain(List<MusicMatchResult> matches) {
+        List<TrackMatchResponse> items = matches.stream().map(TrackMatchResponse::fromDomain).toList();
+        return new BatchMusicSearchResponse(
+                count(items, MatchStatus.MATCHED),
+                (int) items.stream().filter(item -> Boolean.TRUE.equals(item.lowConfidence())).count(),
+                count(items, MatchStatus.NOT_FOUND),
+                count(items, MatchStatus.ERROR),
+                items
+        );
+    }
+
+    private static int count(List<TrackMatchResponse> items, MatchStatus status) {
+        return (int) items.stream().filter(item -> item.status() == status).count();
+    }
+}
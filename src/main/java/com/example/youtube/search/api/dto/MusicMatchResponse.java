@@ -0,0 +1,28 @@
+package com.example.youtube.search.api.dto;
+
+import com.example.youtube.search.domain.entity.SearchResult;
+import com.example.youtube.search.domain.service.MusicMatchRanker;
+
+public record MusicMatchResponse(
+        String videoId,
+        String title,
+        String channelTitle,
+        String description,
+        String thumbnailUrl,
+        double relevanceScore,
+        Double confidence,
+        Boolean lowConfidence
+) {
+    public static MusicMatchResponse fromDomain(SearchResult result) {
+        return new MusicMatchResponse(
+                result.videoId().youtubeId(),
+                result.title(),
+                result.channelTitle(),
+                result.description(),
+                result.thumbnailUrl(),
+                result.relevanceScore(),
+                result.confidence(),
+                result.hasConfidence() ? MusicMatchRanker.isLowConfidence(result.confidence()) : null
+        );
+    }
+}
@@ -21,7 +21,13 @@ public interface SearchUseCase {
 
     record MusicSearchRequest(String trackName, String artistName) {}
 
+    record BatchMusicSearchRequest(List<MusicSearchRequest> tracks) {}
+
+    record MusicMatchResult(MusicSearchRequest request, Result<SearchResult, Error> result) {}
+
     Result<List<SearchResult>, Error> searchVideos(SearchRequest request);
 
     Result<SearchResult, Error> searchMusicVideo(MusicSearchRequest request);
+
+    Result<List<MusicMatchResult>, Error> searchMusicVideos(BatchMusicSearchRequest request);
 }
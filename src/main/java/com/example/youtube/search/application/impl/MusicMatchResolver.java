@@ -0,0 +1,235 @@
+package com.example.youtube.search.application.impl;
+
+import com.example.youtube.common.cache.SingleFlight;
+import com.example.youtube.common.result.Error;
+import com.example.youtube.common.result.Result;
+import com.example.youtube.quota.domain.entity.QuotaReservation;
+import com.example.youtube.quota.domain.service.QuotaRefundPolicy;
+import com.example.youtube.quota.domain.service.QuotaService;
+import com.example.youtube.search.application.SearchUseCase.MusicMatchResult;
+import com.example.youtube.search.application.SearchUseCase.MusicSearchRequest;
+import com.example.youtube.search.domain.entity.MusicMatch;
+import com.example.youtube.search.domain.entity.SearchResult;
+import com.example.youtube.search.domain.entity.TrackKey;
+import com.example.youtube.search.domain.repository.MusicMatchRepository;
+import com.example.youtube.search.domain.service.YouTubeSearchPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+@Component
+public class MusicMatchResolver {
+
+    private static final Logger log = LoggerFactory.getLogger(MusicMatchResolver.class);
+
+    private final YouTubeSearchPort youtubeSearchPort;
+    private final QuotaService quotaService;
+    private final MusicMatchRepository musicMatchRepository;
+    private final SearchFlights searchFlights;
+    private final int parallelism;
+
+    public MusicMatchResolver(
+            YouTubeSearchPort youtubeSearchPort,
+            QuotaService quotaService,
+            MusicMatchRepository musicMatchRepository,
+            SearchFlights searchFlights,
+            @Value("${youtube.search.batch.parallelism:8}") int parallelism
+    ) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("Batch search parallelism must be positive");
+        }
+        this.youtubeSearchPort = youtubeSearchPort;
+        this.quotaService = quotaService;
+        this.musicMatchRepository = musicMatchRepository;
+        this.searchFlights = searchFlights;
+        this.parallelism = parallelism;
+    }
+
+    public Result<SearchResult, Error> resolve(String accessToken, MusicSearchRequest request) {
+        TrackKey trackKey = TrackKey.of(request.trackName(), request.artistName());
+
+        return musicMatchRepository.find(trackKey)
+                .map(match -> fromStoredMatch(match, request))
+                .orElseGet(() -> quotaService.reserveQuota(QuotaService.SEARCH_LIST_COST)
+                        .flatMap(reservation -> settle(reservation, searchAndRemember(accessToken, request, trackKey))));
+    }
+
+    public List<MusicMatchResult> resolveAll(String accessToken, List<MusicSearchRequest> requests) {
+        Map<TrackKey, MusicSearchRequest> uniqueTracks = new LinkedHashMap<>();
+        for (MusicSearchRequest request : requests) {
+            uniqueTracks.putIfAbsent(TrackKey.of(request.trackName(), request.artistName()), request);
+        }
+
+        Map<TrackKey, MusicMatch> storedMatches = musicMatchRepository.findAll(uniqueTracks.keySet());
+        Map<TrackKey, Result<SearchResult, Error>> resolved = new HashMap<>();
+        storedMatches.forEach((key, match) -> resolved.put(key, fromStoredMatch(match, uniqueTracks.get(key))));
+
+        List<TrackKey> pending = uniqueTracks.keySet().stream()
+                .filter(key -> !resolved.containsKey(key))
+                .toList();
+
+        log.info("Resolving {} tracks: {} unique, {} from match store, {} to search",
+                requests.size(), uniqueTracks.size(), storedMatches.size(), pending.size());
+
+        if (!pending.isEmpty()) {
+            resolved.putAll(searchConcurrently(accessToken, pending, uniqueTracks));
+        }
+
+        return requests.stream()
+                .map(request -> new MusicMatchResult(
+                        request,
+                        resolved.get(TrackKey.of(request.trackName(), request.artistName()))
+                ))
+                .toList();
+    }
+
+    private Map<TrackKey, Result<SearchResult, Error>> searchConcurrently(
+            String accessToken,
+            List<TrackKey> pending,
+            Map<TrackKey, MusicSearchRequest> uniqueTracks
+    ) {
+        Map<TrackKey, Result<SearchResult, Error>> results = new HashMap<>();
+        int next = 0;
+        int chunkSize = pending.size();
+
+        while (next < pending.size()) {
+            List<TrackKey> chunk = pending.subList(next, Math.min(next + chunkSize, pending.size()));
+
+            switch (quotaService.reserveQuota(chunk.size() * QuotaService.SEARCH_LIST_COST)) {
+                case Result.Success<QuotaReservation, Error>(var reservation) -> {
+                    results.putAll(searchWithin(reservation, accessToken, chunk, uniqueTracks));
+                    next += chunk.size();
+                }
+                case Result.Failure<QuotaReservation, Error>(var error) -> {
+                    int affordable = affordableSearches(error);
+                    if (affordable > 0 && affordable < chunk.size()) {
+                        chunkSize = affordable;
+                        continue;
+                    }
+                    List<TrackKey> rejected = pending.subList(next, pending.size());
+                    log.warn("No quota left for {} of {} tracks to search", rejected.size(), pending.size());
+                    rejected.forEach(key -> results.put(key, Result.failure(error)));
+                    next = pending.size();
+                }
+            }
+        }
+        return results;
+    }
+
+    private static int affordableSearches(Error error) {
+        if (!(error instanceof Error.QuotaExceededError(var currentUsage, var dailyLimit))) {
+            return 0;
+        }
+        return (int) Math.max(0, (dailyLimit - currentUsage) / QuotaService.SEARCH_LIST_COST);
+    }
+
+    private Map<TrackKey, Result<SearchResult, Error>> searchWithin(
+            QuotaReservation reservation,
+            String accessToken,
+            List<TrackKey> pending,
+            Map<TrackKey, MusicSearchRequest> uniqueTracks
+    ) {
+        Semaphore permits = new Semaphore(parallelism);
+        List<Future<SingleFlight.Flight<SearchResult>>> futures = new ArrayList<>(pending.size());
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (TrackKey key : pending) {
+                futures.add(executor.submit(() -> {
+                    permits.acquire();
+                    try {
+                        return searchAndRemember(accessToken, uniqueTracks.get(key), key);
+                    } finally {
+                        permits.release();
+                    }
+                }));
+            }
+        }
+
+        Map<TrackKey, Result<SearchResult, Error>> results = new HashMap<>();
+        int refundable = 0;
+        for (int index = 0; index < pending.size(); index++) {
+            SingleFlight.Flight<SearchResult> flight = await(futures.get(index));
+            results.put(pending.get(index), flight.result());
+            if (isRefundable(flight)) {
+                refundable++;
+            }
+        }
+
+        QuotaReservation refund = reservation.portion(refundable * QuotaService.SEARCH_LIST_COST);
+        quotaService.releaseQuota(refund);
+        return results;
+    }
+
+    private Result<SearchResult, Error> settle(QuotaReservation reservation, SingleFlight.Flight<SearchResult> flight) {
+        if (isRefundable(flight)) {
+            quotaService.releaseQuota(reservation);
+        }
+        return flight.result();
+    }
+
+    private static boolean isRefundable(SingleFlight.Flight<SearchResult> flight) {
+        return flight.shared() || flight.result() instanceof Result.Failure<SearchResult, Error>(var error)
+                && QuotaRefundPolicy.isRefundable(error);
+    }
+
+    private SingleFlight.Flight<SearchResult> await(Future<SingleFlight.Flight<SearchResult>> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new SingleFlight.Flight<>(
+                    Result.failure(Error.externalServiceError("YouTube", "Music search interrupted", e)), false);
+        } catch (ExecutionException e) {
+            return new SingleFlight.Flight<>(
+                    Result.failure(Error.externalServiceError("YouTube", "Music search failed", e.getCause())), false);
+        }
+    }
+
+    private Result<SearchResult, Error> fromStoredMatch(MusicMatch match, MusicSearchRequest request) {
+        if (!match.isFound()) {
+            return Result.failure(Error.resourceNotFoundError(
+                    "Music video",
+                    request.trackName() + " by " + request.artistName()
+            ));
+        }
+        return Result.success(match.result());
+    }
+
+    private SingleFlight.Flight<SearchResult> searchAndRemember(String accessToken, MusicSearchRequest request, TrackKey trackKey) {
+        return searchFlights.searchMusicVideo(
+                request.trackName(),
+                request.artistName(),
+                () -> searchOnYouTube(accessToken, request, trackKey)
+        );
+    }
+
+    private Result<SearchResult, Error> searchOnYouTube(String accessToken, MusicSearchRequest request, TrackKey trackKey) {
+        Result<SearchResult, Error> result = youtubeSearchPort.searchMusicVideo(
+                        accessToken,
+                        request.trackName(),
+                        request.artistName()
+                )
+                .andThen(match -> {
+                    musicMatchRepository.save(trackKey, MusicMatch.found(match, Instant.now()));
+                    return Result.successVoid();
+                });
+
+        if (result instanceof Result.Failure<SearchResult, Error>(Error.ResourceNotFoundError _)) {
+            musicMatchRepository.save(trackKey, MusicMatch.notFound(Instant.now()));
+        }
+        return result;
+    }
+}
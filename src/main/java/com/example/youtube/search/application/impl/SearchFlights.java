@@ -0,0 +1,84 @@
+package com.example.youtube.search.application.impl;
+
+import com.example.youtube.common.cache.SingleFlight;
+import com.example.youtube.common.cache.SingleFlights;
+import com.example.youtube.common.result.Error;
+import com.example.youtube.common.result.Result;
+import com.example.youtube.playlist.domain.entity.VideoId;
+import com.example.youtube.search.domain.entity.SearchResult;
+import com.fasterxml.jackson.core.type.TypeReference;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+@Component
+public class SearchFlights {
+
+    private final SingleFlight<List<SearchResult>, List<SharedSearchResult>> searches;
+    private final SingleFlight<SearchResult, SharedSearchResult> musicSearches;
+
+    public SearchFlights(SingleFlights singleFlights) {
+        this.searches = singleFlights.forSharedOperation(
+                "search.list",
+                new TypeReference<>() {},
+                results -> results.stream().map(SharedSearchResult::fromDomain).toList(),
+                results -> results.stream().map(SharedSearchResult::toDomain).toList()
+        );
+        this.musicSearches = singleFlights.forSharedOperation(
+                "search.music",
+                new TypeReference<>() {},
+                SharedSearchResult::fromDomain,
+                SharedSearchResult::toDomain
+        );
+    }
+
+    public SingleFlight.Flight<List<SearchResult>> searchVideos(
+            String query,
+            int maxResults,
+            Supplier<Result<List<SearchResult>, Error>> call
+    ) {
+        return searches.execute(SingleFlight.sharedKey(query, maxResults), call);
+    }
+
+    public SingleFlight.Flight<SearchResult> searchMusicVideo(
+            String trackName,
+            String artistName,
+            Supplier<Result<SearchResult, Error>> call
+    ) {
+        return musicSearches.execute(SingleFlight.sharedKey(trackName, artistName), call);
+    }
+
+    record SharedSearchResult(
+            String videoId,
+            String title,
+            String channelTitle,
+            String description,
+            String thumbnailUrl,
+            double relevanceScore,
+            Double confidence
+    ) {
+        static SharedSearchResult fromDomain(SearchResult result) {
+            return new SharedSearchResult(
+                    result.videoId().youtubeId(),
+                    result.title(),
+                    result.channelTitle(),
+                    result.description(),
+                    result.thumbnailUrl(),
+                    result.relevanceScore(),
+                    result.confidence()
+            );
+        }
+
+        SearchResult toDomain() {
+            return SearchResult.of(
+                    VideoId.fromYouTubeId(videoId),
+                    title,
+                    channelTitle,
+                    description,
+                    thumbnailUrl,
+                    relevanceScore
+            ).withConfidence(confidence);
+        }
+    }
+}
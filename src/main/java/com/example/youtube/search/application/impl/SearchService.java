@@ -2,17 +2,25 @@ package com.example.youtube.search.application.impl;
 
 import com.example.youtube.auth.application.TokenQuery;
 import com.example.youtube.auth.domain.entity.Token;
+import com.example.youtube.common.cache.SingleFlight;
 import com.example.youtube.common.result.Error;
 import com.example.youtube.common.result.Result;
+import com.example.youtube.common.text.MusicVideoClassifier;
+import com.example.youtube.quota.domain.entity.QuotaReservation;
+import com.example.youtube.quota.domain.service.QuotaRefundPolicy;
 import com.example.youtube.quota.domain.service.QuotaService;
 import com.example.youtube.search.application.SearchUseCase;
 import com.example.youtube.search.domain.entity.SearchResult;
+import com.example.youtube.search.domain.repository.SearchResultCache;
 import com.example.youtube.search.domain.service.YouTubeSearchPort;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Service
 public class SearchService implements SearchUseCase {
@@ -22,15 +30,30 @@ public class SearchService implements SearchUseCase {
     private final TokenQuery tokenQuery;
     private final YouTubeSearchPort youtubeSearchPort;
     private final QuotaService quotaService;
+    private final SearchResultCache searchResultCache;
+    private final MusicMatchResolver musicMatchResolver;
+    private final SearchFlights searchFlights;
+    private final MusicVideoClassifier musicVideoClassifier;
+    private final int maxBatchSize;
 
     public SearchService(
             TokenQuery tokenQuery,
             YouTubeSearchPort youtubeSearchPort,
-            QuotaService quotaService
+            QuotaService quotaService,
+            SearchResultCache searchResultCache,
+            MusicMatchResolver musicMatchResolver,
+            SearchFlights searchFlights,
+            MusicVideoClassifier musicVideoClassifier,
+            @Value("${youtube.search.batch.max-size:500}") int maxBatchSize
     ) {
         this.tokenQuery = tokenQuery;
         this.youtubeSearchPort = youtubeSearchPort;
         this.quotaService = quotaService;
+        this.searchResultCache = searchResultCache;
+        this.musicMatchResolver = musicMatchResolver;
+        this.searchFlights = searchFlights;
+        this.musicVideoClassifier = musicVideoClassifier;
+        this.maxBatchSize = maxBatchSize;
     }
 
     @Override
@@ -42,21 +65,76 @@ public class SearchService implements SearchUseCase {
         }
 
         return tokenQuery.getCurrentUserToken()
-                .flatMap(token -> quotaService.consumeQuota(QuotaService.SEARCH_LIST_COST)
-                        .flatMap(_ -> youtubeSearchPort.searchVideos(
-                                token.accessToken(),
-                                request.query(),
-                                request.maxResults()
-                        )))
+                .flatMap(token -> searchResultCache.find(request.query(), request.maxResults())
+                        .map(Result::<List<SearchResult>, Error>success)
+                        .orElseGet(() -> searchAndCache(token, request)))
                 .map(results -> results.stream()
-                        .filter(SearchResult::isLikelyMusicVideo)
+                        .filter(result -> result.isLikelyMusicVideo(musicVideoClassifier))
                         .toList());
     }
 
+    private Result<List<SearchResult>, Error> searchAndCache(Token token, SearchRequest request) {
+        return quotaService.reserveQuota(QuotaService.SEARCH_LIST_COST)
+                .flatMap(reservation -> settle(reservation, searchFlights.searchVideos(
+                        request.query(),
+                        request.maxResults(),
+                        () -> youtubeSearchPort.searchVideos(token.accessToken(), request.query(), request.maxResults())
+                )))
+                .andThen(results -> {
+                    searchResultCache.store(request.query(), request.maxResults(), results);
+                    return Result.successVoid();
+                });
+    }
+
+    private <T> Result<T, Error> settle(QuotaReservation reservation, SingleFlight.Flight<T> flight) {
+        boolean refundable = flight.result() instanceof Result.Failure<T, Error>(var error)
+                && QuotaRefundPolicy.isRefundable(error);
+        if (flight.shared() || refundable) {
+            quotaService.releaseQuota(reservation);
+        }
+        return flight.result();
+    }
+
     @Override
     public Result<SearchResult, Error> searchMusicVideo(MusicSearchRequest request) {
         log.info("Searching music video: {} by {}", request.trackName(), request.artistName());
 
+        if (validateMusicRequest(request) instanceof Result.Failure<Void, Error>(var error)) {
+            return Result.failure(error);
+        }
+
+        return tokenQuery.getCurrentUserToken()
+                .flatMap(token -> musicMatchResolver.resolve(token.accessToken(), request));
+    }
+
+    @Override
+    public Result<List<MusicMatchResult>, Error> searchMusicVideos(BatchMusicSearchRequest request) {
+        if (request.tracks() == null || request.tracks().isEmpty()) {
+            return Result.failure(Error.invalidInputError("tracks", "At least one track is required"));
+        }
+
+        if (request.tracks().size() > maxBatchSize) {
+            return Result.failure(Error.invalidInputError("tracks", "At most " + maxBatchSize + " tracks per batch"));
+        }
+
+        log.info("Searching music videos for batch of {} tracks", request.tracks().size());
+
+        return tokenQuery.getCurrentUserToken().map(token -> {
+            List<MusicSearchRequest> valid = request.tracks().stream()
+                    .filter(track -> validateMusicRequest(track).isSuccess())
+                    .toList();
+            Map<MusicSearchRequest, MusicMatchResult> resolved = new HashMap<>();
+            musicMatchResolver.resolveAll(token.accessToken(), valid)
+                    .forEach(match -> resolved.putIfAbsent(match.request(), match));
+
+            return request.tracks().stream()
+                    .map(track -> validateMusicRequest(track)
+                            .fold(_ -> resolved.get(track), error -> new MusicMatchResult(track, Result.failure(error))))
+                    .toList();
+        });
+    }
+
+    private Result<Void, Error> validateMusicRequest(MusicSearchRequest request) {
         if (request.trackName() == null || request.trackName().isBlank()) {
             return Result.failure(Error.invalidInputError("trackName", "Track name is required"));
         }
@@ -65,12 +143,6 @@ public class SearchService implements SearchUseCase {
             return Result.failure(Error.invalidInputError("artistName", "Artist name is required"));
         }
 
-        return tokenQuery.getCurrentUserToken()
-                .flatMap(token -> quotaService.consumeQuota(QuotaService.SEARCH_LIST_COST)
-                        .flatMap(_ -> youtubeSearchPort.searchMusicVideo(
-                                token.accessToken(),
-                                request.trackName(),
-                                request.artistName()
-                        )));
+        return Result.successVoid();
     }
 }
@@ -0,0 +1,30 @@
+package com.example.youtube.search.domain.entity;
+
+import java.time.Instant;
+import java.util.Objects;
+
+public record MusicMatch(
+        SearchResult result,
+        Double confidence,
+        Instant matchedAt
+) {
+    public MusicMatch {
+        Objects.requireNonNull(matchedAt, "Matched at cannot be null");
+        if (confidence != null && (confidence < 0 || confidence > 1)) {
+            throw new IllegalArgumentException("Confidence must be between 0 and 1");
+        }
+    }
+
+    public static MusicMatch found(SearchResult result, Instant matchedAt) {
+        Objects.requireNonNull(result, "Matched result cannot be null");
+        return new MusicMatch(result, result.confidence(), matchedAt);
+    }
+
+    public static MusicMatch notFound(Instant matchedAt) {
+        return new MusicMatch(null, null, matchedAt);
+    }
+
+    public boolean isFound() {
+        return result != null;
+    }
+}
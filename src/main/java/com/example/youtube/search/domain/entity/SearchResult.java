@@ -1,5 +1,6 @@
 package com.example.youtube.search.domain.entity;
 
+import com.example.youtube.common.text.MusicVideoClassifier;
 import com.example.youtube.playlist.domain.entity.VideoId;
 
 import java.util.Objects;
@@ -10,7 +11,8 @@ public record SearchResult(
         String channelTitle,
         String description,
         String thumbnailUrl,
-        double relevanceScore
+        double relevanceScore,
+        Double confidence
 ) {
     public SearchResult {
         Objects.requireNonNull(videoId, "Video ID cannot be null");
@@ -18,6 +20,9 @@ public record SearchResult(
         if (relevanceScore < 0 || relevanceScore > 1) {
             throw new IllegalArgumentException("Relevance score must be between 0 and 1");
         }
+        if (confidence != null && (confidence < 0 || confidence > 1)) {
+            throw new IllegalArgumentException("Confidence must be between 0 and 1");
+        }
     }
 
     public static SearchResult of(
@@ -34,19 +39,20 @@ public record SearchResult(
                 Objects.requireNonNullElse(channelTitle, ""),
                 Objects.requireNonNullElse(description, ""),
                 thumbnailUrl,
-                relevanceScore
+                relevanceScore,
+                null
         );
     }
 
-    public boolean isLikelyMusicVideo() {
-        String lowerTitle = title.toLowerCase();
-        String lowerDesc = description.toLowerCase();
-        return !lowerTitle.contains("cover") &&
-               !lowerTitle.contains("live") &&
-               !lowerTitle.contains("karaoke") &&
-               !lowerTitle.contains("instrumental") &&
-               !lowerTitle.contains("tutorial") &&
-               !lowerTitle.contains("reaction") &&
-               !lowerDesc.contains("cover version");
+    public SearchResult withConfidence(Double confidence) {
+        return new SearchResult(videoId, title, channelTitle, description, thumbnailUrl, relevanceScore, confidence);
+    }
+
+    public boolean hasConfidence() {
+        return confidence != null;
+    }
+
+    public boolean isLikelyMusicVideo(MusicVideoClassifier classifier) {
+        return classifier.isMusicVideo(title, description);
     }
 }
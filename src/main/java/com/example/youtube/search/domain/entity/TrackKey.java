@@ -0,0 +1,31 @@
+package com.example.youtube.search.domain.entity;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.regex.Pattern;
+
+public record TrackKey(String value) {
+
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern NON_ALPHANUMERIC = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    public TrackKey {
+        Objects.requireNonNull(value, "Track key cannot be null");
+        if (value.isBlank()) {
+            throw new IllegalArgumentException("Track key cannot be blank");
+        }
+    }
+
+    public static TrackKey of(String trackName, String artistName) {
+        Objects.requireNonNull(trackName, "Track name cannot be null");
+        Objects.requireNonNull(artistName, "Artist name cannot be null");
+        return new TrackKey(canonicalize(trackName) + "|" + canonicalize(artistName));
+    }
+
+    public static String canonicalize(String text) {
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFKD);
+        String withoutMarks = COMBINING_MARKS.matcher(decomposed).replaceAll("");
+        return NON_ALPHANUMERIC.matcher(withoutMarks.toLowerCase(Locale.ROOT)).replaceAll(" ").trim();
+    }
+}
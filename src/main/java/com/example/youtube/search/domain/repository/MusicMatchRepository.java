@@ -0,0 +1,17 @@
+package com.example.youtube.search.domain.repository;
+
+import com.example.youtube.search.domain.entity.MusicMatch;
+import com.example.youtube.search.domain.entity.TrackKey;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+
+public interface MusicMatchRepository {
+
+    Optional<MusicMatch> find(TrackKey key);
+
+    Map<TrackKey, MusicMatch> findAll(Collection<TrackKey> keys);
+
+    void save(TrackKey key, MusicMatch match);
+}
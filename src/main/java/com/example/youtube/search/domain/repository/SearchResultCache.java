@@ -0,0 +1,13 @@
+package com.example.youtube.search.domain.repository;
+
+import com.example.youtube.search.domain.entity.SearchResult;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface SearchResultCache {
+
+    Optional<List<SearchResult>> find(String query, int maxResults);
+
+    void store(String query, int maxResults, List<SearchResult> results);
+}
@@ -0,0 +1,165 @@
+package com.example.youtube.search.domain.service;
+
+import com.example.youtube.common.text.MusicVideoClassifier;
+import com.example.youtube.search.domain.entity.SearchResult;
+import com.example.youtube.search.domain.entity.TrackKey;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+public final class MusicMatchRanker {
+
+    public static final double LOW_CONFIDENCE_THRESHOLD = 0.6;
+
+    private static final double TRACK_WEIGHT = 0.45;
+    private static final double ARTIST_WEIGHT = 0.20;
+    private static final double PRECISION_WEIGHT = 0.10;
+    private static final double CHANNEL_WEIGHT = 0.15;
+    private static final double POSITION_WEIGHT = 0.10;
+    private static final double KEYWORD_PENALTY = 0.40;
+
+    private static final double CHANNEL_MATCH_SCORE = 0.6;
+    private static final double OFFICIAL_CHANNEL_BONUS = 0.4;
+
+    private static final Set<String> TITLE_NOISE = Set.of(
+            "official", "video", "music", "audio", "lyric", "lyrics", "visualizer", "hd", "hq", "4k",
+            "remastered", "remaster", "version", "clip", "feat", "ft", "mv", "topic", "vevo"
+    );
+
+    public record RankedCandidate(SearchResult result, double confidence, int originalPosition) {
+
+        public boolean isLowConfidence() {
+            return MusicMatchRanker.isLowConfidence(confidence);
+        }
+    }
+
+    private final MusicVideoClassifier classifier;
+
+    public MusicMatchRanker(MusicVideoClassifier classifier) {
+        this.classifier = classifier;
+    }
+
+    public static boolean isLowConfidence(double confidence) {
+        return confidence < LOW_CONFIDENCE_THRESHOLD;
+    }
+
+    public Optional<RankedCandidate> best(String trackName, String artistName, List<SearchResult> candidates) {
+        return rank(trackName, artistName, candidates).stream().findFirst();
+    }
+
+    public List<RankedCandidate> rank(String trackName, String artistName, List<SearchResult> candidates) {
+        Set<String> trackTokens = tokens(trackName);
+        Set<String> artistTokens = tokens(artistName);
+        String compactArtist = String.join("", tokenList(artistName));
+        MusicVideoClassifier penaltyClassifier = penaltyClassifier(trackName);
+
+        return IntStream.range(0, candidates.size())
+                .mapToObj(position -> new RankedCandidate(
+                        candidates.get(position),
+                        score(candidates.get(position), position, candidates.size(),
+                                trackTokens, artistTokens, compactArtist, penaltyClassifier),
+                        position
+                ))
+                .sorted(Comparator.comparingDouble(RankedCandidate::confidence).reversed()
+                        .thenComparingInt(RankedCandidate::originalPosition))
+                .toList();
+    }
+
+    private double score(
+            SearchResult candidate,
+            int position,
+            int candidateCount,
+            Set<String> trackTokens,
+            Set<String> artistTokens,
+            String compactArtist,
+            MusicVideoClassifier penaltyClassifier
+    ) {
+        Set<String> titleTokens = tokens(candidate.title());
+        Set<String> channelTokens = tokens(candidate.channelTitle());
+
+        double trackCoverage = coverage(trackTokens, titleTokens);
+        double artistCoverage = Math.max(coverage(artistTokens, titleTokens), coverage(artistTokens, channelTokens));
+        double precision = precision(titleTokens, trackTokens, artistTokens);
+        double channel = channelScore(candidate.channelTitle(), channelTokens, artistTokens, compactArtist);
+        double positionPrior = candidateCount <= 1 ? 1.0 : 1.0 - (double) position / candidateCount;
+        double penalty = candidate.isLikelyMusicVideo(penaltyClassifier) ? 0.0 : KEYWORD_PENALTY;
+
+        double score = TRACK_WEIGHT * trackCoverage
+                + ARTIST_WEIGHT * artistCoverage
+                + PRECISION_WEIGHT * precision
+                + CHANNEL_WEIGHT * channel
+                + POSITION_WEIGHT * positionPrior
+                - penalty;
+        return Math.clamp(score, 0.0, 1.0);
+    }
+
+    private MusicVideoClassifier penaltyClassifier(String trackName) {
+        String track = trackName == null ? "" : trackName.toLowerCase(Locale.ROOT);
+        List<String> titleKeywords = keywordsMissingFrom(track, classifier.titleKeywords().keywords());
+        List<String> descriptionKeywords = keywordsMissingFrom(track, classifier.descriptionKeywords().keywords());
+        if (titleKeywords.size() == classifier.titleKeywords().keywords().size()
+                && descriptionKeywords.size() == classifier.descriptionKeywords().keywords().size()) {
+            return classifier;
+        }
+        return MusicVideoClassifier.of(titleKeywords, descriptionKeywords);
+    }
+
+    private static List<String> keywordsMissingFrom(String track, List<String> keywords) {
+        return keywords.stream().filter(keyword -> !track.contains(keyword)).toList();
+    }
+
+    private static double coverage(Set<String> expected, Set<String> actual) {
+        if (expected.isEmpty()) {
+            return 0.0;
+        }
+        long found = expected.stream().filter(actual::contains).count();
+        return (double) found / expected.size();
+    }
+
+    private static double precision(Set<String> titleTokens, Set<String> trackTokens, Set<String> artistTokens) {
+        List<String> meaningful = titleTokens.stream().filter(token -> !TITLE_NOISE.contains(token)).toList();
+        if (meaningful.isEmpty()) {
+            return 0.0;
+        }
+        long expected = meaningful.stream()
+                .filter(token -> trackTokens.contains(token) || artistTokens.contains(token))
+                .count();
+        return (double) expected / meaningful.size();
+    }
+
+    private static double channelScore(
+            String channelTitle,
+            Set<String> channelTokens,
+            Set<String> artistTokens,
+            String compactArtist
+    ) {
+        String compactChannel = String.join("", tokenList(channelTitle));
+        boolean artistChannel = !compactArtist.isEmpty()
+                && (channelTokens.containsAll(artistTokens) || compactChannel.startsWith(compactArtist));
+        if (!artistChannel) {
+            return 0.0;
+        }
+
+        boolean official = channelTokens.contains("topic") || compactChannel.endsWith("vevo");
+        return CHANNEL_MATCH_SCORE + (official ? OFFICIAL_CHANNEL_BONUS : 0.0);
+    }
+
+    private static Set<String> tokens(String text) {
+        return tokenList(text).stream().collect(Collectors.toUnmodifiableSet());
+    }
+
+    private static List<String> tokenList(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(TrackKey.canonicalize(text).split(" "))
+                .filter(token -> !token.isEmpty())
+                .toList();
+    }
+}
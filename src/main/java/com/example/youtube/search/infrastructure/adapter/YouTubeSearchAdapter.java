@@ -2,15 +2,16 @@ package com.example.youtube.search.infrastructure.adapter;
 
 import com.example.youtube.common.result.Error;
 import com.example.youtube.common.result.Result;
+import com.example.youtube.common.youtube.YouTubeErrors;
+import com.example.youtube.common.youtube.YouTubeListResponseReader;
+import com.example.youtube.common.youtube.YouTubeProjection;
+import com.example.youtube.common.youtube.YouTubeRequestExecutor;
 import com.example.youtube.playlist.domain.entity.VideoId;
 import com.example.youtube.search.domain.entity.SearchResult;
+import com.example.youtube.search.domain.service.MusicMatchRanker;
 import com.example.youtube.search.domain.service.YouTubeSearchPort;
 import com.google.api.client.googleapis.json.GoogleJsonResponseException;
-import com.google.api.client.http.HttpRequestInitializer;
-import com.google.api.client.http.javanet.NetHttpTransport;
-import com.google.api.client.json.JsonFactory;
 import com.google.api.services.youtube.YouTube;
-import com.google.api.services.youtube.model.SearchListResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
@@ -25,52 +26,55 @@ public class YouTubeSearchAdapter implements YouTubeSearchPort {
     private static final Logger log = LoggerFactory.getLogger(YouTubeSearchAdapter.class);
     private static final String MUSIC_CATEGORY_ID = "10";
 
-    private final NetHttpTransport httpTransport;
-    private final JsonFactory jsonFactory;
-
-    public YouTubeSearchAdapter(NetHttpTransport httpTransport, JsonFactory jsonFactory) {
-        this.httpTransport = httpTransport;
-        this.jsonFactory = jsonFactory;
+    private final YouTube youtube;
+    private final YouTubeRequestExecutor requestExecutor;
+    private final YouTubeListResponseReader responseReader;
+    private final MusicMatchRanker musicMatchRanker;
+
+    public YouTubeSearchAdapter(
+            YouTube youtube,
+            YouTubeRequestExecutor requestExecutor,
+            YouTubeListResponseReader responseReader,
+            MusicMatchRanker musicMatchRanker
+    ) {
+        this.youtube = youtube;
+        this.requestExecutor = requestExecutor;
+        this.responseReader = responseReader;
+        this.musicMatchRanker = musicMatchRanker;
     }
 
     @Override
     public Result<List<SearchResult>, Error> searchVideos(String accessToken, String query, int maxResults) {
         try {
-            YouTube youtube = buildAuthenticatedClient(accessToken);
-
-            SearchListResponse response = youtube.search()
-                    .list(List.of("snippet"))
+            var request = YouTubeProjection.SEARCH_VIDEOS.applyTo(youtube.search()
+                    .list(YouTubeProjection.SEARCH_VIDEOS.parts())
                     .setQ(query)
                     .setType(List.of("video"))
                     .setVideoCategoryId(MUSIC_CATEGORY_ID)
                     .setMaxResults((long) Math.min(maxResults, 50))
-                    .setOrder("relevance")
-                    .execute();
-
-            log.info("YouTube API response for query '{}': {} items", query,
-                    response.getItems() != null ? response.getItems().size() : 0);
-
-            List<SearchResult> results = new ArrayList<>();
-            if (response.getItems() != null) {
-                int position = 0;
-                for (var item : response.getItems()) {
-                    String videoId = item.getId().getVideoId();
-                    if (videoId == null) {
-                        continue;
-                    }
+                    .setOrder("relevance"));
+
+            var response = requestExecutor.executeStreaming(request, accessToken, responseReader::read);
+            List<YouTubeListResponseReader.VideoItem> items = response.items();
 
-                    double relevanceScore = calculateRelevanceScore(position, response.getItems().size());
-
-                    results.add(SearchResult.of(
-                            VideoId.fromYouTubeId(videoId),
-                            item.getSnippet().getTitle(),
-                            item.getSnippet().getChannelTitle(),
-                            item.getSnippet().getDescription(),
-                            extractThumbnailUrl(item.getSnippet()),
-                            relevanceScore
-                    ));
-                    position++;
+            log.info("YouTube API response for query '{}': {} items", query, items.size());
+
+            List<SearchResult> results = new ArrayList<>(items.size());
+            int position = 0;
+            for (var item : items) {
+                if (item.videoId() == null || item.title() == null) {
+                    continue;
                 }
+
+                results.add(SearchResult.of(
+                        VideoId.fromYouTubeId(item.videoId()),
+                        item.title(),
+                        item.channelTitle(),
+                        item.description(),
+                        item.thumbnailUrl(),
+                        calculateRelevanceScore(position, items.size())
+                ));
+                position++;
             }
 
             log.info("Returning {} search results for query '{}'", results.size(), query);
@@ -79,7 +83,7 @@ public class YouTubeSearchAdapter implements YouTubeSearchPort {
             return handleGoogleError(e, "search videos");
         } catch (IOException e) {
             log.error("Failed to search videos", e);
-            return Result.failure(Error.externalServiceError("YouTube", "Failed to search videos", e));
+            return Result.failure(Error.externalServiceError("YouTube", "Failed to search videos", e, YouTubeRequestExecutor.wasNeverSent(e)));
         }
     }
 
@@ -98,15 +102,12 @@ public class YouTubeSearchAdapter implements YouTubeSearchPort {
                         ));
                     }
 
-                    var musicVideos = results.stream()
-                            .filter(SearchResult::isLikelyMusicVideo)
-                            .toList();
-                    log.info("After isLikelyMusicVideo filter: {} results", musicVideos.size());
+                    var best = musicMatchRanker.best(trackName, artistName, results).orElseThrow();
+                    log.info("Picked result {} of {} for '{} by {}' with confidence {}{}",
+                            best.originalPosition() + 1, results.size(), trackName, artistName,
+                            String.format("%.2f", best.confidence()), best.isLowConfidence() ? " (low)" : "");
 
-                    return musicVideos.stream()
-                            .findFirst()
-                            .map(Result::<SearchResult, Error>success)
-                            .orElseGet(() -> Result.success(results.getFirst()));
+                    return Result.success(best.result().withConfidence(best.confidence()));
                 });
     }
 
@@ -121,24 +122,16 @@ public class YouTubeSearchAdapter implements YouTubeSearchPort {
         return 1.0 - ((double) position / totalResults);
     }
 
-    private YouTube buildAuthenticatedClient(String accessToken) {
-        HttpRequestInitializer initializer = request -> {
-            request.getHeaders().setAuthorization("Bearer " + accessToken);
-            request.setConnectTimeout(30_000);
-            request.setReadTimeout(30_000);
-        };
-
-        return new YouTube.Builder(httpTransport, jsonFactory, initializer)
-                .setApplicationName("youtube-service")
-                .build();
-    }
-
     private <T> Result<T, Error> handleGoogleError(GoogleJsonResponseException e, String operation) {
         int statusCode = e.getStatusCode();
         String message = e.getDetails() != null ? e.getDetails().getMessage() : e.getMessage();
 
         log.error("YouTube API error during {}: {} - {}", operation, statusCode, message);
 
+        if (YouTubeErrors.isRateLimited(e) || YouTubeErrors.isQuotaExceeded(e)) {
+            return Result.failure(Error.externalServiceError("YouTube", message, e));
+        }
+
         if (statusCode == 401 || statusCode == 403) {
             return Result.failure(Error.authenticationError(
                     "YouTube authentication failed",
@@ -152,17 +145,4 @@ public class YouTubeSearchAdapter implements YouTubeSearchPort {
 
         return Result.failure(Error.externalServiceError("YouTube", message, e));
     }
-
-    private String extractThumbnailUrl(com.google.api.services.youtube.model.SearchResultSnippet snippet) {
-        if (snippet.getThumbnails() == null) {
-            return null;
-        }
-        if (snippet.getThumbnails().getMedium() != null) {
-            return snippet.getThumbnails().getMedium().getUrl();
-        }
-        if (snippet.getThumbnails().getDefault() != null) {
-            return snippet.getThumbnails().getDefault().getUrl();
-        }
-        return null;
-    }
 }
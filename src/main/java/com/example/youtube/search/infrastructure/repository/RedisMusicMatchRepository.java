@@ -0,0 +1,146 @@
+package com.example.youtube.search.infrastructure.repository;
+
+import com.example.youtube.playlist.domain.entity.VideoId;
+import com.example.youtube.search.domain.entity.MusicMatch;
+import com.example.youtube.search.domain.entity.SearchResult;
+import com.example.youtube.search.domain.entity.TrackKey;
+import com.example.youtube.search.domain.repository.MusicMatchRepository;
+import com.example.youtube.search.domain.service.MusicMatchRanker;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+@Repository
+public class RedisMusicMatchRepository implements MusicMatchRepository {
+
+    private static final Logger log = LoggerFactory.getLogger(RedisMusicMatchRepository.class);
+    private static final String KEY_PREFIX = "youtube:match:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration matchTtl;
+    private final Duration lowConfidenceTtl;
+    private final Duration negativeTtl;
+
+    public RedisMusicMatchRepository(
+            StringRedisTemplate redisTemplate,
+            ObjectMapper objectMapper,
+            @Value("${youtube.search.match.ttl:30d}") Duration matchTtl,
+            @Value("${youtube.search.match.low-confidence-ttl:1d}") Duration lowConfidenceTtl,
+            @Value("${youtube.search.match.negative-ttl:1d}") Duration negativeTtl
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.matchTtl = matchTtl;
+        this.lowConfidenceTtl = lowConfidenceTtl;
+        this.negativeTtl = negativeTtl;
+    }
+
+    @Override
+    public Optional<MusicMatch> find(TrackKey key) {
+        try {
+            String value = redisTemplate.opsForValue().get(KEY_PREFIX + key.value());
+            if (value == null) {
+                return Optional.empty();
+            }
+            return Optional.of(objectMapper.readValue(value, MatchData.class).toDomain());
+        } catch (Exception e) {
+            log.warn("Failed to read music match for {}: {}", key.value(), e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public Map<TrackKey, MusicMatch> findAll(Collection<TrackKey> keys) {
+        if (keys.isEmpty()) {
+            return Map.of();
+        }
+        try {
+            List<TrackKey> orderedKeys = List.copyOf(keys);
+            List<String> values = redisTemplate.opsForValue()
+                    .multiGet(orderedKeys.stream().map(key -> KEY_PREFIX + key.value()).toList());
+
+            Map<TrackKey, MusicMatch> matches = new HashMap<>();
+            for (int index = 0; values != null && index < orderedKeys.size(); index++) {
+                String value = values.get(index);
+                if (value != null) {
+                    matches.put(orderedKeys.get(index), objectMapper.readValue(value, MatchData.class).toDomain());
+                }
+            }
+            return matches;
+        } catch (Exception e) {
+            log.warn("Failed to read {} music matches: {}", keys.size(), e.getMessage());
+            return Map.of();
+        }
+    }
+
+    @Override
+    public void save(TrackKey key, MusicMatch match) {
+        try {
+            String value = objectMapper.writeValueAsString(MatchData.fromDomain(match));
+            redisTemplate.opsForValue().set(KEY_PREFIX + key.value(), value, ttlFor(match));
+        } catch (Exception e) {
+            log.warn("Failed to save music match for {}: {}", key.value(), e.getMessage());
+        }
+    }
+
+    private Duration ttlFor(MusicMatch match) {
+        if (!match.isFound()) {
+            return negativeTtl;
+        }
+        boolean lowConfidence = match.confidence() != null && MusicMatchRanker.isLowConfidence(match.confidence());
+        return lowConfidence ? lowConfidenceTtl : matchTtl;
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    private record MatchData(
+            String videoId,
+            String title,
+            String channelTitle,
+            String description,
+            String thumbnailUrl,
+            double relevanceScore,
+            Double matchConfidence,
+            Instant matchedAt
+    ) {
+        static MatchData fromDomain(MusicMatch match) {
+            if (!match.isFound()) {
+                return new MatchData(null, null, null, null, null, 0.0, null, match.matchedAt());
+            }
+            SearchResult result = match.result();
+            return new MatchData(
+                    result.videoId().youtubeId(),
+                    result.title(),
+                    result.channelTitle(),
+                    result.description(),
+                    result.thumbnailUrl(),
+                    result.relevanceScore(),
+                    match.confidence(),
+                    match.matchedAt()
+            );
+        }
+
+        MusicMatch toDomain() {
+            if (videoId == null) {
+                return MusicMatch.notFound(matchedAt);
+            }
+            return MusicMatch.found(
+                    SearchResult.of(VideoId.fromYouTubeId(videoId), title, channelTitle, description, thumbnailUrl, relevanceScore)
+                            .withConfidence(matchConfidence),
+                    matchedAt
+            );
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.youtube.search.infrastructure.repository;
+
+import com.example.youtube.common.cache.TwoTierCache;
+import com.example.youtube.playlist.domain.entity.VideoId;
+import com.example.youtube.quota.domain.service.QuotaService;
+import com.example.youtube.search.domain.entity.SearchResult;
+import com.example.youtube.search.domain.repository.SearchResultCache;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.text.Normalizer;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+@Repository
+public class TwoTierSearchResultCache implements SearchResultCache {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final TwoTierCache<List<CachedSearchResult>> cache;
+    private final Counter quotaSaved;
+
+    public TwoTierSearchResultCache(
+            StringRedisTemplate redisTemplate,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${youtube.search.cache.local.max-size:10000}") long localMaxSize,
+            @Value("${youtube.search.cache.local.ttl:10m}") Duration localTtl,
+            @Value("${youtube.search.cache.redis.ttl:6h}") Duration redisTtl
+    ) {
+        this.cache = new TwoTierCache<>(
+                "search",
+                redisTemplate,
+                objectMapper,
+                objectMapper.getTypeFactory().constructCollectionType(List.class, CachedSearchResult.class),
+                new TwoTierCache.CacheSettings(localMaxSize, localTtl, redisTtl),
+                meterRegistry
+        );
+        this.quotaSaved = Counter.builder("youtube.search.cache.quota.saved")
+                .baseUnit("units")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Optional<List<SearchResult>> find(String query, int maxResults) {
+        return cache.get(cacheKey(query, maxResults))
+                .map(entries -> {
+                    quotaSaved.increment(QuotaService.SEARCH_LIST_COST);
+                    return entries.stream().map(CachedSearchResult::toDomain).toList();
+                });
+    }
+
+    @Override
+    public void store(String query, int maxResults, List<SearchResult> results) {
+        cache.put(cacheKey(query, maxResults), results.stream().map(CachedSearchResult::fromDomain).toList());
+    }
+
+    static String cacheKey(String query, int maxResults) {
+        String normalized = Normalizer.normalize(query, Normalizer.Form.NFKC)
+                .toLowerCase(Locale.ROOT)
+                .trim();
+        return maxResults + ":" + WHITESPACE.matcher(normalized).replaceAll(" ");
+    }
+
+    record CachedSearchResult(
+            String videoId,
+            String title,
+            String channelTitle,
+            String description,
+            String thumbnailUrl,
+            double relevanceScore
+    ) {
+        static CachedSearchResult fromDomain(SearchResult result) {
+            return new CachedSearchResult(
+                    result.videoId().youtubeId(),
+                    result.title(),
+                    result.channelTitle(),
+                    result.description(),
+                    result.thumbnailUrl(),
+                    result.relevanceScore()
+            );
+        }
+
+        SearchResult toDomain() {
+            return SearchResult.of(
+                    VideoId.fromYouTubeId(videoId),
+                    title,
+                    channelTitle,
+                    description,
+                    thumbnailUrl,
+                    relevanceScore
+            );
+        }
+    }
+}
@@ -0,0 +1,296 @@
+package com.example.youtube.common.cache;
+
+import com.example.youtube.common.result.Error;
+import com.example.youtube.common.result.Result;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SingleFlightTest {
+
+    private static final String LOCK_KEY = "youtube:flight:test:lock:key";
+    private static final String RESULT_KEY = "youtube:flight:test:result:key";
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Captor
+    private ArgumentCaptor<RedisScript<Long>> unlockScript;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    private SingleFlight<String, String> singleFlight(boolean clustered) {
+        return singleFlight(clustered, true);
+    }
+
+    private SingleFlight<String, String> singleFlight(boolean clustered, boolean shareFailures) {
+        ObjectMapper objectMapper = new ObjectMapper();
+        return new SingleFlight<>(
+                "test",
+                redisTemplate,
+                objectMapper,
+                objectMapper.constructType(String.class),
+                Function.identity(),
+                Function.identity(),
+                new SingleFlight.FlightSettings(
+                        true, clustered, Duration.ofSeconds(10), Duration.ofSeconds(5), Duration.ofSeconds(1), Duration.ofMillis(1)),
+                shareFailures,
+                meterRegistry
+        );
+    }
+
+    @Test
+    void sharesOneInFlightCallBetweenConcurrentCallers() throws Exception {
+        var flights = singleFlight(false);
+        var calls = new AtomicInteger();
+        var release = new CountDownLatch(1);
+        int callers = 4;
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<SingleFlight.Flight<String>>> futures = new ArrayList<>();
+            for (int caller = 0; caller < callers; caller++) {
+                futures.add(executor.submit(() -> flights.execute("key", () -> {
+                    calls.incrementAndGet();
+                    await(release);
+                    return Result.success("value");
+                })));
+            }
+            while (count("shared") < callers - 1) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+
+            List<SingleFlight.Flight<String>> outcomes = new ArrayList<>();
+            for (var future : futures) {
+                outcomes.add(future.get());
+            }
+            assertThat(outcomes).allSatisfy(flight -> assertThat(flight.result().getOrElse(null)).isEqualTo("value"));
+            assertThat(outcomes).filteredOn(SingleFlight.Flight::shared).hasSize(callers - 1);
+        }
+
+        assertThat(calls).hasValue(1);
+        assertThat(count("leader")).isEqualTo(1);
+    }
+
+    @Test
+    void runsSequentialCallsIndependently() {
+        var flights = singleFlight(false);
+        var calls = new AtomicInteger();
+
+        flights.execute("key", () -> Result.success("first-" + calls.incrementAndGet()));
+        var second = flights.execute("key", () -> Result.success("second-" + calls.incrementAndGet()));
+
+        assertThat(second.result().getOrElse(null)).isEqualTo("second-2");
+        assertThat(second.shared()).isFalse();
+    }
+
+    @Test
+    void sharesFailuresWithFollowers() throws Exception {
+        var flights = singleFlight(false);
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        Error failure = Error.externalServiceError("YouTube", "Unavailable", null);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<SingleFlight.Flight<String>> leader = executor.submit(() -> flights.execute("key", () -> {
+                started.countDown();
+                await(release);
+                return Result.failure(failure);
+            }));
+            started.await();
+            Future<SingleFlight.Flight<String>> follower = executor.submit(() -> flights.execute("key", () -> Result.success("unused")));
+            while (count("shared") < 1) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+
+            assertThat(leader.get().result()).isEqualTo(Result.failure(failure));
+            assertThat(follower.get().result()).isEqualTo(Result.failure(failure));
+            assertThat(follower.get().shared()).isTrue();
+        }
+    }
+
+    @Test
+    void followersCallThemselvesWhenLeaderFailsAndFailuresAreNotShared() throws Exception {
+        var flights = singleFlight(false, false);
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        Error failure = Error.authenticationError("YouTube authentication failed", "401");
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<SingleFlight.Flight<String>> leader = executor.submit(() -> flights.execute("key", () -> {
+                started.countDown();
+                await(release);
+                return Result.failure(failure);
+            }));
+            started.await();
+            Future<SingleFlight.Flight<String>> follower = executor.submit(() -> flights.execute("key", () -> Result.success("own")));
+            while (count("shared") < 1) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+
+            assertThat(leader.get().result()).isEqualTo(Result.failure(failure));
+            assertThat(follower.get().result().getOrElse(null)).isEqualTo("own");
+            assertThat(follower.get().shared()).isFalse();
+            assertThat(count("fallback")).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void callsDirectlyWhenDisabled() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        var flights = new SingleFlight<String, String>(
+                "test",
+                redisTemplate,
+                objectMapper,
+                objectMapper.constructType(String.class),
+                Function.identity(),
+                Function.identity(),
+                new SingleFlight.FlightSettings(
+                        false, true, Duration.ofSeconds(10), Duration.ofSeconds(5), Duration.ofSeconds(1), Duration.ofMillis(1)),
+                true,
+                meterRegistry
+        );
+
+        var flight = flights.execute("key", () -> Result.success("direct"));
+
+        assertThat(flight.result().getOrElse(null)).isEqualTo("direct");
+        assertThat(flight.shared()).isFalse();
+    }
+
+    @Test
+    void separatesKeysByIdentityAndEscapesArguments() {
+        assertThat(SingleFlight.key("token-a", "playlist")).isNotEqualTo(SingleFlight.key("token-b", "playlist"));
+        assertThat(SingleFlight.key("token", "a:", "b")).isNotEqualTo(SingleFlight.key("token", "a", ":b"));
+        assertThat(SingleFlight.key("token", null, 5)).isEqualTo(SingleFlight.key("token", "", 5));
+    }
+
+    @Test
+    void sharedKeysIgnoreIdentityButStayApartFromUserKeys() {
+        assertThat(SingleFlight.sharedKey("lofi", 10)).isEqualTo(SingleFlight.sharedKey("lofi", 10));
+        assertThat(SingleFlight.sharedKey("lofi", 10)).isNotEqualTo(SingleFlight.sharedKey("lofi", 5));
+        assertThat(SingleFlight.sharedKey("lofi", 10)).isNotEqualTo(SingleFlight.key("token", "lofi", 10));
+    }
+
+    @Nested
+    class Clustered {
+
+        @BeforeEach
+        void setUp() {
+            when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        }
+
+        @Test
+        void leaderPublishesSuccessfulResultAndReleasesLock() {
+            when(valueOperations.setIfAbsent(eq(LOCK_KEY), anyString(), eq(Duration.ofSeconds(10)))).thenReturn(true);
+
+            var flight = singleFlight(true).execute("key", () -> Result.success("value"));
+
+            assertThat(flight.result().getOrElse(null)).isEqualTo("value");
+            assertThat(flight.shared()).isFalse();
+            verify(valueOperations).set(RESULT_KEY, "\"value\"", Duration.ofSeconds(5));
+            verify(redisTemplate).execute(unlockScript.capture(), eq(List.of(LOCK_KEY)), anyString());
+            assertThat(unlockScript.getValue().getResultType()).isEqualTo(Long.class);
+        }
+
+        @Test
+        void doesNotPublishFailures() {
+            when(valueOperations.setIfAbsent(eq(LOCK_KEY), anyString(), any(Duration.class))).thenReturn(true);
+
+            singleFlight(true).execute("key", () -> Result.failure(Error.externalServiceError("YouTube", "down", null)));
+
+            verify(valueOperations, never()).set(anyString(), anyString(), any(Duration.class));
+        }
+
+        @Test
+        void followerReadsResultPublishedByAnotherInstance() {
+            when(valueOperations.setIfAbsent(eq(LOCK_KEY), anyString(), any(Duration.class))).thenReturn(false);
+            when(valueOperations.multiGet(List.of(RESULT_KEY, LOCK_KEY)))
+                    .thenReturn(Arrays.asList(null, "other-instance"))
+                    .thenReturn(Arrays.asList("\"published\"", null));
+            var calls = new AtomicInteger();
+
+            var flight = singleFlight(true).execute("key", () -> Result.success("local-" + calls.incrementAndGet()));
+
+            assertThat(flight.result().getOrElse(null)).isEqualTo("published");
+            assertThat(flight.shared()).isTrue();
+            assertThat(calls).hasValue(0);
+        }
+
+        @Test
+        void followerCallsItselfWhenLeaderReleasesLockWithoutResult() {
+            when(valueOperations.setIfAbsent(eq(LOCK_KEY), anyString(), any(Duration.class))).thenReturn(false);
+            when(valueOperations.multiGet(List.of(RESULT_KEY, LOCK_KEY))).thenReturn(Arrays.asList(null, null));
+
+            var flight = singleFlight(true).execute("key", () -> Result.success("own"));
+
+            assertThat(flight.result().getOrElse(null)).isEqualTo("own");
+            assertThat(flight.shared()).isFalse();
+            assertThat(count("fallback")).isEqualTo(1);
+        }
+
+        @Test
+        void fallsBackToDirectCallWhenRedisIsDown() {
+            when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class)))
+                    .thenThrow(new RedisConnectionFailureException("down"));
+
+            var flight = singleFlight(true).execute("key", () -> Result.success("direct"));
+
+            assertThat(flight.result().getOrElse(null)).isEqualTo("direct");
+            verify(valueOperations, never()).multiGet(anyList());
+        }
+    }
+
+    private double count(String role) {
+        return meterRegistry.get("youtube.singleflight.calls").tag("role", role).counter().count();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
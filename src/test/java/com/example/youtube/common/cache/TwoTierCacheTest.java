@@ -0,0 +1,106 @@
+package com.example.youtube.common.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TwoTierCacheTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private SimpleMeterRegistry meterRegistry;
+    private TwoTierCache<String> cache;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new TwoTierCache<>(
+                "test",
+                redisTemplate,
+                objectMapper,
+                objectMapper.constructType(String.class),
+                new TwoTierCache.CacheSettings(100, Duration.ofMinutes(1), Duration.ofMinutes(10)),
+                meterRegistry
+        );
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    }
+
+    @Test
+    void servesLocalHitsWithoutRedis() {
+        cache.put("key", "value");
+
+        assertThat(cache.get("key")).contains("value");
+        verify(valueOperations, never()).get(anyString());
+        assertThat(count("local_hit")).isEqualTo(1);
+    }
+
+    @Test
+    void promotesRedisHitsToLocalTier() {
+        when(valueOperations.get("youtube:cache:test:key")).thenReturn("\"shared\"");
+
+        assertThat(cache.get("key")).contains("shared");
+        assertThat(cache.get("key")).contains("shared");
+
+        assertThat(count("redis_hit")).isEqualTo(1);
+        assertThat(count("local_hit")).isEqualTo(1);
+    }
+
+    @Test
+    void treatsRedisFailureAsMiss() {
+        when(valueOperations.get("youtube:cache:test:key"))
+                .thenThrow(new RedisConnectionFailureException("down"));
+
+        assertThat(cache.get("key")).isEmpty();
+        assertThat(count("miss")).isEqualTo(1);
+    }
+
+    @Test
+    void writesThroughToRedisWithTtl() {
+        cache.put("key", "value");
+
+        verify(valueOperations).set(eq("youtube:cache:test:key"), eq("\"value\""), eq(Duration.ofMinutes(10)));
+    }
+
+    @Test
+    void readsMissingKeysFromRedisInOneRoundTrip() {
+        cache.put("local", "cached");
+        when(valueOperations.multiGet(List.of("youtube:cache:test:shared", "youtube:cache:test:absent")))
+                .thenReturn(Arrays.asList("\"remote\"", null));
+
+        Map<String, String> found = cache.getAll(List.of("local", "shared", "absent"));
+
+        assertThat(found).containsExactlyInAnyOrderEntriesOf(Map.of("local", "cached", "shared", "remote"));
+        assertThat(count("local_hit")).isEqualTo(1);
+        assertThat(count("redis_hit")).isEqualTo(1);
+        assertThat(count("miss")).isEqualTo(1);
+    }
+
+    private double count(String result) {
+        return meterRegistry.get("youtube.cache.gets").tag("result", result).counter().count();
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.youtube.common.http;
+
+import com.google.api.client.http.GenericUrl;
+import com.google.api.client.http.HttpRequestFactory;
+import com.google.api.client.http.HttpTransport;
+import com.google.api.client.http.javanet.NetHttpTransport;
+import com.sun.net.httpserver.HttpServer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(16)
+@Fork(1)
+public class HttpTransportBenchmark {
+
+    private static final byte[] PAGE = ("{\"kind\":\"youtube#playlistItemListResponse\",\"items\":["
+            + "{\"id\":\"item\",\"snippet\":{\"title\":\"Song\"}},".repeat(49)
+            + "{\"id\":\"item\",\"snippet\":{\"title\":\"Song\"}}]}").getBytes(StandardCharsets.UTF_8);
+
+    @Param({"net", "jdk"})
+    private String transportType;
+
+    private HttpServer server;
+    private HttpTransport transport;
+    private HttpRequestFactory requestFactory;
+    private GenericUrl url;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 512);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext("/youtube/v3/playlistItems", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            exchange.getResponseHeaders().add("Content-Type", "application/json; charset=UTF-8");
+            exchange.sendResponseHeaders(200, PAGE.length);
+            exchange.getResponseBody().write(PAGE);
+            exchange.close();
+        });
+        server.start();
+
+        transport = switch (transportType) {
+            case "net" -> new NetHttpTransport();
+            case "jdk" -> new JdkHttpTransport(
+                    HttpClient.newBuilder()
+                            .connectTimeout(Duration.ofSeconds(10))
+                            .executor(Executors.newVirtualThreadPerTaskExecutor())
+                            .build(),
+                    Duration.ofSeconds(30)
+            );
+            default -> throw new IllegalArgumentException("Unknown transport: " + transportType);
+        };
+        requestFactory = transport.createRequestFactory();
+        url = new GenericUrl("http://127.0.0.1:" + server.getAddress().getPort() + "/youtube/v3/playlistItems");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        transport.shutdown();
+        server.stop(0);
+    }
+
+    @Benchmark
+    public String fetchPage() throws IOException {
+        return requestFactory.buildGetRequest(url).execute().parseAsString();
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.youtube.common.http;
+
+import com.google.api.client.http.ByteArrayContent;
+import com.google.api.client.http.GenericUrl;
+import com.google.api.client.http.HttpRequestFactory;
+import com.google.api.client.http.HttpResponseException;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JdkHttpTransportTest {
+
+    private HttpServer server;
+    private JdkHttpTransport transport;
+    private String baseUrl;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext("/echo", exchange -> {
+            byte[] body = exchange.getRequestBody().readAllBytes();
+            String auth = exchange.getRequestHeaders().getFirst("Authorization");
+            byte[] response = (exchange.getRequestMethod() + "|" + auth + "|" + new String(body, StandardCharsets.UTF_8))
+                    .getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "text/plain");
+            exchange.getResponseHeaders().add("ETag", "\"abc\"");
+            exchange.sendResponseHeaders(200, response.length);
+            exchange.getResponseBody().write(response);
+            exchange.close();
+        });
+        server.createContext("/slow", exchange -> {
+            try {
+                Thread.sleep(2000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.sendResponseHeaders(204, -1);
+            exchange.close();
+        });
+        server.createContext("/missing", exchange -> {
+            exchange.sendResponseHeaders(404, -1);
+            exchange.close();
+        });
+        server.start();
+
+        baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+        transport = new JdkHttpTransport(
+                HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build(),
+                Duration.ofSeconds(5)
+        );
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        transport.shutdown();
+        server.stop(0);
+    }
+
+    @Test
+    void executesGetWithHeaders() throws IOException {
+        HttpRequestFactory factory = transport.createRequestFactory(request ->
+                request.getHeaders().setAuthorization("Bearer token"));
+
+        var response = factory.buildGetRequest(new GenericUrl(baseUrl + "/echo")).execute();
+
+        assertThat(response.getStatusCode()).isEqualTo(200);
+        assertThat(response.parseAsString()).isEqualTo("GET|Bearer token|");
+        assertThat(response.getHeaders().getETag()).isEqualTo("\"abc\"");
+    }
+
+    @Test
+    void sendsRequestBody() throws IOException {
+        var content = ByteArrayContent.fromString("application/json", "{\"a\":1}");
+
+        var response = transport.createRequestFactory()
+                .buildPostRequest(new GenericUrl(baseUrl + "/echo"), content)
+                .execute();
+
+        assertThat(response.parseAsString()).isEqualTo("POST|null|{\"a\":1}");
+    }
+
+    @Test
+    void failsWhenResponseHeadersDoNotArriveWithinResponseTimeout() {
+        var impatient = new JdkHttpTransport(
+                HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build(),
+                Duration.ofMillis(100)
+        );
+
+        try {
+            assertThatThrownBy(() -> impatient.createRequestFactory()
+                    .buildGetRequest(new GenericUrl(baseUrl + "/slow"))
+                    .execute())
+                    .isInstanceOf(HttpTimeoutException.class);
+        } finally {
+            impatient.shutdown();
+        }
+    }
+
+    @Test
+    void surfacesErrorStatusCodes() {
+        assertThatThrownBy(() -> transport.createRequestFactory()
+                .buildGetRequest(new GenericUrl(baseUrl + "/missing"))
+                .execute())
+                .isInstanceOf(HttpResponseException.class)
+                .satisfies(e -> assertThat(((HttpResponseException) e).getStatusCode()).isEqualTo(404));
+    }
+}
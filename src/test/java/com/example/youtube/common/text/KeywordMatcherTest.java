@@ -0,0 +1,98 @@
+package com.example.youtube.common.text;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KeywordMatcherTest {
+
+    @Test
+    void matchesCaseInsensitivelyAnywhereInText() {
+        var matcher = KeywordMatcher.of(List.of("Live", "karaoke"));
+
+        assertThat(matcher.containsAny("Song (LIVE at Wembley)")).isTrue();
+        assertThat(matcher.containsAny("KaRaOkE version")).isTrue();
+        assertThat(matcher.containsAny("Official Music Video")).isFalse();
+    }
+
+    @Test
+    void findsOverlappingKeywordsOfDifferentLengths() {
+        var matcher = KeywordMatcher.of(List.of("hers", "she", "instrumental"));
+
+        assertThat(matcher.containsAny("ushe")).isTrue();
+        assertThat(matcher.containsAny("Song (Instrumental)")).isTrue();
+        assertThat(matcher.containsAny("hehehe")).isFalse();
+        assertThat(matcher.containsAny("sh")).isFalse();
+    }
+
+    @Test
+    void agreesWithLowerCaseContainsOnRandomText() {
+        List<String> keywords = List.of("cover", "live", "karaoke", "cover version", "ab");
+        var matcher = KeywordMatcher.of(keywords);
+        var random = new Random(42);
+        String alphabet = "abcdeikloprsvnAEIKLOPRSV ";
+
+        for (int sample = 0; sample < 2_000; sample++) {
+            StringBuilder text = new StringBuilder();
+            int length = random.nextInt(40);
+            for (int index = 0; index < length; index++) {
+                text.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            String lower = text.toString().toLowerCase(Locale.ROOT);
+            boolean expected = keywords.stream().anyMatch(lower::contains);
+
+            assertThat(matcher.containsAny(text)).as(text.toString()).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void findsKeywordAfterPartialPrefixMatch() {
+        var matcher = KeywordMatcher.of(List.of("cover version"));
+
+        assertThat(matcher.containsAny("my cover cover version of it")).isTrue();
+        assertThat(matcher.containsAny("cover versio")).isFalse();
+    }
+
+    @Test
+    void matchesNonAsciiKeywordsIgnoringCase() {
+        var matcher = KeywordMatcher.of(List.of("ä cappella", "Кавер"));
+
+        assertThat(matcher.containsAny("Song (Ä Cappella)")).isTrue();
+        assertThat(matcher.containsAny("Песня КАВЕР")).isTrue();
+        assertThat(matcher.containsAny("a cappella")).isFalse();
+    }
+
+    @Test
+    void ignoresNullTextAndEmptyKeywordLists() {
+        assertThat(KeywordMatcher.of(List.of("live")).containsAny(null)).isFalse();
+        assertThat(KeywordMatcher.of(List.of("", " ")).containsAny("anything")).isFalse();
+        assertThat(KeywordMatcher.of(List.of("LIVE", "live")).keywords()).containsExactly("live");
+    }
+
+    @Nested
+    class Classifier {
+
+        @Test
+        void appliesTitleAndDescriptionKeywordsSeparately() {
+            var classifier = MusicVideoClassifier.defaults();
+
+            assertThat(classifier.isMusicVideo("Artist - Song (Official Video)", "Official music video")).isTrue();
+            assertThat(classifier.isMusicVideo("Artist - Song (Reaction)", "")).isFalse();
+            assertThat(classifier.isMusicVideo("Artist - Song", "My cover version of the song")).isFalse();
+            assertThat(classifier.isMusicVideo("Artist - Song", "Recorded live in Berlin")).isTrue();
+        }
+
+        @Test
+        void usesConfiguredKeywords() {
+            var classifier = MusicVideoClassifier.of(List.of("remix"), List.of());
+
+            assertThat(classifier.isMusicVideo("Song (Live)", "")).isTrue();
+            assertThat(classifier.isMusicVideo("Song (Club Remix)", "")).isFalse();
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.youtube.common.text;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MusicVideoClassifierBenchmark {
+
+    private static final int PAGE_SIZE = 50;
+
+    @Param({"200", "5000"})
+    private int descriptionLength;
+
+    private String[] titles;
+    private String[] descriptions;
+    private MusicVideoClassifier classifier;
+
+    @Setup
+    public void setUp() {
+        classifier = MusicVideoClassifier.defaults();
+        titles = new String[PAGE_SIZE];
+        descriptions = new String[PAGE_SIZE];
+        for (int index = 0; index < PAGE_SIZE; index++) {
+            titles[index] = index % 10 == 0
+                    ? "Artist " + index + " - Song Title (Live at Wembley Stadium)"
+                    : "Artist " + index + " - Song Title (Official Music Video) [HD Remastered]";
+            descriptions[index] = description(index);
+        }
+    }
+
+    @Benchmark
+    public int searchResultToLowerCase() {
+        int musicVideos = 0;
+        for (int index = 0; index < PAGE_SIZE; index++) {
+            if (legacyIsLikelyMusicVideo(titles[index], descriptions[index])) {
+                musicVideos++;
+            }
+        }
+        return musicVideos;
+    }
+
+    @Benchmark
+    public int youTubeVideoToLowerCase() {
+        int musicVideos = 0;
+        for (int index = 0; index < PAGE_SIZE; index++) {
+            if (legacyIsMusicVideo(titles[index], descriptions[index])) {
+                musicVideos++;
+            }
+        }
+        return musicVideos;
+    }
+
+    @Benchmark
+    public int keywordMatcher() {
+        int musicVideos = 0;
+        for (int index = 0; index < PAGE_SIZE; index++) {
+            if (classifier.isMusicVideo(titles[index], descriptions[index])) {
+                musicVideos++;
+            }
+        }
+        return musicVideos;
+    }
+
+    private String description(int index) {
+        StringBuilder description = new StringBuilder("Official music video for \"Song Title\" by Artist ")
+                .append(index)
+                .append(". Listen on all platforms: https://example.com/listen/")
+                .append(index)
+                .append(" Follow Artist on Instagram, TikTok and X. Directed by Someone. Produced by Label Records. ");
+        while (description.length() < descriptionLength) {
+            description.append("Lyrics: Walking down the Avenue at Midnight, Thinking About the Things We Said. ");
+        }
+        description.setLength(descriptionLength);
+        return description.toString();
+    }
+
+    private static boolean legacyIsLikelyMusicVideo(String title, String description) {
+        String lowerTitle = title.toLowerCase();
+        String lowerDesc = description.toLowerCase();
+        return !lowerTitle.contains("cover") &&
+               !lowerTitle.contains("live") &&
+               !lowerTitle.contains("karaoke") &&
+               !lowerTitle.contains("instrumental") &&
+               !lowerTitle.contains("tutorial") &&
+               !lowerTitle.contains("reaction") &&
+               !lowerDesc.contains("cover version");
+    }
+
+    private static boolean legacyIsMusicVideo(String title, String description) {
+        String lowerTitle = title.toLowerCase();
+        String lowerDesc = description.toLowerCase();
+        return !lowerTitle.contains("cover") &&
+               !lowerTitle.contains("live") &&
+               !lowerTitle.contains("karaoke") &&
+               !lowerTitle.contains("instrumental") &&
+               !lowerDesc.contains("cover version");
+    }
+}
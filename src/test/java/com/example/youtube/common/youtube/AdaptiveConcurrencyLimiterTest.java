@@ -0,0 +1,154 @@
+package com.example.youtube.common.youtube;
+
+import com.google.api.client.googleapis.json.GoogleJsonError;
+import com.google.api.client.googleapis.json.GoogleJsonResponseException;
+import com.google.api.client.http.HttpHeaders;
+import com.google.api.client.http.HttpResponseException;
+import com.google.api.services.youtube.YouTubeRequest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    private AdaptiveConcurrencyLimiter limiter(int initialLimit, int maxQueueSize, Duration queueTimeout) {
+        var limiter = new AdaptiveConcurrencyLimiter(meterRegistry, initialLimit, 1, 16, 0.5, maxQueueSize, queueTimeout);
+        limiter.registerGauges();
+        return limiter;
+    }
+
+    @Test
+    void growsLimitAdditivelyWhileCallsSucceed() throws Exception {
+        var limiter = limiter(2, 10, Duration.ofSeconds(1));
+
+        for (int call = 0; call < 6; call++) {
+            limiter.acquire();
+            limiter.release(AdaptiveConcurrencyLimiter.Signal.SUCCESS);
+        }
+
+        assertThat(limiter.currentLimit()).isEqualTo(4);
+    }
+
+    @Test
+    void halvesLimitOnOverloadButNeverBelowMinimum() throws Exception {
+        var limiter = limiter(8, 10, Duration.ofSeconds(1));
+
+        limiter.acquire();
+        limiter.release(AdaptiveConcurrencyLimiter.Signal.OVERLOAD);
+        assertThat(limiter.currentLimit()).isEqualTo(4);
+
+        for (int call = 0; call < 5; call++) {
+            limiter.acquire();
+            limiter.release(AdaptiveConcurrencyLimiter.Signal.OVERLOAD);
+        }
+        assertThat(limiter.currentLimit()).isEqualTo(1);
+    }
+
+    @Test
+    void rejectsWhenQueueIsFull() throws Exception {
+        var limiter = limiter(1, 0, Duration.ofSeconds(1));
+        limiter.acquire();
+
+        assertThatThrownBy(limiter::acquire).isInstanceOf(AdaptiveConcurrencyLimiter.LimitExceededException.class);
+    }
+
+    @Test
+    void timesOutQueuedCallers() throws Exception {
+        var limiter = limiter(1, 5, Duration.ofMillis(20));
+        limiter.acquire();
+
+        assertThatThrownBy(limiter::acquire).isInstanceOf(AdaptiveConcurrencyLimiter.LimitExceededException.class);
+        assertThat(limiter.queueDepth()).isZero();
+    }
+
+    @Test
+    void queuedCallerProceedsWhenSlotIsReleased() throws Exception {
+        var limiter = limiter(1, 5, Duration.ofSeconds(5));
+        limiter.acquire();
+        CountDownLatch waiting = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<?> queued = executor.submit(() -> {
+                waiting.countDown();
+                limiter.acquire();
+                return null;
+            });
+            waiting.await();
+            while (limiter.queueDepth() == 0) {
+                Thread.onSpinWait();
+            }
+            assertThat(meterRegistry.get("youtube.limiter.queue_depth").gauge().value()).isEqualTo(1);
+
+            limiter.release(AdaptiveConcurrencyLimiter.Signal.IGNORE);
+            queued.get();
+        }
+
+        assertThat(limiter.inFlight()).isEqualTo(1);
+        assertThat(meterRegistry.get("youtube.limiter.limit").gauge().value()).isEqualTo(1);
+    }
+
+    @Nested
+    class RequestExecutor {
+
+        @Test
+        @SuppressWarnings("unchecked")
+        void cutsLimitOnRateLimitedResponse() throws Exception {
+            var limiter = limiter(8, 10, Duration.ofSeconds(1));
+            var executor = new YouTubeRequestExecutor(
+                    limiter, circuitBreakers(), meterRegistry, 1, Duration.ofMillis(1), Duration.ofMillis(1), Duration.ofSeconds(1));
+            YouTubeRequest<Object> request = mock(YouTubeRequest.class);
+            when(request.getRequestHeaders()).thenReturn(new HttpHeaders());
+            when(request.execute()).thenThrow(googleError(403, "rateLimitExceeded"));
+
+            assertThatThrownBy(() -> executor.execute(request, "token"))
+                    .isInstanceOf(GoogleJsonResponseException.class);
+
+            assertThat(limiter.currentLimit()).isEqualTo(4);
+            assertThat(limiter.inFlight()).isZero();
+        }
+
+        @Test
+        void recognisesRateLimitAndQuotaReasons() {
+            assertThat(YouTubeErrors.isRateLimited(googleError(429, "anything"))).isTrue();
+            assertThat(YouTubeErrors.isRateLimited(googleError(403, "userRateLimitExceeded"))).isTrue();
+            assertThat(YouTubeErrors.isRateLimited(googleError(403, "forbidden"))).isFalse();
+            assertThat(YouTubeErrors.isQuotaExceeded(googleError(403, "quotaExceeded"))).isTrue();
+        }
+    }
+
+    private YouTubeCircuitBreakers circuitBreakers() {
+        return new YouTubeCircuitBreakers(
+                meterRegistry, 20, 10, 50, 80, Duration.ofSeconds(5), Duration.ofSeconds(30), 3);
+    }
+
+    private static GoogleJsonResponseException googleError(int status, String reason) {
+        var info = new GoogleJsonError.ErrorInfo();
+        info.setReason(reason);
+        var details = new GoogleJsonError();
+        details.setCode(status);
+        details.setMessage(reason);
+        details.setErrors(List.of(info));
+        return new GoogleJsonResponseException(
+                new HttpResponseException.Builder(status, reason, new HttpHeaders()), details);
+    }
+}
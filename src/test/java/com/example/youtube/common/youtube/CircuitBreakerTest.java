@@ -0,0 +1,130 @@
+package com.example.youtube.common.youtube;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CircuitBreakerTest {
+
+    private static final Duration FAST = Duration.ofMillis(1);
+    private static final Duration SLOW = Duration.ofSeconds(10);
+
+    private static CircuitBreaker breaker(Duration openDuration) {
+        return new CircuitBreaker("search.list", new CircuitBreaker.Settings(
+                10, 4, 50, 80, Duration.ofSeconds(5), openDuration, 2));
+    }
+
+    private static CircuitBreaker openBreaker(Duration openDuration) throws Exception {
+        var breaker = breaker(openDuration);
+        for (int call = 0; call < 4; call++) {
+            breaker.acquirePermission();
+            breaker.onFailure(FAST);
+        }
+        return breaker;
+    }
+
+    @Test
+    void staysClosedBelowMinimumCalls() throws Exception {
+        var breaker = breaker(Duration.ofMinutes(1));
+
+        for (int call = 0; call < 3; call++) {
+            breaker.acquirePermission();
+            breaker.onFailure(FAST);
+        }
+
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void opensWhenFailureRateReachesThreshold() throws Exception {
+        var breaker = breaker(Duration.ofMinutes(1));
+
+        for (int call = 0; call < 4; call++) {
+            breaker.acquirePermission();
+            if (call % 2 == 0) {
+                breaker.onSuccess(FAST);
+            } else {
+                breaker.onFailure(FAST);
+            }
+        }
+
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.snapshot().failureRate()).isEqualTo(50.0);
+    }
+
+    @Test
+    void opensWhenSlowCallRateReachesThreshold() throws Exception {
+        var breaker = breaker(Duration.ofMinutes(1));
+
+        for (int call = 0; call < 4; call++) {
+            breaker.acquirePermission();
+            breaker.onSuccess(SLOW);
+        }
+
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    void rejectsCallsWhileOpen() throws Exception {
+        var breaker = openBreaker(Duration.ofMinutes(1));
+
+        assertThatThrownBy(breaker::acquirePermission).isInstanceOf(CircuitBreaker.CallNotPermittedException.class);
+        assertThat(breaker.snapshot().notPermittedCalls()).isEqualTo(1);
+    }
+
+    @Nested
+    class HalfOpen {
+
+        @Test
+        void permitsOnlyConfiguredNumberOfProbes() throws Exception {
+            var breaker = openBreaker(Duration.ZERO);
+
+            breaker.acquirePermission();
+            breaker.acquirePermission();
+
+            assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+            assertThatThrownBy(breaker::acquirePermission).isInstanceOf(CircuitBreaker.CallNotPermittedException.class);
+        }
+
+        @Test
+        void closesAfterSuccessfulProbes() throws Exception {
+            var breaker = openBreaker(Duration.ZERO);
+
+            for (int probe = 0; probe < 2; probe++) {
+                breaker.acquirePermission();
+                breaker.onSuccess(FAST);
+            }
+
+            assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+            assertThat(breaker.snapshot().bufferedCalls()).isZero();
+        }
+
+        @Test
+        void reopensWhenProbeFails() throws Exception {
+            var breaker = openBreaker(Duration.ofMillis(20));
+            Thread.sleep(30);
+
+            breaker.acquirePermission();
+            breaker.onFailure(FAST);
+
+            assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+            assertThatThrownBy(breaker::acquirePermission).isInstanceOf(CircuitBreaker.CallNotPermittedException.class);
+        }
+
+        @Test
+        void releasesProbeSlotForIgnoredOutcome() throws Exception {
+            var breaker = openBreaker(Duration.ZERO);
+
+            breaker.acquirePermission();
+            breaker.acquirePermission();
+            breaker.onIgnored();
+            breaker.acquirePermission();
+
+            assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        }
+    }
+}
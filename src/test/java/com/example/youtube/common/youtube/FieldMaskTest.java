@@ -0,0 +1,47 @@
+package com.example.youtube.common.youtube;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FieldMaskTest {
+
+    @Test
+    void rendersSinglePathsWithSlashes() {
+        assertThat(FieldMask.of("items/contentDetails/itemCount").expression())
+                .isEqualTo("items/contentDetails/itemCount");
+    }
+
+    @Test
+    void groupsSiblingFieldsUnderSharedPrefix() {
+        var mask = FieldMask.of(
+                "etag",
+                "items/id/videoId",
+                "items/snippet/title",
+                "items/snippet/thumbnails/medium/url",
+                "items/snippet/thumbnails/default/url"
+        );
+
+        assertThat(mask.expression())
+                .isEqualTo("etag,items(id/videoId,snippet(title,thumbnails(medium/url,default/url)))");
+    }
+
+    @Test
+    void collapsesDuplicatePaths() {
+        assertThat(FieldMask.of("id", "id").expression()).isEqualTo("id");
+    }
+
+    @Test
+    void rejectsEmptySegments() {
+        assertThatThrownBy(() -> FieldMask.of("items//id")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void playlistVideosProjectionNoLongerRequestsContentDetails() {
+        assertThat(YouTubeProjection.PLAYLIST_VIDEOS.parts()).containsExactly("snippet");
+        assertThat(YouTubeProjection.PLAYLIST_VIDEOS.fieldMask().expression())
+                .isEqualTo("etag,nextPageToken,pageInfo/totalResults,items/snippet(resourceId/videoId,title,channelTitle,"
+                        + "description,publishedAt,thumbnails(medium/url,default/url))");
+    }
+}
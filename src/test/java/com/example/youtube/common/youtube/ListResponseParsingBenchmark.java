@@ -0,0 +1,262 @@
+package com.example.youtube.common.youtube;
+
+import com.example.youtube.playlist.domain.entity.VideoId;
+import com.example.youtube.playlist.domain.entity.YouTubeVideo;
+import com.example.youtube.search.domain.entity.SearchResult;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.api.client.json.JsonFactory;
+import com.google.api.client.json.gson.GsonFactory;
+import com.google.api.client.util.DateTime;
+import com.google.api.services.youtube.model.PlaylistItemListResponse;
+import com.google.api.services.youtube.model.SearchListResponse;
+import com.google.api.services.youtube.model.ThumbnailDetails;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ListResponseParsingBenchmark {
+
+    private static final int PAGE_SIZE = 50;
+
+    private JsonFactory gsonFactory;
+    private YouTubeListResponseReader streamingReader;
+    private byte[] searchPage;
+    private byte[] playlistItemsPage;
+    private byte[] maskedSearchPage;
+    private byte[] maskedPlaylistItemsPage;
+
+    @Setup
+    public void setUp() {
+        gsonFactory = GsonFactory.getDefaultInstance();
+        streamingReader = new YouTubeListResponseReader();
+        searchPage = page("youtube#searchListResponse", ListResponseParsingBenchmark::searchItem);
+        playlistItemsPage = page("youtube#playlistItemListResponse", ListResponseParsingBenchmark::playlistItem);
+        maskedSearchPage = project(searchPage, YouTubeProjection.SEARCH_VIDEOS.fieldMask());
+        maskedPlaylistItemsPage = project(playlistItemsPage, YouTubeProjection.PLAYLIST_VIDEOS.fieldMask());
+    }
+
+    @Benchmark
+    public List<SearchResult> gsonSearchPage() throws IOException {
+        SearchListResponse response = gsonFactory
+                .createJsonParser(new ByteArrayInputStream(searchPage), StandardCharsets.UTF_8)
+                .parseAndClose(SearchListResponse.class);
+
+        List<SearchResult> results = new ArrayList<>();
+        int position = 0;
+        for (var item : response.getItems()) {
+            results.add(SearchResult.of(
+                    VideoId.fromYouTubeId(item.getId().getVideoId()),
+                    item.getSnippet().getTitle(),
+                    item.getSnippet().getChannelTitle(),
+                    item.getSnippet().getDescription(),
+                    thumbnailUrl(item.getSnippet().getThumbnails()),
+                    1.0 - ((double) position++ / response.getItems().size())
+            ));
+        }
+        return results;
+    }
+
+    @Benchmark
+    public List<SearchResult> streamingSearchPage() throws IOException {
+        return toSearchResults(searchPage);
+    }
+
+    @Benchmark
+    public List<SearchResult> streamingMaskedSearchPage() throws IOException {
+        return toSearchResults(maskedSearchPage);
+    }
+
+    private List<SearchResult> toSearchResults(byte[] page) throws IOException {
+        var response = streamingReader.read(new ByteArrayInputStream(page));
+
+        List<SearchResult> results = new ArrayList<>(response.items().size());
+        int position = 0;
+        for (var item : response.items()) {
+            results.add(SearchResult.of(
+                    VideoId.fromYouTubeId(item.videoId()),
+                    item.title(),
+                    item.channelTitle(),
+                    item.description(),
+                    item.thumbnailUrl(),
+                    1.0 - ((double) position++ / response.items().size())
+            ));
+        }
+        return results;
+    }
+
+    @Benchmark
+    public List<YouTubeVideo> gsonPlaylistItemsPage() throws IOException {
+        PlaylistItemListResponse response = gsonFactory
+                .createJsonParser(new ByteArrayInputStream(playlistItemsPage), StandardCharsets.UTF_8)
+                .parseAndClose(PlaylistItemListResponse.class);
+
+        List<YouTubeVideo> videos = new ArrayList<>();
+        for (var item : response.getItems()) {
+            var snippet = item.getSnippet();
+            DateTime publishedAt = snippet.getPublishedAt();
+            videos.add(YouTubeVideo.create(
+                    snippet.getResourceId().getVideoId(),
+                    snippet.getTitle(),
+                    snippet.getChannelTitle(),
+                    snippet.getDescription(),
+                    0,
+                    thumbnailUrl(snippet.getThumbnails()),
+                    publishedAt != null ? Instant.ofEpochMilli(publishedAt.getValue()) : null
+            ).getOrElse(null));
+        }
+        return videos;
+    }
+
+    @Benchmark
+    public List<YouTubeVideo> streamingPlaylistItemsPage() throws IOException {
+        return toVideos(playlistItemsPage);
+    }
+
+    @Benchmark
+    public List<YouTubeVideo> streamingMaskedPlaylistItemsPage() throws IOException {
+        return toVideos(maskedPlaylistItemsPage);
+    }
+
+    private List<YouTubeVideo> toVideos(byte[] page) throws IOException {
+        var response = streamingReader.read(new ByteArrayInputStream(page));
+
+        List<YouTubeVideo> videos = new ArrayList<>(response.items().size());
+        for (var item : response.items()) {
+            videos.add(YouTubeVideo.create(
+                    item.videoId(),
+                    item.title(),
+                    item.channelTitle(),
+                    item.description(),
+                    0,
+                    item.thumbnailUrl(),
+                    item.publishedAt()
+            ).getOrElse(null));
+        }
+        return videos;
+    }
+
+    private static String thumbnailUrl(ThumbnailDetails thumbnails) {
+        if (thumbnails == null) {
+            return null;
+        }
+        if (thumbnails.getMedium() != null) {
+            return thumbnails.getMedium().getUrl();
+        }
+        return thumbnails.getDefault() != null ? thumbnails.getDefault().getUrl() : null;
+    }
+
+    static byte[] project(byte[] page, FieldMask mask) {
+        try {
+            var objectMapper = new ObjectMapper();
+            JsonNode tree = objectMapper.readTree(page);
+            ObjectNode projected = objectMapper.createObjectNode();
+            for (String path : mask.paths()) {
+                copyPath(tree, projected, path.split("/"), 0);
+            }
+            return objectMapper.writeValueAsBytes(projected);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void copyPath(JsonNode source, ObjectNode target, String[] segments, int depth) {
+        JsonNode value = source.get(segments[depth]);
+        if (value == null) {
+            return;
+        }
+        if (depth == segments.length - 1) {
+            target.set(segments[depth], value);
+            return;
+        }
+        if (value.isArray()) {
+            ArrayNode targetArray = target.has(segments[depth])
+                    ? (ArrayNode) target.get(segments[depth])
+                    : target.putArray(segments[depth]);
+            for (int index = 0; index < value.size(); index++) {
+                ObjectNode element = index < targetArray.size()
+                        ? (ObjectNode) targetArray.get(index)
+                        : targetArray.addObject();
+                copyPath(value.get(index), element, segments, depth + 1);
+            }
+            return;
+        }
+        ObjectNode child = target.has(segments[depth])
+                ? (ObjectNode) target.get(segments[depth])
+                : target.putObject(segments[depth]);
+        copyPath(value, child, segments, depth + 1);
+    }
+
+    interface ItemTemplate {
+        String render(int index, String videoId);
+    }
+
+    static byte[] page(String kind, ItemTemplate template) {
+        List<String> items = new ArrayList<>(PAGE_SIZE);
+        for (int index = 0; index < PAGE_SIZE; index++) {
+            items.add(template.render(index, "vid%08d".formatted(index).substring(0, 11)));
+        }
+        return """
+                {"kind":"%s","etag":"Xy1mB4_yLrHy_BmKmPBggty2mZQ","nextPageToken":"CDIQAA","regionCode":"US",\
+                "pageInfo":{"totalResults":1000000,"resultsPerPage":%d},"items":[%s]}"""
+                .formatted(kind, PAGE_SIZE, String.join(",", items))
+                .getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String thumbnails(String videoId) {
+        return """
+                {"default":{"url":"https://i.ytimg.com/vi/%1$s/default.jpg","width":120,"height":90},\
+                "medium":{"url":"https://i.ytimg.com/vi/%1$s/mqdefault.jpg","width":320,"height":180},\
+                "high":{"url":"https://i.ytimg.com/vi/%1$s/hqdefault.jpg","width":480,"height":360},\
+                "standard":{"url":"https://i.ytimg.com/vi/%1$s/sddefault.jpg","width":640,"height":480},\
+                "maxres":{"url":"https://i.ytimg.com/vi/%1$s/maxresdefault.jpg","width":1280,"height":720}}"""
+                .formatted(videoId);
+    }
+
+    static String searchItem(int index, String videoId) {
+        return """
+                {"kind":"youtube#searchResult","etag":"etag-%1$d","id":{"kind":"youtube#video","videoId":"%2$s"},\
+                "snippet":{"publishedAt":"2019-03-0%3$dT12:00:00Z","channelId":"UC38IQsAvIsxxjztdMZQtwHA",\
+                "title":"Artist %1$d - Song Title %1$d (Official Music Video)",\
+                "description":"Official music video for Song Title %1$d. Listen on all platforms. Follow the artist on social media.",\
+                "thumbnails":%4$s,"channelTitle":"ArtistVEVO","liveBroadcastContent":"none",\
+                "publishTime":"2019-03-0%3$dT12:00:00Z"}}"""
+                .formatted(index, videoId, index % 9 + 1, thumbnails(videoId));
+    }
+
+    static String playlistItem(int index, String videoId) {
+        return """
+                {"kind":"youtube#playlistItem","etag":"etag-%1$d","id":"UEwxMjM0NTY3ODkwLjU2QjQ0RjZEMTA1NTdDQzY%1$d",\
+                "snippet":{"publishedAt":"2024-01-0%3$dT10:15:30Z","channelId":"UC38IQsAvIsxxjztdMZQtwHA",\
+                "title":"Artist %1$d - Song Title %1$d (Official Music Video)",\
+                "description":"Official music video for Song Title %1$d. Listen on all platforms. Follow the artist on social media.",\
+                "thumbnails":%4$s,"channelTitle":"My Channel","playlistId":"PL1234567890",\
+                "position":%1$d,"resourceId":{"kind":"youtube#video","videoId":"%2$s"},\
+                "videoOwnerChannelTitle":"ArtistVEVO","videoOwnerChannelId":"UC38IQsAvIsxxjztdMZQtwHA"},\
+                "contentDetails":{"videoId":"%2$s","videoPublishedAt":"2019-03-0%3$dT12:00:00Z"}}"""
+                .formatted(index, videoId, index % 9 + 1, thumbnails(videoId));
+    }
+}
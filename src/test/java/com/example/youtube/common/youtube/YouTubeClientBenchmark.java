@@ -0,0 +1,68 @@
+package com.example.youtube.common.youtube;
+
+import com.google.api.client.http.HttpRequestInitializer;
+import com.google.api.client.http.javanet.NetHttpTransport;
+import com.google.api.client.json.JsonFactory;
+import com.google.api.client.json.gson.GsonFactory;
+import com.google.api.services.youtube.YouTube;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class YouTubeClientBenchmark {
+
+    private static final String ACCESS_TOKEN = "ya29.benchmark-access-token";
+
+    private NetHttpTransport httpTransport;
+    private JsonFactory jsonFactory;
+    private YouTube sharedClient;
+
+    @Setup
+    public void setUp() {
+        httpTransport = new NetHttpTransport();
+        jsonFactory = GsonFactory.getDefaultInstance();
+        sharedClient = new YouTube.Builder(httpTransport, jsonFactory, request -> {
+            request.setConnectTimeout(30_000);
+            request.setReadTimeout(30_000);
+        }).setApplicationName("youtube-service").build();
+    }
+
+    @Benchmark
+    public YouTube.Search.List perCallClient() throws IOException {
+        HttpRequestInitializer initializer = request -> {
+            request.getHeaders().setAuthorization("Bearer " + ACCESS_TOKEN);
+            request.setConnectTimeout(30_000);
+            request.setReadTimeout(30_000);
+        };
+
+        YouTube youtube = new YouTube.Builder(httpTransport, jsonFactory, initializer)
+                .setApplicationName("youtube-service")
+                .build();
+
+        return youtube.search().list(List.of("snippet")).setQ("never gonna give you up");
+    }
+
+    @Benchmark
+    public YouTube.Search.List sharedClient() throws IOException {
+        var request = sharedClient.search().list(List.of("snippet")).setQ("never gonna give you up");
+        request.getRequestHeaders().setAuthorization("Bearer " + ACCESS_TOKEN);
+        return request;
+    }
+}
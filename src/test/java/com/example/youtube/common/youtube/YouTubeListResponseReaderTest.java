@@ -0,0 +1,119 @@
+package com.example.youtube.common.youtube;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class YouTubeListResponseReaderTest {
+
+    private final YouTubeListResponseReader reader = new YouTubeListResponseReader();
+
+    private YouTubeListResponseReader.ListResponse read(String json) throws IOException {
+        return reader.read(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    void readsSearchResultsFromIdObject() throws IOException {
+        var response = read("""
+                {
+                  "kind": "youtube#searchListResponse",
+                  "etag": "etag-search",
+                  "nextPageToken": "CAUQAA",
+                  "regionCode": "US",
+                  "pageInfo": {"totalResults": 1000000, "resultsPerPage": 5},
+                  "items": [
+                    {
+                      "kind": "youtube#searchResult",
+                      "etag": "item-etag",
+                      "id": {"kind": "youtube#video", "videoId": "dQw4w9WgXcQ"},
+                      "snippet": {
+                        "publishedAt": "2009-10-25T06:57:33Z",
+                        "channelId": "UCuAXFkgsw1L7xaCfnd5JJOw",
+                        "title": "Never Gonna Give You Up",
+                        "description": "The official video",
+                        "thumbnails": {
+                          "default": {"url": "https://i.ytimg.com/vi/dQw4w9WgXcQ/default.jpg", "width": 120, "height": 90},
+                          "medium": {"url": "https://i.ytimg.com/vi/dQw4w9WgXcQ/mqdefault.jpg", "width": 320, "height": 180},
+                          "high": {"url": "https://i.ytimg.com/vi/dQw4w9WgXcQ/hqdefault.jpg", "width": 480, "height": 360}
+                        },
+                        "channelTitle": "Rick Astley",
+                        "liveBroadcastContent": "none",
+                        "publishTime": "2009-10-25T06:57:33Z"
+                      }
+                    },
+                    {
+                      "kind": "youtube#searchResult",
+                      "id": {"kind": "youtube#channel", "channelId": "UCuAXFkgsw1L7xaCfnd5JJOw"},
+                      "snippet": {"title": "Rick Astley", "tags": ["a", ["nested"]]}
+                    }
+                  ]
+                }
+                """);
+
+        assertThat(response.etag()).isEqualTo("etag-search");
+        assertThat(response.nextPageToken()).isEqualTo("CAUQAA");
+        assertThat(response.totalResults()).isEqualTo(1_000_000);
+        assertThat(response.items()).hasSize(2);
+        assertThat(response.items().getFirst()).isEqualTo(new YouTubeListResponseReader.VideoItem(
+                "dQw4w9WgXcQ",
+                "Never Gonna Give You Up",
+                "Rick Astley",
+                "The official video",
+                "https://i.ytimg.com/vi/dQw4w9WgXcQ/mqdefault.jpg",
+                Instant.parse("2009-10-25T06:57:33Z")
+        ));
+        assertThat(response.items().get(1).videoId()).isNull();
+    }
+
+    @Test
+    void readsPlaylistItemsFromResourceId() throws IOException {
+        var response = read("""
+                {
+                  "etag": "etag-items",
+                  "items": [
+                    {
+                      "id": "UExhYmNkZWYuNTZCNDRGNkQxMDU1N0NDNg",
+                      "snippet": {
+                        "publishedAt": "2024-01-15T10:00:00.123+01:00",
+                        "title": "Take On Me",
+                        "channelTitle": "My Channel",
+                        "thumbnails": {"default": {"url": "https://i.ytimg.com/vi/djV11Xbc914/default.jpg"}},
+                        "resourceId": {"kind": "youtube#video", "videoId": "djV11Xbc914"}
+                      },
+                      "contentDetails": {"videoId": "djV11Xbc914"}
+                    }
+                  ],
+                  "pageInfo": {"totalResults": 1, "resultsPerPage": 50}
+                }
+                """);
+
+        var item = response.items().getFirst();
+        assertThat(item.videoId()).isEqualTo("djV11Xbc914");
+        assertThat(item.thumbnailUrl()).isEqualTo("https://i.ytimg.com/vi/djV11Xbc914/default.jpg");
+        assertThat(item.publishedAt()).isEqualTo(Instant.parse("2024-01-15T09:00:00.123Z"));
+        assertThat(item.description()).isNull();
+        assertThat(response.nextPageToken()).isNull();
+        assertThat(response.totalResults()).isEqualTo(1);
+    }
+
+    @Test
+    void returnsEmptyItemsWhenFieldIsMissing() throws IOException {
+        var response = read("""
+                {"etag": "empty", "pageInfo": {"totalResults": 0}}
+                """);
+
+        assertThat(response.items()).isEmpty();
+        assertThat(response.totalResults()).isZero();
+    }
+
+    @Test
+    void rejectsNonObjectResponse() {
+        assertThatThrownBy(() -> read("[]")).isInstanceOf(IOException.class);
+    }
+}
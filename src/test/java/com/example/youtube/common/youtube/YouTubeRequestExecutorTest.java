@@ -0,0 +1,218 @@
+package com.example.youtube.common.youtube;
+
+import com.google.api.client.googleapis.json.GoogleJsonError;
+import com.google.api.client.googleapis.json.GoogleJsonResponseException;
+import com.google.api.client.http.HttpHeaders;
+import com.google.api.client.http.HttpResponseException;
+import com.google.api.services.youtube.YouTubeRequest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class YouTubeRequestExecutorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private AdaptiveConcurrencyLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        limiter = new AdaptiveConcurrencyLimiter(meterRegistry, 8, 1, 16, 0.5, 10, Duration.ofSeconds(1));
+    }
+
+    private YouTubeRequestExecutor executor(int maxAttempts, Duration budget) {
+        return new YouTubeRequestExecutor(
+                limiter, circuitBreakers(), meterRegistry, maxAttempts, Duration.ofMillis(1), Duration.ofMillis(4), budget);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static YouTubeRequest<String> request(String method) {
+        YouTubeRequest<String> request = mock(YouTubeRequest.class);
+        when(request.getRequestHeaders()).thenReturn(new HttpHeaders());
+        when(request.getRequestMethod()).thenReturn(method);
+        return request;
+    }
+
+    @Test
+    void retriesTransientFailuresOfReadsUntilSuccess() throws Exception {
+        var request = request("GET");
+        when(request.execute())
+                .thenThrow(googleError(503, "backendError", null))
+                .thenThrow(new IOException("connection reset"))
+                .thenReturn("ok");
+
+        String response = executor(4, Duration.ofSeconds(5)).execute(request, "token");
+
+        assertThat(response).isEqualTo("ok");
+        verify(request, times(3)).execute();
+        assertThat(retries("503")).isEqualTo(1);
+        assertThat(retries("io")).isEqualTo(1);
+        assertThat(limiter.inFlight()).isZero();
+    }
+
+    @Test
+    void stopsAfterMaxAttempts() throws Exception {
+        var request = request("GET");
+        when(request.execute()).thenThrow(googleError(500, "backendError", null));
+
+        assertThatThrownBy(() -> executor(3, Duration.ofSeconds(5)).execute(request, "token"))
+                .isInstanceOf(GoogleJsonResponseException.class);
+
+        verify(request, times(3)).execute();
+    }
+
+    @Test
+    void keepsEarlierAttemptsOnTheFinalFailure() throws Exception {
+        var request = request("GET");
+        var readTimeout = new SocketTimeoutException("Read timed out");
+        when(request.execute())
+                .thenThrow(readTimeout)
+                .thenThrow(new ConnectException("Connection refused"));
+
+        assertThatThrownBy(() -> executor(2, Duration.ofSeconds(5)).execute(request, "token"))
+                .isInstanceOf(ConnectException.class)
+                .satisfies(failure -> assertThat(failure.getSuppressed()).containsExactly(readTimeout));
+    }
+
+    @Test
+    void doesNotRetryWritesAfterServerErrors() throws Exception {
+        var request = request("POST");
+        when(request.execute()).thenThrow(googleError(503, "backendError", null));
+
+        assertThatThrownBy(() -> executor(4, Duration.ofSeconds(5)).execute(request, "token"))
+                .isInstanceOf(GoogleJsonResponseException.class);
+
+        verify(request, times(1)).execute();
+    }
+
+    @Test
+    void retriesRejectedWrites() throws Exception {
+        var request = request("POST");
+        when(request.execute())
+                .thenThrow(googleError(429, "rateLimitExceeded", null))
+                .thenReturn("inserted");
+
+        assertThat(executor(4, Duration.ofSeconds(5)).execute(request, "token")).isEqualTo("inserted");
+        assertThat(retries("rate_limited")).isEqualTo(1);
+    }
+
+    @Test
+    void doesNotRetryClientErrors() throws Exception {
+        var request = request("GET");
+        when(request.execute()).thenThrow(googleError(404, "playlistNotFound", null));
+
+        assertThatThrownBy(() -> executor(4, Duration.ofSeconds(5)).execute(request, "token"))
+                .isInstanceOf(GoogleJsonResponseException.class);
+
+        verify(request, times(1)).execute();
+    }
+
+    @Test
+    void givesUpWhenRetryAfterExceedsBudget() throws Exception {
+        var request = request("GET");
+        when(request.execute()).thenThrow(googleError(503, "backendError", "30"));
+
+        assertThatThrownBy(() -> executor(4, Duration.ofSeconds(5)).execute(request, "token"))
+                .isInstanceOf(GoogleJsonResponseException.class);
+
+        verify(request, times(1)).execute();
+    }
+
+    @Test
+    void waitsAtLeastRetryAfter() throws Exception {
+        var request = request("GET");
+        when(request.execute())
+                .thenThrow(googleError(429, "rateLimitExceeded", "1"))
+                .thenReturn("ok");
+
+        long started = System.nanoTime();
+        executor(4, Duration.ofSeconds(5)).execute(request, "token");
+
+        assertThat(Duration.ofNanos(System.nanoTime() - started)).isGreaterThanOrEqualTo(Duration.ofSeconds(1));
+    }
+
+    @Test
+    void failsFastOnceCircuitOpens() throws Exception {
+        var circuitBreakers = new YouTubeCircuitBreakers(
+                meterRegistry, 4, 2, 50, 100, Duration.ofSeconds(5), Duration.ofMinutes(1), 1);
+        var executor = new YouTubeRequestExecutor(
+                limiter, circuitBreakers, meterRegistry, 1, Duration.ofMillis(1), Duration.ofMillis(1), Duration.ofSeconds(1));
+        var request = request("GET");
+        when(request.getUriTemplate()).thenReturn("search");
+        when(request.execute()).thenThrow(googleError(503, "backendError", null));
+
+        for (int call = 0; call < 2; call++) {
+            assertThatThrownBy(() -> executor.execute(request, "token")).isInstanceOf(GoogleJsonResponseException.class);
+        }
+        assertThatThrownBy(() -> executor.execute(request, "token"))
+                .isInstanceOf(CircuitBreaker.CallNotPermittedException.class);
+
+        verify(request, times(2)).execute();
+        assertThat(circuitBreakers.snapshots().get("search.list").state()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(limiter.inFlight()).isZero();
+    }
+
+    @Test
+    void classifiesFailuresThatNeverLeftTheServiceAsNotSent() {
+        assertThat(YouTubeRequestExecutor.wasNeverSent(new ConnectException("Connection refused"))).isTrue();
+        assertThat(YouTubeRequestExecutor.wasNeverSent(new UnknownHostException("youtube.googleapis.com"))).isTrue();
+        assertThat(YouTubeRequestExecutor.wasNeverSent(
+                new CircuitBreaker.CallNotPermittedException("Circuit breaker is OPEN"))).isTrue();
+        assertThat(YouTubeRequestExecutor.wasNeverSent(
+                new AdaptiveConcurrencyLimiter.LimitExceededException("YouTube call queue is full"))).isTrue();
+    }
+
+    @Test
+    void classifiesFailuresAfterDispatchAsSent() {
+        assertThat(YouTubeRequestExecutor.wasNeverSent(new IOException("Connection reset"))).isFalse();
+        assertThat(YouTubeRequestExecutor.wasNeverSent(new SocketTimeoutException("Read timed out"))).isFalse();
+        assertThat(YouTubeRequestExecutor.wasNeverSent(googleError(503, "backendError", null))).isFalse();
+    }
+
+    @Test
+    void classifiesConnectFailureAsSentWhenAnEarlierAttemptWasSent() {
+        var failure = new ConnectException("Connection refused");
+        failure.addSuppressed(new SocketTimeoutException("Read timed out"));
+
+        assertThat(YouTubeRequestExecutor.wasNeverSent(failure)).isFalse();
+    }
+
+    private double retries(String reason) {
+        var counter = meterRegistry.find("youtube.requests.retries").tag("reason", reason).counter();
+        return counter != null ? counter.count() : 0;
+    }
+
+    private YouTubeCircuitBreakers circuitBreakers() {
+        return new YouTubeCircuitBreakers(
+                meterRegistry, 20, 10, 50, 80, Duration.ofSeconds(5), Duration.ofSeconds(30), 3);
+    }
+
+    private static GoogleJsonResponseException googleError(int status, String reason, String retryAfter) {
+        var info = new GoogleJsonError.ErrorInfo();
+        info.setReason(reason);
+        var details = new GoogleJsonError();
+        details.setCode(status);
+        details.setMessage(reason);
+        details.setErrors(List.of(info));
+        var headers = new HttpHeaders();
+        if (retryAfter != null) {
+            headers.setRetryAfter(retryAfter);
+        }
+        return new GoogleJsonResponseException(
+                new HttpResponseException.Builder(status, reason, headers), details);
+    }
+}
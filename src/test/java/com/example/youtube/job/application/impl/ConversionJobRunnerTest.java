@@ -0,0 +1,185 @@
+package com.example.youtube.job.application.impl;
+
+import com.example.youtube.auth.application.TokenQuery;
+import com.example.youtube.auth.domain.entity.Token;
+import com.example.youtube.common.result.Error;
+import com.example.youtube.common.result.Result;
+import com.example.youtube.job.domain.entity.ConversionJob;
+import com.example.youtube.job.domain.entity.JobProgress;
+import com.example.youtube.job.domain.repository.ConversionJobRepository;
+import com.example.youtube.playlist.application.PlaylistUseCase;
+import com.example.youtube.playlist.domain.entity.BulkInsertReport;
+import com.example.youtube.playlist.domain.entity.InsertOutcome;
+import com.example.youtube.playlist.domain.entity.VideoId;
+import com.example.youtube.search.application.SearchUseCase;
+import com.example.youtube.search.domain.entity.SearchResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ConversionJobRunnerTest {
+
+    private static final String SESSION_ID = "session-1";
+
+    @Mock
+    private ConversionJobRepository jobRepository;
+
+    @Mock
+    private TokenQuery tokenQuery;
+
+    @Mock
+    private SearchUseCase searchUseCase;
+
+    @Mock
+    private PlaylistUseCase playlistUseCase;
+
+    private ConversionJobRunner jobRunner;
+
+    @BeforeEach
+    void setUp() {
+        jobRunner = new ConversionJobRunner(jobRepository, tokenQuery, searchUseCase, playlistUseCase, 2);
+        lenient().when(jobRepository.save(any())).thenReturn(Result.successVoid());
+        lenient().when(tokenQuery.findSessionToken(SESSION_ID)).thenReturn(Result.success(validToken()));
+        lenient().when(tokenQuery.callAs(any(), any()))
+                .thenAnswer(invocation -> ((Supplier<?>) invocation.getArgument(1)).get());
+    }
+
+    private static ConversionJob job(String... trackNames) {
+        var tracks = Arrays.stream(trackNames).map(name -> new ConversionJob.Track(name, "Artist")).toList();
+        return ConversionJob.submit("PLtarget", tracks, "UCowner", SESSION_ID).getOrElse(null);
+    }
+
+    private static Token validToken() {
+        return Token.fromStoredData("access", "refresh", Instant.now().plusSeconds(3600), "Bearer");
+    }
+
+    private static SearchUseCase.MusicMatchResult matched(String track, String videoId) {
+        return new SearchUseCase.MusicMatchResult(
+                new SearchUseCase.MusicSearchRequest(track, "Artist"),
+                Result.success(SearchResult.of(VideoId.fromYouTubeId(videoId), track, "Artist", null, null, 0.9))
+        );
+    }
+
+    private static SearchUseCase.MusicMatchResult missing(String track) {
+        return new SearchUseCase.MusicMatchResult(
+                new SearchUseCase.MusicSearchRequest(track, "Artist"),
+                Result.failure(Error.resourceNotFoundError("Music video", track))
+        );
+    }
+
+    private ConversionJob lastSaved() {
+        ArgumentCaptor<ConversionJob> saved = ArgumentCaptor.forClass(ConversionJob.class);
+        verify(jobRepository, atLeastOnce()).save(saved.capture());
+        return saved.getValue();
+    }
+
+    @Test
+    void convertsTracksInChunksAndRecordsProgress() {
+        ConversionJob job = job("one", "two", "three");
+        when(jobRepository.findById(job.id())).thenReturn(Result.success(job));
+        when(searchUseCase.searchMusicVideos(any()))
+                .thenReturn(Result.success(List.of(matched("one", "video1"), missing("two"))))
+                .thenReturn(Result.success(List.of(matched("three", "video3"))));
+        when(playlistUseCase.addVideosToPlaylist(new PlaylistUseCase.AddVideosRequest("PLtarget", List.of("video1"), job.id() + ":0")))
+                .thenReturn(Result.success(BulkInsertReport.of("PLtarget", List.of(InsertOutcome.inserted("video1", 0, "item1")))));
+        when(playlistUseCase.addVideosToPlaylist(new PlaylistUseCase.AddVideosRequest("PLtarget", List.of("video3"), job.id() + ":2")))
+                .thenReturn(Result.success(BulkInsertReport.of("PLtarget", List.of(InsertOutcome.alreadyPresent("video3")))));
+
+        jobRunner.run(job.id());
+
+        ConversionJob finished = lastSaved();
+        assertThat(finished.status()).isEqualTo(ConversionJob.Status.COMPLETED);
+        assertThat(finished.progress()).isEqualTo(new JobProgress(3, 2, 1, 1, 1, 0));
+        verify(searchUseCase, times(2)).searchMusicVideos(any());
+    }
+
+    @Test
+    void resumesAfterAlreadyProcessedTracks() {
+        ConversionJob job = job("one", "two", "three").advance(new JobProgress(2, 2, 0, 2, 0, 0));
+        when(jobRepository.findById(job.id())).thenReturn(Result.success(job));
+        when(searchUseCase.searchMusicVideos(new SearchUseCase.BatchMusicSearchRequest(
+                List.of(new SearchUseCase.MusicSearchRequest("three", "Artist")))))
+                .thenReturn(Result.success(List.of(missing("three"))));
+
+        jobRunner.run(job.id());
+
+        assertThat(lastSaved().progress().processed()).isEqualTo(3);
+        verify(playlistUseCase, never()).addVideosToPlaylist(any());
+    }
+
+    @Test
+    void refreshesExpiringSessionTokenBeforeWorking() {
+        Token expiring = Token.fromStoredData("old", "refresh", Instant.now().plusSeconds(60), "Bearer");
+        Token refreshed = validToken();
+        ConversionJob job = job("one");
+        when(jobRepository.findById(job.id())).thenReturn(Result.success(job));
+        when(tokenQuery.findSessionToken(SESSION_ID)).thenReturn(Result.success(expiring));
+        when(tokenQuery.refreshSessionToken(SESSION_ID)).thenReturn(Result.success(refreshed));
+        when(searchUseCase.searchMusicVideos(any())).thenReturn(Result.success(List.of(missing("one"))));
+
+        jobRunner.run(job.id());
+
+        verify(tokenQuery).callAs(eq(refreshed), any());
+        assertThat(lastSaved().status()).isEqualTo(ConversionJob.Status.COMPLETED);
+    }
+
+    @Test
+    void failsJobWhenSessionHasEnded() {
+        ConversionJob job = job("one");
+        when(jobRepository.findById(job.id())).thenReturn(Result.success(job));
+        when(tokenQuery.findSessionToken(SESSION_ID))
+                .thenReturn(Result.failure(Error.authenticationError("Session has ended", "Please re-authenticate")));
+
+        jobRunner.run(job.id());
+
+        assertThat(lastSaved().status()).isEqualTo(ConversionJob.Status.FAILED);
+        verify(searchUseCase, never()).searchMusicVideos(any());
+    }
+
+    @Test
+    void failsJobWhenQuotaIsExhausted() {
+        ConversionJob job = job("one");
+        when(jobRepository.findById(job.id())).thenReturn(Result.success(job));
+        when(searchUseCase.searchMusicVideos(any())).thenReturn(Result.success(List.of(new SearchUseCase.MusicMatchResult(
+                new SearchUseCase.MusicSearchRequest("one", "Artist"),
+                Result.failure(Error.quotaExceededError(10_000, 10_000))
+        ))));
+
+        jobRunner.run(job.id());
+
+        ConversionJob failed = lastSaved();
+        assertThat(failed.status()).isEqualTo(ConversionJob.Status.FAILED);
+        assertThat(failed.error()).isNotBlank();
+        assertThat(failed.progress().processed()).isZero();
+    }
+
+    @Test
+    void skipsFinishedJobs() {
+        ConversionJob job = job("one").complete();
+        when(jobRepository.findById(job.id())).thenReturn(Result.success(job));
+
+        jobRunner.run(job.id());
+
+        verify(jobRepository, never()).save(any());
+        verify(searchUseCase, never()).searchMusicVideos(any());
+    }
+}
@@ -0,0 +1,158 @@
+package com.example.youtube.job.application.impl;
+
+import com.example.youtube.auth.application.TokenQuery;
+import com.example.youtube.common.result.Error;
+import com.example.youtube.common.result.Result;
+import com.example.youtube.job.application.JobUseCase;
+import com.example.youtube.job.domain.entity.ConversionJob;
+import com.example.youtube.job.domain.repository.ConversionJobRepository;
+import com.example.youtube.job.domain.repository.JobQueue;
+import com.example.youtube.playlist.application.PlaylistUseCase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class JobServiceTest {
+
+    @Mock
+    private TokenQuery tokenQuery;
+
+    @Mock
+    private PlaylistUseCase playlistUseCase;
+
+    @Mock
+    private ConversionJobRepository jobRepository;
+
+    @Mock
+    private JobQueue jobQueue;
+
+    private JobService jobService;
+
+    @BeforeEach
+    void setUp() {
+        jobService = new JobService(tokenQuery, playlistUseCase, jobRepository, jobQueue, 2);
+    }
+
+    @Test
+    void storesJobWithOwnerAndSessionReferenceAndEnqueuesIt() {
+        when(tokenQuery.currentSessionId()).thenReturn(Result.success("session-1"));
+        when(playlistUseCase.getCurrentChannelId()).thenReturn(Result.success("UCowner"));
+        when(jobRepository.save(any())).thenReturn(Result.successVoid());
+        when(jobQueue.enqueue(anyString())).thenReturn(Result.successVoid());
+
+        var request = new JobUseCase.SubmitJobRequest("PLtarget", List.of(new JobUseCase.TrackRequest("Song", "Artist")));
+        ConversionJob job = jobService.submitJob(request).getOrElse(null);
+
+        assertThat(job.status()).isEqualTo(ConversionJob.Status.QUEUED);
+        assertThat(job.ownerId()).isEqualTo("UCowner");
+        assertThat(job.sessionId()).isEqualTo("session-1");
+        assertThat(job.tracks()).containsExactly(new ConversionJob.Track("Song", "Artist"));
+        verify(jobQueue).enqueue(job.id());
+    }
+
+    @Test
+    void rejectsJobsWithoutSignedInSession() {
+        when(tokenQuery.currentSessionId()).thenReturn(Result.failure(Error.authenticationError(
+                "A signed-in session is required", "Bearer tokens cannot be refreshed in the background")));
+
+        var result = jobService.submitJob(new JobUseCase.SubmitJobRequest(
+                "PLtarget", List.of(new JobUseCase.TrackRequest("Song", "Artist"))));
+
+        assertThat(result.isFailure()).isTrue();
+        verify(jobRepository, never()).save(any());
+    }
+
+    @Test
+    void marksJobFailedWhenItCannotBeEnqueued() {
+        Error down = Error.externalServiceError("Redis", "down", null);
+        when(tokenQuery.currentSessionId()).thenReturn(Result.success("session-1"));
+        when(playlistUseCase.getCurrentChannelId()).thenReturn(Result.success("UCowner"));
+        when(jobRepository.save(any())).thenReturn(Result.successVoid());
+        when(jobQueue.enqueue(anyString())).thenReturn(Result.failure(down));
+
+        var result = jobService.submitJob(new JobUseCase.SubmitJobRequest(
+                "PLtarget", List.of(new JobUseCase.TrackRequest("Song", "Artist"))));
+
+        assertThat(result).isEqualTo(Result.failure(down));
+        ArgumentCaptor<ConversionJob> saved = ArgumentCaptor.forClass(ConversionJob.class);
+        verify(jobRepository, times(2)).save(saved.capture());
+        assertThat(saved.getValue().status()).isEqualTo(ConversionJob.Status.FAILED);
+    }
+
+    @Test
+    void returnsJobToItsOwner() {
+        ConversionJob job = ConversionJob.submit(
+                "PLtarget", List.of(new ConversionJob.Track("Song", "Artist")), "UCowner", "session-1").getOrElse(null);
+        when(playlistUseCase.getCurrentChannelId()).thenReturn(Result.success("UCowner"));
+        when(jobRepository.findById(job.id())).thenReturn(Result.success(job));
+
+        assertThat(jobService.getJob(job.id())).isEqualTo(Result.success(job));
+    }
+
+    @Test
+    void hidesJobsOfOtherUsers() {
+        ConversionJob job = ConversionJob.submit(
+                "PLtarget", List.of(new ConversionJob.Track("Song", "Artist")), "UCowner", "session-1").getOrElse(null);
+        when(playlistUseCase.getCurrentChannelId()).thenReturn(Result.success("UCintruder"));
+        when(jobRepository.findById(job.id())).thenReturn(Result.success(job));
+
+        assertThat(jobService.getJob(job.id()))
+                .isEqualTo(Result.failure(Error.resourceNotFoundError("Conversion job", job.id())));
+    }
+
+    @Test
+    void rejectsTracklistsAboveTheLimit() {
+        var tracks = List.of(
+                new JobUseCase.TrackRequest("One", "Artist"),
+                new JobUseCase.TrackRequest("Two", "Artist"),
+                new JobUseCase.TrackRequest("Three", "Artist")
+        );
+
+        var result = jobService.submitJob(new JobUseCase.SubmitJobRequest("PLtarget", tracks));
+
+        assertThat(result.isFailure()).isTrue();
+        verify(jobQueue, never()).enqueue(anyString());
+    }
+
+    @Test
+    void rejectsTracksWithoutArtist() {
+        var result = jobService.submitJob(new JobUseCase.SubmitJobRequest(
+                "PLtarget", List.of(new JobUseCase.TrackRequest("Song", " "))));
+
+        result.fold(
+                _ -> null,
+                error -> {
+                    assertThat(((Error.InvalidInputError) error).field()).isEqualTo("tracks[0]");
+                    return null;
+                }
+        );
+        assertThat(result.isFailure()).isTrue();
+    }
+
+    @Test
+    void doesNotEnqueueWhenJobCannotBeStored() {
+        when(tokenQuery.currentSessionId()).thenReturn(Result.success("session-1"));
+        when(playlistUseCase.getCurrentChannelId()).thenReturn(Result.success("UCowner"));
+        when(jobRepository.save(any())).thenReturn(Result.failure(Error.externalServiceError("Redis", "down", null)));
+
+        var result = jobService.submitJob(new JobUseCase.SubmitJobRequest(
+                "PLtarget", List.of(new JobUseCase.TrackRequest("Song", "Artist"))));
+
+        assertThat(result.isFailure()).isTrue();
+        verify(jobQueue, never()).enqueue(anyString());
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.youtube.playlist.api;
+
+import com.example.youtube.common.result.Error;
+import com.example.youtube.common.result.Result;
+import com.example.youtube.playlist.application.PlaylistUseCase;
+import com.example.youtube.playlist.domain.entity.YouTubeVideo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.List;
+
+import static org.hamcrest.Matchers.startsWith;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+class PlaylistControllerTest {
+
+    @Mock
+    private PlaylistUseCase playlistUseCase;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        var objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        mockMvc = MockMvcBuilders.standaloneSetup(new PlaylistController(playlistUseCase, objectMapper)).build();
+    }
+
+    @Test
+    void streamsVideosAsNdjsonLines() throws Exception {
+        var video = YouTubeVideo.create("dQw4w9WgXcQ", "Song", "Artist", "", 0, null, null).getOrElse(null);
+        PlaylistUseCase.VideoStream stream = pageConsumer -> {
+            pageConsumer.accept(List.of(video));
+            return Result.successVoid();
+        };
+        when(playlistUseCase.streamPlaylistVideos("PL1", false)).thenReturn(Result.success(stream));
+
+        MvcResult result = stream(get("/v1/playlists/PL1/videos/stream"));
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string(startsWith("{\"id\":\"dQw4w9WgXcQ\"")));
+    }
+
+    @Test
+    void writesFailureBeforeFirstPageAsNdjsonErrorLineWithStatus() throws Exception {
+        when(playlistUseCase.streamPlaylistVideos("PL1", false))
+                .thenReturn(Result.failure(Error.authenticationError("Not authenticated", "No session")));
+
+        MvcResult result = stream(get("/v1/playlists/PL1/videos/stream"));
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isUnauthorized())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().json(
+                        "{\"error\":{\"type\":\"AUTHENTICATION_ERROR\",\"message\":\"Not authenticated\",\"details\":\"No session\"}}"));
+    }
+
+    @Test
+    void writesErrorLineForWildcardAndNdjsonAcceptHeaders() throws Exception {
+        when(playlistUseCase.streamPlaylistVideos("PL1", false))
+                .thenReturn(Result.failure(Error.resourceNotFoundError("Playlist", "PL1")));
+
+        for (MediaType accept : List.of(MediaType.ALL, MediaType.APPLICATION_NDJSON)) {
+            MvcResult result = stream(get("/v1/playlists/PL1/videos/stream").accept(accept));
+
+            mockMvc.perform(asyncDispatch(result))
+                    .andExpect(status().isNotFound())
+                    .andExpect(content().contentType(MediaType.APPLICATION_NDJSON));
+        }
+    }
+
+    private MvcResult stream(MockHttpServletRequestBuilder builder) throws Exception {
+        return mockMvc.perform(builder)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+    }
+}
@@ -5,10 +5,18 @@ import com.example.youtube.auth.domain.entity.Token;
 import com.example.youtube.common.result.Error;
 import com.example.youtube.common.result.Result;
 import com.example.youtube.playlist.application.PlaylistUseCase;
+import com.example.youtube.playlist.domain.entity.BulkInsertReport;
+import com.example.youtube.playlist.domain.entity.InsertOutcome;
 import com.example.youtube.playlist.domain.entity.PageResult;
+import com.example.youtube.playlist.domain.entity.VideoDetails;
 import com.example.youtube.playlist.domain.entity.YouTubePlaylist;
 import com.example.youtube.playlist.domain.entity.YouTubeVideo;
+import com.example.youtube.playlist.domain.repository.ImportCheckpointRepository;
+import com.example.youtube.playlist.domain.repository.PlaylistCache;
+import com.example.youtube.playlist.domain.repository.PlaylistContentsCache;
+import com.example.youtube.playlist.domain.repository.VideoDetailsCache;
 import com.example.youtube.playlist.domain.service.YouTubePlaylistPort;
+import com.example.youtube.quota.domain.entity.QuotaReservation;
 import com.example.youtube.quota.domain.service.QuotaService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
@@ -17,20 +25,29 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.net.ConnectException;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class PlaylistServiceTest {
 
+    private static final String IMPORT_KEY = "UCowner:PLtest123:import-1";
+
     @Mock
     private TokenQuery tokenQuery;
 
@@ -40,13 +57,33 @@ class PlaylistServiceTest {
     @Mock
     private QuotaService quotaService;
 
+    @Mock
+    private PlaylistCache playlistCache;
+
+    @Mock
+    private PlaylistContentsCache contentsCache;
+
+    @Mock
+    private ImportCheckpointRepository checkpointRepository;
+
+    @Mock
+    private VideoDetailsCache videoDetailsCache;
+
     private PlaylistService playlistService;
 
     private static final String ACCESS_TOKEN = "valid-access-token";
 
     @BeforeEach
     void setUp() {
-        playlistService = new PlaylistService(tokenQuery, youtubePlaylistPort, quotaService);
+        playlistService = new PlaylistService(
+                tokenQuery,
+                youtubePlaylistPort,
+                quotaService,
+                playlistCache,
+                contentsCache,
+                checkpointRepository,
+                new PlaylistVideoEnricher(youtubePlaylistPort, quotaService, videoDetailsCache)
+        );
     }
 
     private Token createValidToken() {
@@ -68,8 +105,10 @@ class PlaylistServiceTest {
             ).fold(p -> p, e -> null);
 
             when(tokenQuery.getCurrentUserToken()).thenReturn(Result.success(token));
-            when(quotaService.consumeQuota(QuotaService.PLAYLISTS_LIST_COST)).thenReturn(Result.successVoid());
-            when(youtubePlaylistPort.getUserPlaylists(ACCESS_TOKEN)).thenReturn(Result.success(List.of(playlist)));
+            when(quotaService.reserveQuota(QuotaService.PLAYLISTS_LIST_COST))
+                    .thenReturn(Result.success(new QuotaReservation(QuotaService.PLAYLISTS_LIST_COST)));
+            when(youtubePlaylistPort.getUserPlaylists(ACCESS_TOKEN, null))
+                    .thenReturn(Result.success(PageResult.of(List.of(playlist), null, 1)));
 
             Result<List<YouTubePlaylist>, Error> result = playlistService.getUserPlaylists();
 
@@ -84,6 +123,48 @@ class PlaylistServiceTest {
             );
         }
 
+        @Test
+        void followsPageTokensUntilListIsComplete() {
+            Token token = createValidToken();
+            YouTubePlaylist first = YouTubePlaylist.create(
+                    "PLfirst", "First", "", "UCchannel", "My Channel", 1, null, Instant.now()
+            ).fold(p -> p, e -> null);
+            YouTubePlaylist second = YouTubePlaylist.create(
+                    "PLsecond", "Second", "", "UCchannel", "My Channel", 2, null, Instant.now()
+            ).fold(p -> p, e -> null);
+
+            when(tokenQuery.getCurrentUserToken()).thenReturn(Result.success(token));
+            when(quotaService.reserveQuota(QuotaService.PLAYLISTS_LIST_COST))
+                    .thenReturn(Result.success(new QuotaReservation(QuotaService.PLAYLISTS_LIST_COST)));
+            when(youtubePlaylistPort.getUserPlaylists(ACCESS_TOKEN, null))
+                    .thenReturn(Result.success(PageResult.of(List.of(first), "page2", 2)));
+            when(youtubePlaylistPort.getUserPlaylists(ACCESS_TOKEN, "page2"))
+                    .thenReturn(Result.success(PageResult.of(List.of(second), null, 2)));
+
+            Result<List<YouTubePlaylist>, Error> result = playlistService.getUserPlaylists();
+
+            assertThat(result.getOrElse(List.of())).extracting(YouTubePlaylist::title).containsExactly("First", "Second");
+            verify(quotaService, times(2)).reserveQuota(QuotaService.PLAYLISTS_LIST_COST);
+            verify(playlistCache).store(ACCESS_TOKEN, List.of(first, second));
+        }
+
+        @Test
+        void servesCachedPlaylistsWithoutConsumingQuota() {
+            Token token = createValidToken();
+            YouTubePlaylist cached = YouTubePlaylist.create(
+                    "PLcached", "Cached", "", "UCchannel", "My Channel", 3, null, Instant.now()
+            ).fold(p -> p, e -> null);
+
+            when(tokenQuery.getCurrentUserToken()).thenReturn(Result.success(token));
+            when(playlistCache.find(ACCESS_TOKEN)).thenReturn(Optional.of(List.of(cached)));
+
+            Result<List<YouTubePlaylist>, Error> result = playlistService.getUserPlaylists();
+
+            assertThat(result.getOrElse(List.of())).containsExactly(cached);
+            verify(quotaService, never()).reserveQuota(anyInt());
+            verify(youtubePlaylistPort, never()).getUserPlaylists(any(), any());
+        }
+
         @Test
         void failsWhenTokenNotFound() {
             when(tokenQuery.getCurrentUserToken())
@@ -92,15 +173,15 @@ class PlaylistServiceTest {
             Result<List<YouTubePlaylist>, Error> result = playlistService.getUserPlaylists();
 
             assertThat(result.isFailure()).isTrue();
-            verify(quotaService, never()).consumeQuota(anyInt());
-            verify(youtubePlaylistPort, never()).getUserPlaylists(any());
+            verify(quotaService, never()).reserveQuota(anyInt());
+            verify(youtubePlaylistPort, never()).getUserPlaylists(any(), any());
         }
 
         @Test
         void failsWhenQuotaExceeded() {
             Token token = createValidToken();
             when(tokenQuery.getCurrentUserToken()).thenReturn(Result.success(token));
-            when(quotaService.consumeQuota(QuotaService.PLAYLISTS_LIST_COST))
+            when(quotaService.reserveQuota(QuotaService.PLAYLISTS_LIST_COST))
                     .thenReturn(Result.failure(Error.quotaExceededError(10000, 10000)));
 
             Result<List<YouTubePlaylist>, Error> result = playlistService.getUserPlaylists();
@@ -113,7 +194,7 @@ class PlaylistServiceTest {
                         return null;
                     }
             );
-            verify(youtubePlaylistPort, never()).getUserPlaylists(any());
+            verify(youtubePlaylistPort, never()).getUserPlaylists(any(), any());
         }
     }
 
@@ -129,7 +210,8 @@ class PlaylistServiceTest {
             ).fold(p -> p, e -> null);
 
             when(tokenQuery.getCurrentUserToken()).thenReturn(Result.success(token));
-            when(quotaService.consumeQuota(QuotaService.PLAYLISTS_INSERT_COST)).thenReturn(Result.successVoid());
+            when(quotaService.reserveQuota(QuotaService.PLAYLISTS_INSERT_COST))
+                    .thenReturn(Result.success(new QuotaReservation(QuotaService.PLAYLISTS_INSERT_COST)));
             when(youtubePlaylistPort.createPlaylist(ACCESS_TOKEN, "New Playlist", "My new playlist"))
                     .thenReturn(Result.success(createdPlaylist));
 
@@ -144,6 +226,7 @@ class PlaylistServiceTest {
                     },
                     _ -> null
             );
+            verify(playlistCache).add(ACCESS_TOKEN, createdPlaylist);
         }
 
         @Test
@@ -170,23 +253,283 @@ class PlaylistServiceTest {
         void addsVideosSuccessfully() {
             Token token = createValidToken();
             List<String> videoIds = List.of("video1", "video2");
+            BulkInsertReport report = BulkInsertReport.of("PLtest123", List.of(
+                    InsertOutcome.inserted("video1", 0, "item1"),
+                    InsertOutcome.inserted("video2", 1, "item2")
+            ));
+
+            when(tokenQuery.getCurrentUserToken()).thenReturn(Result.success(token));
+            when(contentsCache.find("PLtest123")).thenReturn(Optional.of(Set.of()));
+            int totalCost = QuotaService.PLAYLISTS_LIST_COST + videoIds.size() * QuotaService.PLAYLIST_ITEMS_INSERT_COST;
+            when(quotaService.reserveQuota(totalCost)).thenReturn(Result.success(new QuotaReservation(totalCost)));
+            when(youtubePlaylistPort.addVideosToPlaylist(eq(ACCESS_TOKEN), eq("PLtest123"), eq(videoIds), any()))
+                    .thenReturn(Result.success(report));
+
+            var request = new PlaylistUseCase.AddVideosRequest("PLtest123", videoIds);
+            Result<BulkInsertReport, Error> result = playlistService.addVideosToPlaylist(request);
+
+            assertThat(result.isSuccess()).isTrue();
+            result.fold(
+                    r -> {
+                        assertThat(r.insertedCount()).isEqualTo(2);
+                        assertThat(r.isComplete()).isTrue();
+                        return null;
+                    },
+                    _ -> null
+            );
+            verify(playlistCache).invalidate(ACCESS_TOKEN);
+            verify(contentsCache).addAll("PLtest123", List.of("video1", "video2"));
+        }
+
+        @Test
+        void skipsRepeatedAndAlreadyPresentVideosBeforeReservingQuota() {
+            Token token = createValidToken();
+            BulkInsertReport report = BulkInsertReport.of("PLtest123", List.of(
+                    InsertOutcome.inserted("video2", 5, "item2")
+            ));
+
+            when(tokenQuery.getCurrentUserToken()).thenReturn(Result.success(token));
+            when(contentsCache.find("PLtest123")).thenReturn(Optional.of(Set.of("video1")));
+            int totalCost = QuotaService.PLAYLISTS_LIST_COST + QuotaService.PLAYLIST_ITEMS_INSERT_COST;
+            when(quotaService.reserveQuota(totalCost)).thenReturn(Result.success(new QuotaReservation(totalCost)));
+            when(youtubePlaylistPort.addVideosToPlaylist(eq(ACCESS_TOKEN), eq("PLtest123"), eq(List.of("video2")), any()))
+                    .thenReturn(Result.success(report));
+
+            var request = new PlaylistUseCase.AddVideosRequest("PLtest123", List.of("video1", "video2", "video2"));
+            BulkInsertReport result = playlistService.addVideosToPlaylist(request).getOrElse(null);
+
+            assertThat(result.outcomes()).extracting(InsertOutcome::status).containsExactly(
+                    InsertOutcome.Status.ALREADY_PRESENT,
+                    InsertOutcome.Status.INSERTED,
+                    InsertOutcome.Status.DUPLICATE
+            );
+            assertThat(result.insertedCount()).isEqualTo(1);
+            assertThat(result.skippedVideoIds()).containsExactly("video1", "video2");
+        }
+
+        @Test
+        void makesNoInsertCallsWhenEveryVideoIsAlreadyPresent() {
+            Token token = createValidToken();
+
+            when(tokenQuery.getCurrentUserToken()).thenReturn(Result.success(token));
+            when(contentsCache.find("PLtest123")).thenReturn(Optional.of(Set.of("video1", "video2")));
+
+            var request = new PlaylistUseCase.AddVideosRequest("PLtest123", List.of("video1", "video2"));
+            BulkInsertReport result = playlistService.addVideosToPlaylist(request).getOrElse(null);
+
+            assertThat(result.skippedCount()).isEqualTo(2);
+            verify(quotaService, never()).reserveQuota(anyInt());
+            verify(youtubePlaylistPort, never()).addVideosToPlaylist(any(), any(), any(), any());
+        }
+
+        @Test
+        void rebuildsPlaylistContentsFromListPagesOnCacheMiss() {
+            Token token = createValidToken();
+            YouTubeVideo existing = YouTubeVideo.create("video1", "Existing", "Channel", null, 0, null, Instant.now())
+                    .getOrElse(null);
+            YouTubeVideo other = YouTubeVideo.create("video9", "Other", "Channel", null, 0, null, Instant.now())
+                    .getOrElse(null);
+
+            when(tokenQuery.getCurrentUserToken()).thenReturn(Result.success(token));
+            when(contentsCache.find("PLtest123")).thenReturn(Optional.empty());
+            when(quotaService.reserveQuota(anyInt()))
+                    .thenAnswer(invocation -> Result.success(new QuotaReservation(invocation.getArgument(0))));
+            when(youtubePlaylistPort.getPlaylistVideos(ACCESS_TOKEN, "PLtest123", 50, null))
+                    .thenReturn(Result.success(PageResult.of(List.of(existing), "page2", 2)));
+            when(youtubePlaylistPort.getPlaylistVideos(ACCESS_TOKEN, "PLtest123", 50, "page2"))
+                    .thenReturn(Result.success(PageResult.of(List.of(other), null, 2)));
+
+            var request = new PlaylistUseCase.AddVideosRequest("PLtest123", List.of("video1", "video9"));
+            BulkInsertReport result = playlistService.addVideosToPlaylist(request).getOrElse(null);
+
+            assertThat(result.skippedCount()).isEqualTo(2);
+            verify(quotaService, times(2)).reserveQuota(QuotaService.PLAYLIST_ITEMS_LIST_COST);
+            verify(contentsCache).store("PLtest123", Set.of("video1", "video9"));
+            verify(youtubePlaylistPort, never()).addVideosToPlaylist(any(), any(), any(), any());
+        }
+
+        @Test
+        void reportsFailedVideosWithoutFailingTheRequest() {
+            Token token = createValidToken();
+            List<String> videoIds = List.of("video1", "video2");
+            BulkInsertReport report = BulkInsertReport.of("PLtest123", List.of(
+                    InsertOutcome.inserted("video1", 0, "item1"),
+                    InsertOutcome.failed("video2", 1, Error.externalServiceError("YouTube", "Backend error", null))
+            ));
 
             when(tokenQuery.getCurrentUserToken()).thenReturn(Result.success(token));
-            when(quotaService.consumeQuota(videoIds.size() * QuotaService.PLAYLIST_ITEMS_INSERT_COST))
-                    .thenReturn(Result.successVoid());
-            when(youtubePlaylistPort.addVideosToPlaylist(ACCESS_TOKEN, "PLtest123", videoIds))
-                    .thenReturn(Result.successVoid());
+            when(contentsCache.find("PLtest123")).thenReturn(Optional.of(Set.of()));
+            when(quotaService.reserveQuota(anyInt()))
+                    .thenAnswer(invocation -> Result.success(new QuotaReservation(invocation.getArgument(0))));
+            when(youtubePlaylistPort.addVideosToPlaylist(eq(ACCESS_TOKEN), eq("PLtest123"), eq(videoIds), any()))
+                    .thenReturn(Result.success(report));
 
             var request = new PlaylistUseCase.AddVideosRequest("PLtest123", videoIds);
-            Result<Void, Error> result = playlistService.addVideosToPlaylist(request);
+            Result<BulkInsertReport, Error> result = playlistService.addVideosToPlaylist(request);
 
             assertThat(result.isSuccess()).isTrue();
+            result.fold(
+                    r -> {
+                        assertThat(r.isComplete()).isFalse();
+                        assertThat(r.failedVideoIds()).containsExactly("video2");
+                        return null;
+                    },
+                    _ -> null
+            );
+        }
+
+        @Test
+        void releasesQuotaForInsertsThatNeverReachedYouTube() {
+            Token token = createValidToken();
+            List<String> videoIds = List.of("video1", "video2", "video3");
+            BulkInsertReport report = BulkInsertReport.of("PLtest123", List.of(
+                    InsertOutcome.inserted("video1", 0, "item1"),
+                    InsertOutcome.failed("video2", 1,
+                            Error.externalServiceError("YouTube", "Connection refused", new ConnectException("Connection refused"), true)),
+                    InsertOutcome.failed("video3", 2, Error.resourceNotFoundError("YouTube resource", "video3"))
+            ));
+
+            when(tokenQuery.getCurrentUserToken()).thenReturn(Result.success(token));
+            when(contentsCache.find("PLtest123")).thenReturn(Optional.of(Set.of()));
+            when(quotaService.reserveQuota(anyInt()))
+                    .thenAnswer(invocation -> Result.success(new QuotaReservation(invocation.getArgument(0))));
+            when(youtubePlaylistPort.addVideosToPlaylist(eq(ACCESS_TOKEN), eq("PLtest123"), eq(videoIds), any()))
+                    .thenReturn(Result.success(report));
+
+            playlistService.addVideosToPlaylist(new PlaylistUseCase.AddVideosRequest("PLtest123", videoIds));
+
+            verify(quotaService).releaseQuota(new QuotaReservation(QuotaService.PLAYLIST_ITEMS_INSERT_COST));
+            verify(quotaService).releaseQuota(any());
+        }
+
+        @Test
+        void releasesAllInsertQuotaWhenPlaylistLookupFails() {
+            Token token = createValidToken();
+            List<String> videoIds = List.of("video1", "video2");
+
+            when(tokenQuery.getCurrentUserToken()).thenReturn(Result.success(token));
+            when(contentsCache.find("PLtest123")).thenReturn(Optional.of(Set.of()));
+            when(quotaService.reserveQuota(anyInt()))
+                    .thenAnswer(invocation -> Result.success(new QuotaReservation(invocation.getArgument(0))));
+            when(youtubePlaylistPort.addVideosToPlaylist(eq(ACCESS_TOKEN), eq("PLtest123"), eq(videoIds), any()))
+                    .thenReturn(Result.failure(Error.resourceNotFoundError("YouTube resource", "PLtest123")));
+
+            playlistService.addVideosToPlaylist(new PlaylistUseCase.AddVideosRequest("PLtest123", videoIds));
+
+            verify(quotaService).releaseQuota(new QuotaReservation(2 * QuotaService.PLAYLIST_ITEMS_INSERT_COST));
+            verify(quotaService).releaseQuota(any());
+        }
+
+        @Test
+        void checkpointsEachInsertUnderTheIdempotencyKey() {
+            Token token = createValidToken();
+            List<String> videoIds = List.of("video1", "video2");
+            InsertOutcome inserted = InsertOutcome.inserted("video1", 0, "item1");
+
+            when(tokenQuery.getCurrentUserToken()).thenReturn(Result.success(token));
+            when(playlistCache.findOwner(ACCESS_TOKEN)).thenReturn(Optional.of("UCowner"));
+            when(checkpointRepository.claim(eq(IMPORT_KEY), any())).thenReturn(Result.success(true));
+            when(checkpointRepository.findCompleted(IMPORT_KEY)).thenReturn(Result.success(Map.of()));
+            when(contentsCache.find("PLtest123")).thenReturn(Optional.of(Set.of()));
+            when(quotaService.reserveQuota(anyInt()))
+                    .thenAnswer(invocation -> Result.success(new QuotaReservation(invocation.getArgument(0))));
+            when(youtubePlaylistPort.addVideosToPlaylist(eq(ACCESS_TOKEN), eq("PLtest123"), eq(videoIds), any()))
+                    .thenAnswer(invocation -> {
+                        Consumer<InsertOutcome> onInserted = invocation.getArgument(3);
+                        onInserted.accept(inserted);
+                        return Result.success(BulkInsertReport.of("PLtest123", List.of(
+                                inserted,
+                                InsertOutcome.failed("video2", 1, Error.externalServiceError("YouTube", "Backend error", null))
+                        )));
+                    });
+
+            playlistService.addVideosToPlaylist(new PlaylistUseCase.AddVideosRequest("PLtest123", videoIds, "import-1"));
+
+            verify(checkpointRepository).recordInserted(IMPORT_KEY, inserted);
+            verify(checkpointRepository).release(eq(IMPORT_KEY), any());
+        }
+
+        @Test
+        void resumesAfterCheckpointedInsertsOnRetryWithSameKey() {
+            Token token = createValidToken();
+            InsertOutcome earlier = InsertOutcome.inserted("video1", 0, "item1");
+            BulkInsertReport report = BulkInsertReport.of("PLtest123", List.of(
+                    InsertOutcome.inserted("video2", 1, "item2")
+            ));
+
+            when(tokenQuery.getCurrentUserToken()).thenReturn(Result.success(token));
+            when(playlistCache.findOwner(ACCESS_TOKEN)).thenReturn(Optional.of("UCowner"));
+            when(checkpointRepository.claim(eq(IMPORT_KEY), any())).thenReturn(Result.success(true));
+            when(checkpointRepository.findCompleted(IMPORT_KEY))
+                    .thenReturn(Result.success(Map.of("video1", earlier)));
+            when(contentsCache.find("PLtest123")).thenReturn(Optional.of(Set.of("video1")));
+            int totalCost = QuotaService.PLAYLISTS_LIST_COST + QuotaService.PLAYLIST_ITEMS_INSERT_COST;
+            when(quotaService.reserveQuota(totalCost)).thenReturn(Result.success(new QuotaReservation(totalCost)));
+            when(youtubePlaylistPort.addVideosToPlaylist(eq(ACCESS_TOKEN), eq("PLtest123"), eq(List.of("video2")), any()))
+                    .thenReturn(Result.success(report));
+
+            var request = new PlaylistUseCase.AddVideosRequest("PLtest123", List.of("video1", "video2"), "import-1");
+            BulkInsertReport result = playlistService.addVideosToPlaylist(request).getOrElse(null);
+
+            assertThat(result.outcomes()).containsExactly(earlier, InsertOutcome.inserted("video2", 1, "item2"));
+            assertThat(result.isComplete()).isTrue();
+            assertThat(result.skippedCount()).isZero();
+        }
+
+        @Test
+        void failsWhenCheckpointCannotBeRead() {
+            Token token = createValidToken();
+
+            when(tokenQuery.getCurrentUserToken()).thenReturn(Result.success(token));
+            when(playlistCache.findOwner(ACCESS_TOKEN)).thenReturn(Optional.of("UCowner"));
+            when(checkpointRepository.claim(eq(IMPORT_KEY), any())).thenReturn(Result.success(true));
+            when(checkpointRepository.findCompleted(IMPORT_KEY))
+                    .thenReturn(Result.failure(Error.externalServiceError("Redis", "down", null)));
+
+            var result = playlistService.addVideosToPlaylist(
+                    new PlaylistUseCase.AddVideosRequest("PLtest123", List.of("video1"), "import-1"));
+
+            assertThat(result.isFailure()).isTrue();
+            verify(quotaService, never()).reserveQuota(anyInt());
+            verify(checkpointRepository).release(eq(IMPORT_KEY), any());
+        }
+
+        @Test
+        void rejectsImportWhileAnotherRequestHoldsTheKey() {
+            Token token = createValidToken();
+
+            when(tokenQuery.getCurrentUserToken()).thenReturn(Result.success(token));
+            when(playlistCache.findOwner(ACCESS_TOKEN)).thenReturn(Optional.of("UCowner"));
+            when(checkpointRepository.claim(eq(IMPORT_KEY), any())).thenReturn(Result.success(false));
+
+            var result = playlistService.addVideosToPlaylist(
+                    new PlaylistUseCase.AddVideosRequest("PLtest123", List.of("video1"), "import-1"));
+
+            assertThat(result).isEqualTo(Result.failure(Error.conflictError("Import", "import-1")));
+            verify(checkpointRepository, never()).findCompleted(any());
+            verify(checkpointRepository, never()).release(any(), any());
+        }
+
+        @Test
+        void scopesIdempotencyKeyToTheCurrentChannel() {
+            Token token = createValidToken();
+
+            when(tokenQuery.getCurrentUserToken()).thenReturn(Result.success(token));
+            when(playlistCache.findOwner(ACCESS_TOKEN)).thenReturn(Optional.empty());
+            when(quotaService.reserveQuota(QuotaService.CHANNELS_LIST_COST))
+                    .thenReturn(Result.success(new QuotaReservation(QuotaService.CHANNELS_LIST_COST)));
+            when(youtubePlaylistPort.getChannelId(ACCESS_TOKEN)).thenReturn(Result.success("UCother"));
+            when(checkpointRepository.claim(eq("UCother:PLtest123:import-1"), any())).thenReturn(Result.success(false));
+
+            playlistService.addVideosToPlaylist(new PlaylistUseCase.AddVideosRequest("PLtest123", List.of("video1"), "import-1"));
+
+            verify(playlistCache).storeOwner(ACCESS_TOKEN, "UCother");
         }
 
         @Test
         void failsForEmptyVideoIds() {
             var request = new PlaylistUseCase.AddVideosRequest("PLtest123", List.of());
-            Result<Void, Error> result = playlistService.addVideosToPlaylist(request);
+            Result<BulkInsertReport, Error> result = playlistService.addVideosToPlaylist(request);
 
             assertThat(result.isFailure()).isTrue();
             result.fold(
@@ -214,11 +557,12 @@ class PlaylistServiceTest {
             PageResult<YouTubeVideo> pageResult = PageResult.of(List.of(video), "nextToken", 10);
 
             when(tokenQuery.getCurrentUserToken()).thenReturn(Result.success(token));
-            when(quotaService.consumeQuota(QuotaService.PLAYLIST_ITEMS_LIST_COST)).thenReturn(Result.successVoid());
+            when(quotaService.reserveQuota(QuotaService.PLAYLIST_ITEMS_LIST_COST))
+                    .thenReturn(Result.success(new QuotaReservation(QuotaService.PLAYLIST_ITEMS_LIST_COST)));
             when(youtubePlaylistPort.getPlaylistVideos(eq(ACCESS_TOKEN), eq("PLtest123"), eq(25), any()))
                     .thenReturn(Result.success(pageResult));
 
-            var request = new PlaylistUseCase.GetVideosRequest("PLtest123", 25, null);
+            var request = new PlaylistUseCase.GetVideosRequest("PLtest123", 25, null, false);
             Result<PageResult<YouTubeVideo>, Error> result = playlistService.getPlaylistVideos(request);
 
             assertThat(result.isSuccess()).isTrue();
@@ -231,5 +575,125 @@ class PlaylistServiceTest {
                     _ -> null
             );
         }
+
+        @Test
+        void enrichesPageWithDurationsFromSingleVideosListCall() {
+            Token token = createValidToken();
+            YouTubeVideo first = YouTubeVideo.create("vid1", "Song One", "Artist", "", 0, null, Instant.now())
+                    .fold(v -> v, e -> null);
+            YouTubeVideo second = YouTubeVideo.create("vid2", "Song Two", "Artist", "", 0, null, Instant.now())
+                    .fold(v -> v, e -> null);
+
+            when(tokenQuery.getCurrentUserToken()).thenReturn(Result.success(token));
+            when(quotaService.reserveQuota(1)).thenReturn(Result.success(new QuotaReservation(1)));
+            when(youtubePlaylistPort.getPlaylistVideos(ACCESS_TOKEN, "PLtest123", 25, null))
+                    .thenReturn(Result.success(PageResult.of(List.of(first, second), null, 2)));
+            when(videoDetailsCache.findAll(List.of("vid1", "vid2")))
+                    .thenReturn(Map.of("vid1", new VideoDetails("vid1", 213)));
+            when(youtubePlaylistPort.getVideoDetails(ACCESS_TOKEN, List.of("vid2")))
+                    .thenReturn(Result.success(List.of(new VideoDetails("vid2", 187))));
+
+            var request = new PlaylistUseCase.GetVideosRequest("PLtest123", 25, null, true);
+            Result<PageResult<YouTubeVideo>, Error> result = playlistService.getPlaylistVideos(request);
+
+            assertThat(result.getOrElse(null).items()).extracting(YouTubeVideo::durationSeconds).containsExactly(213, 187);
+            verify(youtubePlaylistPort).getVideoDetails(ACCESS_TOKEN, List.of("vid2"));
+            verify(videoDetailsCache).storeAll(List.of(new VideoDetails("vid2", 187)));
+        }
+
+        @Test
+        void keepsUnenrichedVideosWhenVideosListFails() {
+            Token token = createValidToken();
+            YouTubeVideo video = YouTubeVideo.create("vid1", "Song One", "Artist", "", 0, null, Instant.now())
+                    .fold(v -> v, e -> null);
+
+            when(tokenQuery.getCurrentUserToken()).thenReturn(Result.success(token));
+            when(quotaService.reserveQuota(1)).thenReturn(Result.success(new QuotaReservation(1)));
+            when(youtubePlaylistPort.getPlaylistVideos(ACCESS_TOKEN, "PLtest123", 25, null))
+                    .thenReturn(Result.success(PageResult.of(List.of(video), null, 1)));
+            when(videoDetailsCache.findAll(List.of("vid1"))).thenReturn(Map.of());
+            when(youtubePlaylistPort.getVideoDetails(ACCESS_TOKEN, List.of("vid1")))
+                    .thenReturn(Result.failure(Error.externalServiceError("YouTube", "Backend error", null)));
+
+            var request = new PlaylistUseCase.GetVideosRequest("PLtest123", 25, null, true);
+            Result<PageResult<YouTubeVideo>, Error> result = playlistService.getPlaylistVideos(request);
+
+            assertThat(result.isSuccess()).isTrue();
+            assertThat(result.getOrElse(null).items().getFirst().durationSeconds()).isZero();
+        }
+    }
+
+    @Nested
+    class StreamPlaylistVideos {
+
+        private YouTubeVideo video(String id) {
+            return YouTubeVideo.create(id, "Title " + id, "Artist", "", 200, null, Instant.now())
+                    .fold(v -> v, e -> null);
+        }
+
+        @Test
+        void walksEveryPageInOrderChargingQuotaPerPage() {
+            Token token = createValidToken();
+
+            when(tokenQuery.getCurrentUserToken()).thenReturn(Result.success(token));
+            when(quotaService.reserveQuota(QuotaService.PLAYLIST_ITEMS_LIST_COST))
+                    .thenReturn(Result.success(new QuotaReservation(QuotaService.PLAYLIST_ITEMS_LIST_COST)));
+            when(youtubePlaylistPort.getPlaylistVideos(ACCESS_TOKEN, "PLtest123", 50, null))
+                    .thenReturn(Result.success(PageResult.of(List.of(video("vid1"), video("vid2")), "page2", 4)));
+            when(youtubePlaylistPort.getPlaylistVideos(ACCESS_TOKEN, "PLtest123", 50, "page2"))
+                    .thenReturn(Result.success(PageResult.of(List.of(video("vid3")), "page3", 4)));
+            when(youtubePlaylistPort.getPlaylistVideos(ACCESS_TOKEN, "PLtest123", 50, "page3"))
+                    .thenReturn(Result.success(PageResult.of(List.of(video("vid4")), null, 4)));
+
+            List<String> streamed = new ArrayList<>();
+            Result<Void, Error> outcome = playlistService.streamPlaylistVideos("PLtest123", false)
+                    .flatMap(stream -> stream.forEachPage(page -> page.forEach(v -> streamed.add(v.id().youtubeId()))));
+
+            assertThat(outcome.isSuccess()).isTrue();
+            assertThat(streamed).containsExactly("vid1", "vid2", "vid3", "vid4");
+            verify(quotaService, times(3)).reserveQuota(QuotaService.PLAYLIST_ITEMS_LIST_COST);
+            verify(tokenQuery, times(1)).getCurrentUserToken();
+        }
+
+        @Test
+        void stopsWithErrorWhenLaterPageFails() {
+            Token token = createValidToken();
+
+            when(tokenQuery.getCurrentUserToken()).thenReturn(Result.success(token));
+            when(quotaService.reserveQuota(QuotaService.PLAYLIST_ITEMS_LIST_COST))
+                    .thenReturn(Result.success(new QuotaReservation(QuotaService.PLAYLIST_ITEMS_LIST_COST)))
+                    .thenReturn(Result.failure(Error.quotaExceededError(10000, 10000)));
+            when(youtubePlaylistPort.getPlaylistVideos(ACCESS_TOKEN, "PLtest123", 50, null))
+                    .thenReturn(Result.success(PageResult.of(List.of(video("vid1")), "page2", 2)));
+
+            List<String> streamed = new ArrayList<>();
+            Result<Void, Error> outcome = playlistService.streamPlaylistVideos("PLtest123", false)
+                    .flatMap(stream -> stream.forEachPage(page -> page.forEach(v -> streamed.add(v.id().youtubeId()))));
+
+            assertThat(streamed).containsExactly("vid1");
+            assertThat(outcome.isFailure()).isTrue();
+            outcome.fold(
+                    _ -> null,
+                    error -> {
+                        assertThat(error).isInstanceOf(Error.QuotaExceededError.class);
+                        return null;
+                    }
+            );
+        }
+
+        @Test
+        void failsBeforeStreamingWhenFirstPageFails() {
+            Token token = createValidToken();
+
+            when(tokenQuery.getCurrentUserToken()).thenReturn(Result.success(token));
+            when(quotaService.reserveQuota(QuotaService.PLAYLIST_ITEMS_LIST_COST))
+                    .thenReturn(Result.success(new QuotaReservation(QuotaService.PLAYLIST_ITEMS_LIST_COST)));
+            when(youtubePlaylistPort.getPlaylistVideos(ACCESS_TOKEN, "PLmissing", 50, null))
+                    .thenReturn(Result.failure(Error.resourceNotFoundError("YouTube resource", "PLmissing")));
+
+            var result = playlistService.streamPlaylistVideos("PLmissing", false);
+
+            assertThat(result.isFailure()).isTrue();
+        }
     }
 }
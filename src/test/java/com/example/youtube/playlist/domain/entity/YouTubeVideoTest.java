@@ -2,6 +2,7 @@ package com.example.youtube.playlist.domain.entity;
 
 import com.example.youtube.common.result.Error;
 import com.example.youtube.common.result.Result;
+import com.example.youtube.common.text.MusicVideoClassifier;
 import org.junit.jupiter.api.Test;
 
 import java.time.Instant;
@@ -127,7 +128,7 @@ class YouTubeVideoTest {
         assertThat(result.isSuccess()).isTrue();
         result.fold(
                 video -> {
-                    assertThat(video.isMusicVideo()).isTrue();
+                    assertThat(video.isMusicVideo(MusicVideoClassifier.defaults())).isTrue();
                     return null;
                 },
                 _ -> null
@@ -149,7 +150,7 @@ class YouTubeVideoTest {
         assertThat(result.isSuccess()).isTrue();
         result.fold(
                 video -> {
-                    assertThat(video.isMusicVideo()).isFalse();
+                    assertThat(video.isMusicVideo(MusicVideoClassifier.defaults())).isFalse();
                     return null;
                 },
                 _ -> null
@@ -171,7 +172,29 @@ class YouTubeVideoTest {
         assertThat(result.isSuccess()).isTrue();
         result.fold(
                 video -> {
-                    assertThat(video.isMusicVideo()).isFalse();
+                    assertThat(video.isMusicVideo(MusicVideoClassifier.defaults())).isFalse();
+                    return null;
+                },
+                _ -> null
+        );
+    }
+
+    @Test
+    void rejectsTutorialsAndReactionsLikeSearchResults() {
+        Result<YouTubeVideo, Error> result = YouTubeVideo.create(
+                "abc123",
+                "Song Name - Guitar TUTORIAL",
+                "Guitar Lessons",
+                "",
+                600,
+                null,
+                Instant.now()
+        );
+
+        assertThat(result.isSuccess()).isTrue();
+        result.fold(
+                video -> {
+                    assertThat(video.isMusicVideo(MusicVideoClassifier.defaults())).isFalse();
                     return null;
                 },
                 _ -> null
@@ -0,0 +1,160 @@
+package com.example.youtube.playlist.infrastructure.adapter;
+
+import com.example.youtube.common.result.Error;
+import com.example.youtube.playlist.domain.entity.InsertOutcome;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PlaylistItemBulkInserterTest {
+
+    private final PlaylistItemBulkInserter inserter = new PlaylistItemBulkInserter();
+
+    @Test
+    void appendsInRequestedOrderAndReportsPositions() throws IOException {
+        List<String> videoIds = IntStream.range(0, 20).mapToObj(i -> "video" + i).toList();
+
+        List<InsertOutcome> outcomes = inserter.insertAll(
+                "PL1",
+                () -> 10,
+                videoIds,
+                videoId -> "item-" + videoId,
+                e -> Error.externalServiceError("YouTube", e.getMessage(), e)
+        );
+
+        assertThat(outcomes).extracting(InsertOutcome::videoId).containsExactlyElementsOf(videoIds);
+        assertThat(outcomes).extracting(InsertOutcome::position)
+                .containsExactlyElementsOf(IntStream.range(10, 30).mapToObj(i -> (long) i).toList());
+        assertThat(outcomes).allMatch(InsertOutcome::isInserted);
+    }
+
+    @Test
+    void keepsOrderWhenEarlierInsertsAreSlowerThanLaterOnes() throws IOException {
+        List<String> playlist = new CopyOnWriteArrayList<>();
+        List<String> videoIds = IntStream.range(0, 8).mapToObj(i -> "video" + i).toList();
+
+        inserter.insertAll(
+                "PL1",
+                playlist::size,
+                videoIds,
+                videoId -> {
+                    Thread.sleep(2L * (videoIds.size() - videoIds.indexOf(videoId)));
+                    playlist.add(videoId);
+                    return "item-" + videoId;
+                },
+                e -> Error.externalServiceError("YouTube", e.getMessage(), e)
+        );
+
+        assertThat(playlist).containsExactlyElementsOf(videoIds);
+    }
+
+    @Test
+    void continuesPastFailedInsertsWithoutLeavingGaps() throws IOException {
+        List<InsertOutcome> outcomes = inserter.insertAll(
+                "PL1",
+                () -> 0,
+                List.of("video1", "broken", "video3"),
+                videoId -> {
+                    if (videoId.equals("broken")) {
+                        throw new IOException("connection reset");
+                    }
+                    return "item-" + videoId;
+                },
+                e -> Error.externalServiceError("YouTube", e.getMessage(), e)
+        );
+
+        assertThat(outcomes).extracting(InsertOutcome::status).containsExactly(
+                InsertOutcome.Status.INSERTED,
+                InsertOutcome.Status.FAILED,
+                InsertOutcome.Status.INSERTED
+        );
+        assertThat(outcomes).extracting(InsertOutcome::position).containsExactly(0L, InsertOutcome.NO_POSITION, 1L);
+        assertThat(outcomes.get(1).error().message()).isEqualTo("connection reset");
+    }
+
+    @Test
+    void serializesConcurrentImportsIntoTheSamePlaylist() throws Exception {
+        List<String> playlist = new CopyOnWriteArrayList<>();
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        PlaylistItemBulkInserter.ItemInsert itemInsert = videoId -> {
+            peak.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            Thread.sleep(1);
+            playlist.add(videoId);
+            inFlight.decrementAndGet();
+            return "item-" + videoId;
+        };
+        List<String> first = IntStream.range(0, 10).mapToObj(i -> "a" + i).toList();
+        List<String> second = IntStream.range(0, 10).mapToObj(i -> "b" + i).toList();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<List<InsertOutcome>>> imports = List.of(first, second).stream()
+                    .map(videoIds -> executor.submit(() -> inserter.insertAll(
+                            "PL1", playlist::size, videoIds, itemInsert,
+                            e -> Error.externalServiceError("YouTube", e.getMessage(), e))))
+                    .toList();
+            for (Future<List<InsertOutcome>> running : imports) {
+                running.get();
+            }
+        }
+
+        assertThat(peak.get()).isEqualTo(1);
+        assertThat(playlist).isIn(
+                Stream.concat(first.stream(), second.stream()).toList(),
+                Stream.concat(second.stream(), first.stream()).toList()
+        );
+    }
+
+    @Test
+    void runsImportsIntoDifferentPlaylistsInParallel() throws Exception {
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        PlaylistItemBulkInserter.ItemInsert itemInsert = videoId -> {
+            bothStarted.countDown();
+            if (!bothStarted.await(5, TimeUnit.SECONDS)) {
+                throw new IOException("imports were serialized");
+            }
+            return "item-" + videoId;
+        };
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<List<InsertOutcome>>> imports = Stream.of("PL1", "PL2")
+                    .map(playlistId -> executor.submit(() -> inserter.insertAll(
+                            playlistId, () -> 0, List.of("video1"), itemInsert,
+                            e -> Error.externalServiceError("YouTube", e.getMessage(), e))))
+                    .toList();
+            for (Future<List<InsertOutcome>> running : imports) {
+                assertThat(running.get()).allMatch(InsertOutcome::isInserted);
+            }
+        }
+    }
+
+    @Test
+    void dropsThePlaylistLockOnceNoImportHoldsIt() throws IOException {
+        inserter.insertAll(
+                "PL1",
+                () -> 0,
+                List.of("video1", "broken"),
+                videoId -> {
+                    if (videoId.equals("broken")) {
+                        throw new IOException("connection reset");
+                    }
+                    return "item-" + videoId;
+                },
+                e -> Error.externalServiceError("YouTube", e.getMessage(), e)
+        );
+
+        assertThat(inserter.lockedPlaylists()).isZero();
+    }
+}
@@ -0,0 +1,146 @@
+package com.example.youtube.playlist.infrastructure.adapter;
+
+import com.example.youtube.common.cache.SingleFlights;
+import com.example.youtube.common.result.Error;
+import com.example.youtube.common.result.Result;
+import com.example.youtube.playlist.domain.entity.PageResult;
+import com.example.youtube.playlist.domain.entity.YouTubePlaylist;
+import com.example.youtube.quota.domain.entity.QuotaReservation;
+import com.example.youtube.quota.domain.service.QuotaService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.net.ConnectException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SingleFlightPlaylistPortTest {
+
+    @Mock
+    private YouTubePlaylistAdapter delegate;
+
+    @Mock
+    private QuotaService quotaService;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private SingleFlightPlaylistPort port;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        var singleFlights = new SingleFlights(
+                redisTemplate,
+                new ObjectMapper(),
+                meterRegistry,
+                true,
+                false,
+                Duration.ofSeconds(10),
+                Duration.ofSeconds(5),
+                Duration.ofSeconds(5),
+                Duration.ofMillis(25)
+        );
+        port = new SingleFlightPlaylistPort(delegate, quotaService, singleFlights);
+    }
+
+    @Test
+    void coalescesConcurrentIdenticalRequestsAndRefundsFollowerQuota() throws Exception {
+        var page = PageResult.of(List.of(playlist()), null, 1);
+        var release = new CountDownLatch(1);
+        when(delegate.getUserPlaylists("token", null)).thenAnswer(_ -> {
+            release.await();
+            return Result.success(page);
+        });
+
+        List<Result<PageResult<YouTubePlaylist>, Error>> results = concurrently(3, release,
+                () -> port.getUserPlaylists("token", null));
+
+        assertThat(results).allSatisfy(result -> assertThat(result.getOrElse(null)).isSameAs(page));
+        verify(delegate, times(1)).getUserPlaylists("token", null);
+        verify(quotaService, times(2)).releaseQuota(new QuotaReservation(QuotaService.PLAYLISTS_LIST_COST));
+    }
+
+    @Test
+    void leavesRefundableFailuresToTheCaller() throws Exception {
+        var release = new CountDownLatch(1);
+        when(delegate.getPlaylistVideos("token", "PL1", 50, null)).thenAnswer(_ -> {
+            release.await();
+            return Result.failure(Error.externalServiceError("YouTube", "Connection refused", new ConnectException("Connection refused"), true));
+        });
+
+        var results = concurrently(2, release, () -> port.getPlaylistVideos("token", "PL1", 50, null));
+
+        assertThat(results).allMatch(Result::isFailure);
+        verify(delegate, times(1)).getPlaylistVideos("token", "PL1", 50, null);
+        verify(quotaService, never()).releaseQuota(any());
+    }
+
+    @Test
+    void keepsDifferentUsersApart() {
+        when(delegate.getUserPlaylists(any(), any())).thenReturn(Result.success(PageResult.empty()));
+
+        port.getUserPlaylists("token-a", null);
+        port.getUserPlaylists("token-b", null);
+
+        verify(delegate).getUserPlaylists("token-a", null);
+        verify(delegate).getUserPlaylists("token-b", null);
+        verify(quotaService, never()).releaseQuota(any());
+    }
+
+    @Test
+    void passesWritesThroughUncoalesced() {
+        when(delegate.createPlaylist("token", "Mix", "")).thenReturn(Result.success(playlist()));
+
+        port.createPlaylist("token", "Mix", "");
+        port.createPlaylist("token", "Mix", "");
+
+        verify(delegate, times(2)).createPlaylist("token", "Mix", "");
+    }
+
+    private <T> List<T> concurrently(int callers, CountDownLatch release, Callable<T> call) throws Exception {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<T>> futures = IntStream.range(0, callers)
+                    .mapToObj(_ -> executor.submit(call))
+                    .toList();
+            while (meterRegistry.find("youtube.singleflight.calls").tag("role", "shared").counters().stream()
+                    .mapToDouble(Counter::count).sum() < callers - 1) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+
+            List<T> results = new ArrayList<>();
+            for (Future<T> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        }
+    }
+
+    private static YouTubePlaylist playlist() {
+        return YouTubePlaylist.create("PL1", "Mix", "", "channel", "Channel", 1, null, null).getOrElse(null);
+    }
+}
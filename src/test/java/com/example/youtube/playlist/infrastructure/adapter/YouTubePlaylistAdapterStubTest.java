@@ -0,0 +1,100 @@
+package com.example.youtube.playlist.infrastructure.adapter;
+
+import com.example.youtube.common.result.Error;
+import com.example.youtube.common.youtube.AdaptiveConcurrencyLimiter;
+import com.example.youtube.common.youtube.YouTubeCircuitBreakers;
+import com.example.youtube.common.youtube.YouTubeListResponseReader;
+import com.example.youtube.common.youtube.YouTubeRequestExecutor;
+import com.example.youtube.playlist.domain.entity.BulkInsertReport;
+import com.example.youtube.playlist.domain.entity.InsertOutcome;
+import com.example.youtube.playlist.domain.entity.VideoDetails;
+import com.example.youtube.playlist.domain.repository.PlaylistCache;
+import com.example.youtube.playlist.infrastructure.repository.ETagPageCache;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.api.client.http.javanet.NetHttpTransport;
+import com.google.api.client.json.gson.GsonFactory;
+import com.google.api.services.youtube.YouTube;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class YouTubePlaylistAdapterStubTest {
+
+    private YouTubeStubServer stub;
+
+    @AfterEach
+    void tearDown() {
+        if (stub != null) {
+            stub.close();
+        }
+    }
+
+    private static YouTubePlaylistAdapter adapter(String rootUrl) {
+        var meterRegistry = new SimpleMeterRegistry();
+        YouTube youtube = new YouTube.Builder(new NetHttpTransport(), GsonFactory.getDefaultInstance(), _ -> {})
+                .setRootUrl(rootUrl)
+                .setApplicationName("youtube-service")
+                .build();
+        var executor = new YouTubeRequestExecutor(
+                new AdaptiveConcurrencyLimiter(meterRegistry, 8, 1, 64, 0.5, 200, Duration.ofSeconds(5)),
+                new YouTubeCircuitBreakers(meterRegistry, 20, 10, 50, 80, Duration.ofSeconds(5), Duration.ofSeconds(30), 3),
+                meterRegistry,
+                1,
+                Duration.ofMillis(1),
+                Duration.ofMillis(1),
+                Duration.ofSeconds(10)
+        );
+        var etagPageCache = new ETagPageCache(
+                mock(PlaylistCache.class), null, new ObjectMapper(), meterRegistry, 10, Duration.ofMinutes(1), Duration.ofMinutes(1));
+        return new YouTubePlaylistAdapter(
+                youtube,
+                executor,
+                new PlaylistItemBulkInserter(),
+                etagPageCache,
+                new YouTubeListResponseReader()
+        );
+    }
+
+    private static List<String> videoIds(int count) {
+        return IntStream.range(0, count).mapToObj(index -> "vid%08d".formatted(index)).toList();
+    }
+
+    @Test
+    void reportsPerItemInsertOutcomes() throws IOException {
+        stub = new YouTubeStubServer(Duration.ZERO, Set.of("vid00000002"));
+        var adapter = adapter(stub.rootUrl());
+        List<InsertOutcome> checkpointed = new CopyOnWriteArrayList<>();
+
+        BulkInsertReport report = adapter.addVideosToPlaylist("token", "PL123", videoIds(5), checkpointed::add)
+                .getOrElse(null);
+
+        assertThat(stub.exchanges()).isEqualTo(6);
+        assertThat(report.insertedCount()).isEqualTo(4);
+        assertThat(checkpointed).hasSize(4);
+        InsertOutcome failed = report.outcomes().get(2);
+        assertThat(failed.isFailed()).isTrue();
+        assertThat(failed.error()).isInstanceOf(Error.ResourceNotFoundError.class);
+        assertThat(report.outcomes().get(4).playlistItemId()).isEqualTo("item-vid00000004");
+    }
+
+    @Test
+    void looksUpUpToFiftyVideosInOneCall() throws IOException {
+        stub = new YouTubeStubServer(Duration.ZERO, Set.of());
+        var adapter = adapter(stub.rootUrl());
+
+        List<VideoDetails> details = adapter.getVideoDetails("token", videoIds(50)).getOrElse(null);
+
+        assertThat(details).hasSize(50);
+        assertThat(stub.exchanges()).isEqualTo(1);
+    }
+}
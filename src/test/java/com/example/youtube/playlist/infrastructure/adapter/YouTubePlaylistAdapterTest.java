@@ -0,0 +1,169 @@
+package com.example.youtube.playlist.infrastructure.adapter;
+
+import com.example.youtube.common.result.Error;
+import com.example.youtube.common.result.Result;
+import com.example.youtube.common.youtube.YouTubeListResponseReader;
+import com.example.youtube.common.youtube.YouTubeProjection;
+import com.example.youtube.common.youtube.YouTubeRequestExecutor;
+import com.example.youtube.playlist.domain.entity.PageResult;
+import com.example.youtube.playlist.domain.entity.YouTubeVideo;
+import com.example.youtube.playlist.domain.repository.PlaylistCache;
+import com.example.youtube.playlist.infrastructure.repository.ETagPageCache;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.api.client.googleapis.json.GoogleJsonResponseException;
+import com.google.api.client.http.HttpHeaders;
+import com.google.api.client.http.HttpResponseException;
+import com.google.api.services.youtube.YouTube;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class YouTubePlaylistAdapterTest {
+
+    private static final String ACCESS_TOKEN = "token";
+    private static final String PLAYLIST_ID = "PL123";
+
+    @Mock
+    private YouTube youtube;
+
+    @Mock
+    private YouTube.PlaylistItems playlistItems;
+
+    @Mock
+    private YouTube.PlaylistItems.List listRequest;
+
+    @Mock
+    private YouTubeRequestExecutor requestExecutor;
+
+    @Mock
+    private PlaylistCache playlistCache;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private final HttpHeaders requestHeaders = new HttpHeaders();
+    private SimpleMeterRegistry meterRegistry;
+    private YouTubePlaylistAdapter adapter;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        meterRegistry = new SimpleMeterRegistry();
+        var etagPageCache = new ETagPageCache(
+                playlistCache,
+                redisTemplate,
+                new ObjectMapper().findAndRegisterModules(),
+                meterRegistry,
+                100,
+                Duration.ofMinutes(1),
+                Duration.ofMinutes(10)
+        );
+        adapter = new YouTubePlaylistAdapter(youtube, requestExecutor, new PlaylistItemBulkInserter(), etagPageCache, new YouTubeListResponseReader());
+
+        lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(youtube.playlistItems()).thenReturn(playlistItems);
+        when(playlistItems.list(anyList())).thenReturn(listRequest);
+        when(listRequest.setPlaylistId(anyString())).thenReturn(listRequest);
+        when(listRequest.setMaxResults(anyLong())).thenReturn(listRequest);
+        lenient().when(listRequest.getRequestHeaders()).thenReturn(requestHeaders);
+    }
+
+    @Test
+    void sendsStoredETagAndServesCachedPageOnNotModified() throws IOException {
+        when(requestExecutor.executeStreaming(any(YouTube.PlaylistItems.List.class), anyString(), any()))
+                .thenReturn(listResponse("etag-1", "dQw4w9WgXcQ"))
+                .thenThrow(new GoogleJsonResponseException(
+                        new HttpResponseException.Builder(304, "Not Modified", new HttpHeaders()), null));
+
+        Result<PageResult<YouTubeVideo>, ?> first = adapter.getPlaylistVideos(ACCESS_TOKEN, PLAYLIST_ID, 50, null);
+        Result<PageResult<YouTubeVideo>, ?> second = adapter.getPlaylistVideos(ACCESS_TOKEN, PLAYLIST_ID, 50, null);
+
+        assertThat(requestHeaders.getIfNoneMatch()).isEqualTo("etag-1");
+        verify(listRequest, times(2)).setFields(YouTubeProjection.PLAYLIST_VIDEOS.fieldMask().expression());
+        assertThat(second.isSuccess()).isTrue();
+        assertThat(second.getOrElse(null).items())
+                .extracting(video -> video.id().youtubeId())
+                .containsExactly("dQw4w9WgXcQ");
+        assertThat(second.getOrElse(null).totalResults()).isEqualTo(first.getOrElse(null).totalResults());
+        assertThat(count("full")).isEqualTo(1);
+        assertThat(count("not_modified")).isEqualTo(1);
+    }
+
+    @Test
+    void reusesStoredETagAfterTokenRefreshForSameOwner() throws IOException {
+        when(playlistCache.findOwner(ACCESS_TOKEN)).thenReturn(Optional.of("UCowner"));
+        when(playlistCache.findOwner("refreshed-token")).thenReturn(Optional.of("UCowner"));
+        when(requestExecutor.executeStreaming(any(YouTube.PlaylistItems.List.class), anyString(), any()))
+                .thenReturn(listResponse("etag-1", "dQw4w9WgXcQ"))
+                .thenThrow(new GoogleJsonResponseException(
+                        new HttpResponseException.Builder(304, "Not Modified", new HttpHeaders()), null));
+
+        adapter.getPlaylistVideos(ACCESS_TOKEN, PLAYLIST_ID, 50, null);
+        var second = adapter.getPlaylistVideos("refreshed-token", PLAYLIST_ID, 50, null);
+
+        assertThat(requestHeaders.getIfNoneMatch()).isEqualTo("etag-1");
+        assertThat(second.isSuccess()).isTrue();
+        assertThat(count("not_modified")).isEqualTo(1);
+    }
+
+    @Test
+    void treatsNotModifiedWithoutCachedPageAsError() throws IOException {
+        when(requestExecutor.executeStreaming(any(YouTube.PlaylistItems.List.class), anyString(), any()))
+                .thenThrow(new GoogleJsonResponseException(
+                        new HttpResponseException.Builder(304, "Not Modified", new HttpHeaders()), null));
+
+        var result = adapter.getPlaylistVideos(ACCESS_TOKEN, PLAYLIST_ID, 50, null);
+
+        assertThat(result.isFailure()).isTrue();
+        assertThat(requestHeaders.getIfNoneMatch()).isNull();
+    }
+
+    @Test
+    void marksConnectFailuresAsNotSent() throws IOException {
+        when(requestExecutor.executeStreaming(any(YouTube.PlaylistItems.List.class), anyString(), any()))
+                .thenThrow(new ConnectException("Connection refused"));
+
+        var result = adapter.getPlaylistVideos(ACCESS_TOKEN, PLAYLIST_ID, 50, null);
+
+        assertThat(result.<Error>fold(page -> null, error -> error))
+                .isInstanceOfSatisfying(Error.ExternalServiceError.class, serviceError ->
+                        assertThat(serviceError.notSent()).isTrue());
+    }
+
+    private double count(String result) {
+        var counter = meterRegistry.find("youtube.conditional.responses")
+                .tags("resource", "playlist_items", "result", result)
+                .counter();
+        return counter != null ? counter.count() : 0;
+    }
+
+    private static YouTubeListResponseReader.ListResponse listResponse(String etag, String videoId) {
+        var item = new YouTubeListResponseReader.VideoItem(
+                videoId, "Never Gonna Give You Up", "Rick Astley", null, null, null);
+        return new YouTubeListResponseReader.ListResponse(etag, null, 1, List.of(item));
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.youtube.playlist.infrastructure.adapter;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPInputStream;
+
+final class YouTubeStubServer implements AutoCloseable {
+
+    private static final Pattern VIDEO_ID = Pattern.compile("\"videoId\"\\s*:\\s*\"([^\"]+)\"");
+
+    private record StubResponse(int status, String body) {}
+
+    private final HttpServer server;
+    private final Duration latency;
+    private final Set<String> failingVideoIds;
+    private final AtomicInteger exchanges = new AtomicInteger();
+
+    YouTubeStubServer(Duration latency, Set<String> failingVideoIds) throws IOException {
+        this.latency = latency;
+        this.failingVideoIds = failingVideoIds;
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        this.server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        this.server.createContext("/", this::handle);
+        this.server.start();
+    }
+
+    String rootUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/";
+    }
+
+    int exchanges() {
+        return exchanges.get();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        exchanges.incrementAndGet();
+        try (exchange) {
+            String body = new String(requestBody(exchange), StandardCharsets.UTF_8);
+            sleep(latency);
+
+            StubResponse response = respond(exchange.getRequestMethod(), exchange.getRequestURI(), body);
+            write(exchange, response.status(), "application/json; charset=UTF-8", response.body());
+        }
+    }
+
+    private StubResponse respond(String method, URI uri, String body) {
+        String path = uri.getPath();
+        if ("GET".equals(method) && path.endsWith("/playlists")) {
+            return new StubResponse(200, "{\"items\":[{\"contentDetails\":{\"itemCount\":0}}]}");
+        }
+        if ("GET".equals(method) && path.endsWith("/videos")) {
+            List<String> items = new ArrayList<>();
+            for (String id : queryParameters(uri, "id")) {
+                items.add("{\"id\":\"" + id + "\",\"contentDetails\":{\"duration\":\"PT3M33S\"}}");
+            }
+            return new StubResponse(200, "{\"items\":[" + String.join(",", items) + "]}");
+        }
+        if ("POST".equals(method) && path.endsWith("/playlistItems")) {
+            Matcher videoId = VIDEO_ID.matcher(body);
+            String id = videoId.find() ? videoId.group(1) : "";
+            if (failingVideoIds.contains(id)) {
+                return new StubResponse(404, "{\"error\":{\"code\":404,\"message\":\"Video not found.\","
+                        + "\"errors\":[{\"reason\":\"videoNotFound\",\"message\":\"Video not found.\"}]}}");
+            }
+            return new StubResponse(200, "{\"id\":\"item-" + id + "\"}");
+        }
+        return new StubResponse(404, "{\"error\":{\"code\":404,\"message\":\"Not found\"}}");
+    }
+
+    private static byte[] requestBody(HttpExchange exchange) throws IOException {
+        if ("gzip".equalsIgnoreCase(exchange.getRequestHeaders().getFirst("Content-Encoding"))) {
+            try (InputStream in = new GZIPInputStream(exchange.getRequestBody())) {
+                return in.readAllBytes();
+            }
+        }
+        return exchange.getRequestBody().readAllBytes();
+    }
+
+    private static List<String> queryParameters(URI uri, String name) {
+        List<String> values = new ArrayList<>();
+        for (String pair : uri.getRawQuery().split("&")) {
+            if (pair.startsWith(name + "=")) {
+                values.addAll(List.of(URLDecoder.decode(pair.substring(name.length() + 1), StandardCharsets.UTF_8).split(",")));
+            }
+        }
+        return values;
+    }
+
+    private static void write(HttpExchange exchange, int status, String contentType, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static void sleep(Duration latency) {
+        if (latency.isZero()) {
+            return;
+        }
+        try {
+            Thread.sleep(latency);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
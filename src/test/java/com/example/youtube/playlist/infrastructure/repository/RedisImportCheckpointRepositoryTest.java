@@ -0,0 +1,78 @@
+package com.example.youtube.playlist.infrastructure.repository;
+
+import com.example.youtube.common.result.Result;
+import com.example.youtube.playlist.domain.entity.InsertOutcome;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RedisImportCheckpointRepositoryTest {
+
+    private static final String IMPORT_KEY = "UCowner:PL1:import-1";
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Captor
+    private ArgumentCaptor<RedisScript<Long>> script;
+
+    private RedisImportCheckpointRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new RedisImportCheckpointRepository(
+                redisTemplate, new ObjectMapper(), Duration.ofHours(24), Duration.ofMinutes(15));
+    }
+
+    @Test
+    void claimsKeyOnlyWhenAbsent() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent("youtube:import-claim:" + IMPORT_KEY, "claim-1", Duration.ofMinutes(15)))
+                .thenReturn(true, false);
+
+        assertThat(repository.claim(IMPORT_KEY, "claim-1")).isEqualTo(Result.success(true));
+        assertThat(repository.claim(IMPORT_KEY, "claim-1")).isEqualTo(Result.success(false));
+    }
+
+    @Test
+    void releasesOnlyItsOwnClaim() {
+        repository.release(IMPORT_KEY, "claim-1");
+
+        verify(redisTemplate).execute(script.capture(), eq(List.of("youtube:import-claim:" + IMPORT_KEY)), eq("claim-1"));
+        assertThat(script.getValue().getScriptAsString()).contains("GET", "DEL");
+    }
+
+    @Test
+    void recordsInsertAndTtlInOneScript() {
+        repository.recordInserted(IMPORT_KEY, InsertOutcome.inserted("video1", 3, "item1"));
+
+        verify(redisTemplate).execute(
+                script.capture(),
+                eq(List.of("youtube:import:" + IMPORT_KEY)),
+                eq("video1"),
+                eq("{\"position\":3,\"playlistItemId\":\"item1\"}"),
+                eq("86400000")
+        );
+        assertThat(script.getValue().getScriptAsString()).contains("HSET", "PEXPIRE");
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.youtube.playlist.infrastructure.repository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RedisPlaylistContentsCacheTest {
+
+    private static final String KEY = "youtube:playlist-contents:PL1";
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private SetOperations<String, String> setOperations;
+
+    @Captor
+    private ArgumentCaptor<RedisScript<Long>> script;
+
+    private RedisPlaylistContentsCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new RedisPlaylistContentsCache(redisTemplate, new SimpleMeterRegistry(), Duration.ofMinutes(10));
+    }
+
+    @Test
+    void storesVideoIdsWithPresenceMarkerAndTtlInOneScript() {
+        cache.store("PL1", Set.of("video1"));
+
+        verify(redisTemplate).execute(script.capture(), eq(List.of(KEY)), eq("600000"), eq(""), eq("video1"));
+        assertThat(script.getValue().getScriptAsString()).contains("DEL", "SADD", "PEXPIRE");
+    }
+
+    @Test
+    void readsStoredEmptyPlaylistAsCachedEmptySet() {
+        when(redisTemplate.opsForSet()).thenReturn(setOperations);
+        when(setOperations.members(KEY)).thenReturn(Set.of(""));
+
+        assertThat(cache.find("PL1")).contains(Set.of());
+    }
+
+    @Test
+    void readsMembersWithoutPresenceMarker() {
+        when(redisTemplate.opsForSet()).thenReturn(setOperations);
+        when(setOperations.members(KEY)).thenReturn(Set.of("", "video1", "video2"));
+
+        assertThat(cache.find("PL1")).contains(Set.of("video1", "video2"));
+    }
+
+    @Test
+    void treatsMissingSetAsMiss() {
+        when(redisTemplate.opsForSet()).thenReturn(setOperations);
+        when(setOperations.members(KEY)).thenReturn(Set.of());
+
+        assertThat(cache.find("PL1")).isEmpty();
+    }
+
+    @Test
+    void addsVideoIdsWithSetAddOnlyToExistingEntries() {
+        cache.addAll("PL1", List.of("video3", "video4"));
+
+        verify(redisTemplate).execute(script.capture(), eq(List.of(KEY)), eq("video3"), eq("video4"));
+        assertThat(script.getValue().getScriptAsString()).contains("EXISTS", "SADD");
+    }
+
+    @Test
+    void skipsRedisWhenNothingWasAdded() {
+        cache.addAll("PL1", List.of());
+
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    void invalidatesEntryWhenAddFails() {
+        when(redisTemplate.execute(script.capture(), eq(List.of(KEY)), eq("video3")))
+                .thenThrow(new RedisConnectionFailureException("down"));
+
+        cache.addAll("PL1", List.of("video3"));
+
+        verify(redisTemplate).delete(KEY);
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.youtube.quota.domain.service;
+
+import com.example.youtube.common.result.Error;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QuotaRefundPolicyTest {
+
+    @Test
+    void refundsFailuresThatWereNeverSent() {
+        var error = Error.externalServiceError("YouTube", "Connection refused", new IOException("Connection refused"), true);
+
+        assertThat(QuotaRefundPolicy.isRefundable(error)).isTrue();
+    }
+
+    @Test
+    void chargesFailuresThatMayHaveBeenSent() {
+        var error = Error.externalServiceError("YouTube", "Connection reset", new IOException("Connection reset"), false);
+
+        assertThat(QuotaRefundPolicy.isRefundable(error)).isFalse();
+    }
+
+    @Test
+    void chargesFailuresWithoutCause() {
+        assertThat(QuotaRefundPolicy.isRefundable(Error.externalServiceError("YouTube", "Unknown failure", null))).isFalse();
+    }
+
+    @Test
+    void chargesNonTransportErrors() {
+        assertThat(QuotaRefundPolicy.isRefundable(Error.resourceNotFoundError("Music video", "x"))).isFalse();
+        assertThat(QuotaRefundPolicy.isRefundable(Error.authenticationError("YouTube authentication failed", "401"))).isFalse();
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.youtube.quota.infrastructure.repository;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+class InMemoryQuotaRedisTemplate extends StringRedisTemplate {
+
+    private final Map<String, Long> values = new HashMap<>();
+    private final Map<String, Long> ttls = new HashMap<>();
+    private final AtomicInteger roundTrips = new AtomicInteger();
+    private final Duration roundTripLatency;
+    private final boolean enforceLimit;
+
+    InMemoryQuotaRedisTemplate() {
+        this(Duration.ZERO, true);
+    }
+
+    InMemoryQuotaRedisTemplate(Duration roundTripLatency, boolean enforceLimit) {
+        this.roundTripLatency = roundTripLatency;
+        this.enforceLimit = enforceLimit;
+    }
+
+    @Override
+    public <T> T execute(RedisScript<T> script, List<String> keys, Object... args) {
+        roundTrips.incrementAndGet();
+        if (!roundTripLatency.isZero()) {
+            LockSupport.parkNanos(roundTripLatency.toNanos());
+        }
+
+        synchronized (this) {
+            String key = keys.getFirst();
+            long units = Long.parseLong((String) args[0]);
+            long usage = values.getOrDefault(key, 0L);
+
+            if (args.length == 1) {
+                long released = Math.min(usage, units);
+                values.put(key, usage - released);
+                return script.getResultType().cast(released);
+            }
+
+            long limit = Long.parseLong((String) args[1]);
+            if (enforceLimit && usage + units > limit) {
+                return script.getResultType().cast(-usage - 1);
+            }
+
+            usage += units;
+            values.put(key, usage);
+            ttls.putIfAbsent(key, Long.parseLong((String) args[2]));
+            return script.getResultType().cast(usage);
+        }
+    }
+
+    int roundTrips() {
+        return roundTrips.get();
+    }
+
+    synchronized long usage() {
+        return values.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    synchronized long ttlSeconds() {
+        return ttls.values().stream().findFirst().orElse(-1L);
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.youtube.quota.infrastructure.repository;
+
+import com.example.youtube.common.result.Error;
+import com.example.youtube.common.result.Result;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(8)
+@Fork(1)
+public class QuotaLeaseBenchmark {
+
+    @Param({"false", "true"})
+    private boolean leasing;
+
+    @Param({"250"})
+    private long redisRoundTripMicros;
+
+    private RedisQuotaService quotaService;
+
+    @Setup
+    public void setUp() {
+        var redis = new InMemoryQuotaRedisTemplate(Duration.ofNanos(redisRoundTripMicros * 1_000), false);
+        quotaService = new RedisQuotaService(redis, leasing, 100, 1000, Duration.ofSeconds(60));
+    }
+
+    @Benchmark
+    public Result<Void, Error> consumeQuota() {
+        return quotaService.consumeQuota(1);
+    }
+}
@@ -0,0 +1,193 @@
+package com.example.youtube.quota.infrastructure.repository;
+
+import com.example.youtube.common.result.Error;
+import com.example.youtube.common.result.Result;
+import com.example.youtube.quota.domain.service.QuotaService;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RedisQuotaServiceTest {
+
+    private static RedisQuotaService directQuotaService(InMemoryQuotaRedisTemplate redis) {
+        return new RedisQuotaService(redis, false, 100, 1000, Duration.ofSeconds(60));
+    }
+
+    private static RedisQuotaService leasingQuotaService(InMemoryQuotaRedisTemplate redis) {
+        return new RedisQuotaService(redis, true, 100, 1000, Duration.ofSeconds(60));
+    }
+
+    @Test
+    void reservesQuotaInSingleRoundTrip() {
+        var redis = new InMemoryQuotaRedisTemplate();
+        var quotaService = directQuotaService(redis);
+
+        Result<Void, Error> result = quotaService.consumeQuota(QuotaService.SEARCH_LIST_COST);
+
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(redis.roundTrips()).isEqualTo(1);
+        assertThat(redis.usage()).isEqualTo(QuotaService.SEARCH_LIST_COST);
+        assertThat(redis.ttlSeconds()).isPositive();
+    }
+
+    @Test
+    void rejectsWithCurrentUsageWhenLimitWouldBeExceeded() {
+        var redis = new InMemoryQuotaRedisTemplate();
+        var quotaService = directQuotaService(redis);
+        quotaService.consumeQuota((int) QuotaService.DAILY_QUOTA_LIMIT - 50);
+
+        Result<Void, Error> result = quotaService.consumeQuota(QuotaService.SEARCH_LIST_COST);
+
+        assertThat(result.isFailure()).isTrue();
+        result.fold(
+                _ -> null,
+                error -> {
+                    assertThat(error).isEqualTo(Error.quotaExceededError(
+                            QuotaService.DAILY_QUOTA_LIMIT - 50, QuotaService.DAILY_QUOTA_LIMIT));
+                    return null;
+                }
+        );
+        assertThat(redis.usage()).isEqualTo(QuotaService.DAILY_QUOTA_LIMIT - 50);
+        assertThat(redis.roundTrips()).isEqualTo(2);
+    }
+
+    @Test
+    void releasedReservationReturnsUnitsToDailyCounter() {
+        var redis = new InMemoryQuotaRedisTemplate();
+        var quotaService = directQuotaService(redis);
+
+        var reservation = quotaService.reserveQuota(QuotaService.SEARCH_LIST_COST);
+        quotaService.releaseQuota(reservation.getOrElse(null));
+
+        assertThat(redis.usage()).isZero();
+    }
+
+    @Test
+    void neverExceedsDailyLimitUnderConcurrentReservations() throws Exception {
+        var redis = new InMemoryQuotaRedisTemplate();
+        var quotaService = directQuotaService(redis);
+        int threads = 32;
+        int attemptsPerThread = 50;
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger granted = new AtomicInteger();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < threads; thread++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int attempt = 0; attempt < attemptsPerThread; attempt++) {
+                        if (quotaService.consumeQuota(QuotaService.PLAYLIST_ITEMS_INSERT_COST + attempt % 3).isSuccess()) {
+                            granted.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+
+        assertThat(redis.usage()).isLessThanOrEqualTo(QuotaService.DAILY_QUOTA_LIMIT);
+        assertThat(redis.usage()).isGreaterThan(QuotaService.DAILY_QUOTA_LIMIT - QuotaService.PLAYLIST_ITEMS_INSERT_COST - 2);
+        assertThat(granted.get()).isLessThan(threads * attemptsPerThread);
+        assertThat(redis.roundTrips()).isEqualTo(threads * attemptsPerThread);
+    }
+
+    @Nested
+    class Leasing {
+
+        @Test
+        void servesConsecutiveCallsFromLocalLease() {
+            var redis = new InMemoryQuotaRedisTemplate();
+            var quotaService = leasingQuotaService(redis);
+
+            for (int call = 0; call < 100; call++) {
+                assertThat(quotaService.consumeQuota(1).isSuccess()).isTrue();
+            }
+
+            assertThat(redis.roundTrips()).isEqualTo(1);
+            assertThat(redis.usage()).isEqualTo(100);
+        }
+
+        @Test
+        void claimsExactUnitsWhenFullLeaseNoLongerFits() {
+            var redis = new InMemoryQuotaRedisTemplate();
+            directQuotaService(redis).consumeQuota((int) QuotaService.DAILY_QUOTA_LIMIT - 60);
+            var quotaService = leasingQuotaService(redis);
+
+            assertThat(quotaService.consumeQuota(QuotaService.PLAYLIST_ITEMS_INSERT_COST).isSuccess()).isTrue();
+            assertThat(quotaService.consumeQuota(QuotaService.PLAYLIST_ITEMS_INSERT_COST).isFailure()).isTrue();
+            assertThat(redis.usage()).isEqualTo(QuotaService.DAILY_QUOTA_LIMIT - 10);
+        }
+
+        @Test
+        void returnsUnusedUnitsOnRelease() {
+            var redis = new InMemoryQuotaRedisTemplate();
+            var quotaService = leasingQuotaService(redis);
+
+            quotaService.consumeQuota(QuotaService.SEARCH_LIST_COST - 40);
+            quotaService.releaseLease();
+
+            assertThat(redis.usage()).isEqualTo(QuotaService.SEARCH_LIST_COST - 40);
+        }
+
+        @Test
+        void releasedReservationReturnsUnitsToLocalLease() {
+            var redis = new InMemoryQuotaRedisTemplate();
+            var quotaService = leasingQuotaService(redis);
+
+            var reservation = quotaService.reserveQuota(QuotaService.SEARCH_LIST_COST);
+            quotaService.releaseQuota(reservation.getOrElse(null));
+            quotaService.consumeQuota(QuotaService.SEARCH_LIST_COST);
+
+            assertThat(redis.roundTrips()).isEqualTo(1);
+        }
+
+        @Test
+        void neverExceedsDailyLimitAcrossLeasingNodes() throws Exception {
+            var redis = new InMemoryQuotaRedisTemplate();
+            List<RedisQuotaService> nodes = List.of(
+                    leasingQuotaService(redis), leasingQuotaService(redis), leasingQuotaService(redis));
+            AtomicInteger granted = new AtomicInteger();
+            CountDownLatch start = new CountDownLatch(1);
+
+            try (ExecutorService executor = Executors.newFixedThreadPool(12)) {
+                List<Future<?>> futures = new ArrayList<>();
+                for (int thread = 0; thread < 12; thread++) {
+                    RedisQuotaService node = nodes.get(thread % nodes.size());
+                    futures.add(executor.submit(() -> {
+                        start.await();
+                        for (int attempt = 0; attempt < 500; attempt++) {
+                            if (node.consumeQuota(3).isSuccess()) {
+                                granted.incrementAndGet();
+                            }
+                        }
+                        return null;
+                    }));
+                }
+                start.countDown();
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+            }
+
+            assertThat(redis.usage()).isLessThanOrEqualTo(QuotaService.DAILY_QUOTA_LIMIT);
+            assertThat(granted.get() * 3L).isLessThanOrEqualTo(redis.usage());
+            nodes.forEach(RedisQuotaService::releaseLease);
+            assertThat(redis.usage()).isEqualTo(granted.get() * 3L);
+        }
+    }
+}
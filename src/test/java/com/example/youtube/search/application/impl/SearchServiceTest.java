@@ -2,13 +2,23 @@ package com.example.youtube.search.application.impl;
 
 import com.example.youtube.auth.application.TokenQuery;
 import com.example.youtube.auth.domain.entity.Token;
+import com.example.youtube.common.cache.SingleFlights;
 import com.example.youtube.common.result.Error;
 import com.example.youtube.common.result.Result;
+import com.example.youtube.common.text.MusicVideoClassifier;
 import com.example.youtube.playlist.domain.entity.VideoId;
+import com.example.youtube.quota.domain.entity.QuotaReservation;
 import com.example.youtube.quota.domain.service.QuotaService;
 import com.example.youtube.search.application.SearchUseCase;
+import com.example.youtube.search.domain.entity.MusicMatch;
 import com.example.youtube.search.domain.entity.SearchResult;
+import com.example.youtube.search.domain.entity.TrackKey;
+import com.example.youtube.search.domain.repository.MusicMatchRepository;
+import com.example.youtube.search.domain.repository.SearchResultCache;
 import com.example.youtube.search.domain.service.YouTubeSearchPort;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -16,10 +26,23 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.net.ConnectException;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -36,13 +59,29 @@ class SearchServiceTest {
     @Mock
     private QuotaService quotaService;
 
+    @Mock
+    private SearchResultCache searchResultCache;
+
+    @Mock
+    private MusicMatchRepository musicMatchRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private SearchFlights searchFlights;
+    private MusicMatchResolver musicMatchResolver;
     private SearchService searchService;
 
     private static final String ACCESS_TOKEN = "valid-access-token";
 
     @BeforeEach
     void setUp() {
-        searchService = new SearchService(tokenQuery, youtubeSearchPort, quotaService);
+        meterRegistry = new SimpleMeterRegistry();
+        searchFlights = new SearchFlights(new SingleFlights(
+                null, new ObjectMapper(), meterRegistry, true, false,
+                Duration.ofSeconds(10), Duration.ofSeconds(5), Duration.ofSeconds(5), Duration.ofMillis(25)));
+        musicMatchResolver = new MusicMatchResolver(youtubeSearchPort, quotaService, musicMatchRepository, searchFlights, 4);
+        searchService = new SearchService(
+                tokenQuery, youtubeSearchPort, quotaService, searchResultCache, musicMatchResolver, searchFlights,
+                MusicVideoClassifier.defaults(), 3);
     }
 
     private Token createValidToken() {
@@ -68,7 +107,8 @@ class SearchServiceTest {
             );
 
             when(tokenQuery.getCurrentUserToken()).thenReturn(Result.success(token));
-            when(quotaService.consumeQuota(QuotaService.SEARCH_LIST_COST)).thenReturn(Result.successVoid());
+            when(quotaService.reserveQuota(QuotaService.SEARCH_LIST_COST))
+                    .thenReturn(Result.success(new QuotaReservation(QuotaService.SEARCH_LIST_COST)));
             when(youtubeSearchPort.searchVideos(ACCESS_TOKEN, "test query", 10))
                     .thenReturn(Result.success(List.of(result1)));
 
@@ -106,7 +146,8 @@ class SearchServiceTest {
             );
 
             when(tokenQuery.getCurrentUserToken()).thenReturn(Result.success(token));
-            when(quotaService.consumeQuota(QuotaService.SEARCH_LIST_COST)).thenReturn(Result.successVoid());
+            when(quotaService.reserveQuota(QuotaService.SEARCH_LIST_COST))
+                    .thenReturn(Result.success(new QuotaReservation(QuotaService.SEARCH_LIST_COST)));
             when(youtubeSearchPort.searchVideos(ACCESS_TOKEN, "test query", 10))
                     .thenReturn(Result.success(List.of(officialVideo, coverVideo)));
 
@@ -124,6 +165,68 @@ class SearchServiceTest {
             );
         }
 
+        @Test
+        void servesCachedResultsWithoutConsumingQuota() {
+            Token token = createValidToken();
+            SearchResult cached = SearchResult.of(
+                    VideoId.fromYouTubeId("vid1"),
+                    "Artist - Song Official Video",
+                    "Artist Official",
+                    "Official music video",
+                    null,
+                    0.9
+            );
+
+            when(tokenQuery.getCurrentUserToken()).thenReturn(Result.success(token));
+            when(searchResultCache.find("test query", 10)).thenReturn(Optional.of(List.of(cached)));
+
+            var request = new SearchUseCase.SearchRequest("test query", 10);
+            Result<List<SearchResult>, Error> result = searchService.searchVideos(request);
+
+            assertThat(result.isSuccess()).isTrue();
+            verify(quotaService, never()).reserveQuota(anyInt());
+            verify(youtubeSearchPort, never()).searchVideos(any(), any(), anyInt());
+        }
+
+        @Test
+        void storesFreshResultsInCache() {
+            Token token = createValidToken();
+            List<SearchResult> fresh = List.of(SearchResult.of(
+                    VideoId.fromYouTubeId("vid1"),
+                    "Artist - Song Official Video",
+                    "Artist Official",
+                    "Official music video",
+                    null,
+                    0.9
+            ));
+
+            when(tokenQuery.getCurrentUserToken()).thenReturn(Result.success(token));
+            when(quotaService.reserveQuota(QuotaService.SEARCH_LIST_COST))
+                    .thenReturn(Result.success(new QuotaReservation(QuotaService.SEARCH_LIST_COST)));
+            when(youtubeSearchPort.searchVideos(ACCESS_TOKEN, "test query", 10)).thenReturn(Result.success(fresh));
+
+            searchService.searchVideos(new SearchUseCase.SearchRequest("test query", 10));
+
+            verify(searchResultCache).store("test query", 10, fresh);
+        }
+
+        @Test
+        void releasesQuotaWhenSearchNeverReachesYouTube() {
+            Token token = createValidToken();
+
+            when(tokenQuery.getCurrentUserToken()).thenReturn(Result.success(token));
+            when(searchResultCache.find("lofi", 10)).thenReturn(Optional.empty());
+            when(quotaService.reserveQuota(QuotaService.SEARCH_LIST_COST))
+                    .thenReturn(Result.success(new QuotaReservation(QuotaService.SEARCH_LIST_COST)));
+            when(youtubeSearchPort.searchVideos(ACCESS_TOKEN, "lofi", 10))
+                    .thenReturn(Result.failure(Error.externalServiceError("YouTube", "Connection refused", new ConnectException("Connection refused"), true)));
+
+            Result<List<SearchResult>, Error> result = searchService.searchVideos(new SearchUseCase.SearchRequest("lofi", 10));
+
+            assertThat(result.isFailure()).isTrue();
+            verify(quotaService).releaseQuota(new QuotaReservation(QuotaService.SEARCH_LIST_COST));
+        }
+
         @Test
         void failsForBlankQuery() {
             var request = new SearchUseCase.SearchRequest("   ", 10);
@@ -145,7 +248,7 @@ class SearchServiceTest {
         void failsWhenQuotaExceeded() {
             Token token = createValidToken();
             when(tokenQuery.getCurrentUserToken()).thenReturn(Result.success(token));
-            when(quotaService.consumeQuota(QuotaService.SEARCH_LIST_COST))
+            when(quotaService.reserveQuota(QuotaService.SEARCH_LIST_COST))
                     .thenReturn(Result.failure(Error.quotaExceededError(10000, 10000)));
 
             var request = new SearchUseCase.SearchRequest("test query", 10);
@@ -178,7 +281,8 @@ class SearchServiceTest {
             );
 
             when(tokenQuery.getCurrentUserToken()).thenReturn(Result.success(token));
-            when(quotaService.consumeQuota(QuotaService.SEARCH_LIST_COST)).thenReturn(Result.successVoid());
+            when(quotaService.reserveQuota(QuotaService.SEARCH_LIST_COST))
+                    .thenReturn(Result.success(new QuotaReservation(QuotaService.SEARCH_LIST_COST)));
             when(youtubeSearchPort.searchMusicVideo(ACCESS_TOKEN, "Never Gonna Give You Up", "Rick Astley"))
                     .thenReturn(Result.success(result1));
 
@@ -195,6 +299,68 @@ class SearchServiceTest {
             );
         }
 
+        @Test
+        void usesStoredMatchWithoutConsumingQuota() {
+            Token token = createValidToken();
+            SearchResult stored = SearchResult.of(
+                    VideoId.fromYouTubeId("dQw4w9WgXcQ"),
+                    "Rick Astley - Never Gonna Give You Up (Official Video)",
+                    "Rick Astley",
+                    "",
+                    null,
+                    1.0
+            );
+
+            when(tokenQuery.getCurrentUserToken()).thenReturn(Result.success(token));
+            when(musicMatchRepository.find(TrackKey.of("Never Gonna Give You Up", "Rick Astley")))
+                    .thenReturn(Optional.of(MusicMatch.found(stored.withConfidence(0.9), Instant.now())));
+
+            var request = new SearchUseCase.MusicSearchRequest("never gonna give you up", "RICK ASTLEY");
+            Result<SearchResult, Error> result = searchService.searchMusicVideo(request);
+
+            assertThat(result.isSuccess()).isTrue();
+            assertThat(result.getOrElse(null).confidence()).isEqualTo(0.9);
+            verify(quotaService, never()).reserveQuota(anyInt());
+            verify(youtubeSearchPort, never()).searchMusicVideo(any(), any(), any());
+        }
+
+        @Test
+        void returnsNotFoundForKnownMissingTrackWithoutConsumingQuota() {
+            Token token = createValidToken();
+
+            when(tokenQuery.getCurrentUserToken()).thenReturn(Result.success(token));
+            when(musicMatchRepository.find(TrackKey.of("Unreleased", "Nobody")))
+                    .thenReturn(Optional.of(MusicMatch.notFound(Instant.now())));
+
+            var request = new SearchUseCase.MusicSearchRequest("Unreleased", "Nobody");
+            Result<SearchResult, Error> result = searchService.searchMusicVideo(request);
+
+            assertThat(result.isFailure()).isTrue();
+            result.fold(
+                    _ -> null,
+                    error -> {
+                        assertThat(error).isInstanceOf(Error.ResourceNotFoundError.class);
+                        return null;
+                    }
+            );
+            verify(quotaService, never()).reserveQuota(anyInt());
+        }
+
+        @Test
+        void remembersMissingTrackAsNegativeMatch() {
+            Token token = createValidToken();
+
+            when(tokenQuery.getCurrentUserToken()).thenReturn(Result.success(token));
+            when(quotaService.reserveQuota(QuotaService.SEARCH_LIST_COST))
+                    .thenReturn(Result.success(new QuotaReservation(QuotaService.SEARCH_LIST_COST)));
+            when(youtubeSearchPort.searchMusicVideo(ACCESS_TOKEN, "Unreleased", "Nobody"))
+                    .thenReturn(Result.failure(Error.resourceNotFoundError("Music video", "Unreleased by Nobody")));
+
+            searchService.searchMusicVideo(new SearchUseCase.MusicSearchRequest("Unreleased", "Nobody"));
+
+            verify(musicMatchRepository).save(eq(TrackKey.of("Unreleased", "Nobody")), argThat(match -> !match.isFound()));
+        }
+
         @Test
         void failsForBlankTrackName() {
             var request = new SearchUseCase.MusicSearchRequest("", "Artist");
@@ -227,4 +393,263 @@ class SearchServiceTest {
             );
         }
     }
+
+    @Nested
+    class SearchMusicVideos {
+
+        private SearchResult resultFor(String videoId, String title) {
+            return SearchResult.of(VideoId.fromYouTubeId(videoId), title, "Official", "", null, 0.9);
+        }
+
+        @Test
+        void resolvesStoredMatchesFirstAndReservesQuotaOnceForTheRest() {
+            Token token = createValidToken();
+            SearchResult stored = resultFor("stored1", "Stored Song - Artist A");
+            SearchResult fresh = resultFor("fresh1", "Fresh Song - Artist B");
+
+            when(tokenQuery.getCurrentUserToken()).thenReturn(Result.success(token));
+            when(musicMatchRepository.findAll(any())).thenReturn(Map.of(
+                    TrackKey.of("Stored Song", "Artist A"), MusicMatch.found(stored.withConfidence(0.9), Instant.now())
+            ));
+            when(quotaService.reserveQuota(2 * QuotaService.SEARCH_LIST_COST))
+                    .thenReturn(Result.success(new QuotaReservation(2 * QuotaService.SEARCH_LIST_COST)));
+            when(youtubeSearchPort.searchMusicVideo(ACCESS_TOKEN, "Fresh Song", "Artist B"))
+                    .thenReturn(Result.success(fresh));
+            when(youtubeSearchPort.searchMusicVideo(ACCESS_TOKEN, "Missing Song", "Artist C"))
+                    .thenReturn(Result.failure(Error.resourceNotFoundError("Music video", "Missing Song by Artist C")));
+
+            var request = new SearchUseCase.BatchMusicSearchRequest(List.of(
+                    new SearchUseCase.MusicSearchRequest("Fresh Song", "Artist B"),
+                    new SearchUseCase.MusicSearchRequest("Stored Song", "Artist A"),
+                    new SearchUseCase.MusicSearchRequest("Missing Song", "Artist C")
+            ));
+            var result = searchService.searchMusicVideos(request);
+
+            assertThat(result.isSuccess()).isTrue();
+            result.fold(
+                    matches -> {
+                        assertThat(matches).extracting(match -> match.request().trackName())
+                                .containsExactly("Fresh Song", "Stored Song", "Missing Song");
+                        assertThat(matches.get(0).result().getOrElse(null)).isEqualTo(fresh);
+                        assertThat(matches.get(1).result().getOrElse(null)).isEqualTo(stored.withConfidence(0.9));
+                        assertThat(matches.get(2).result().isFailure()).isTrue();
+                        return null;
+                    },
+                    _ -> null
+            );
+            verify(quotaService).reserveQuota(2 * QuotaService.SEARCH_LIST_COST);
+        }
+
+        @Test
+        void searchesDuplicateTracksOnlyOnce() {
+            Token token = createValidToken();
+            SearchResult fresh = resultFor("fresh1", "Fresh Song - Artist B");
+
+            when(tokenQuery.getCurrentUserToken()).thenReturn(Result.success(token));
+            when(musicMatchRepository.findAll(any())).thenReturn(Map.of());
+            when(quotaService.reserveQuota(QuotaService.SEARCH_LIST_COST))
+                    .thenReturn(Result.success(new QuotaReservation(QuotaService.SEARCH_LIST_COST)));
+            when(youtubeSearchPort.searchMusicVideo(eq(ACCESS_TOKEN), any(), any())).thenReturn(Result.success(fresh));
+
+            var request = new SearchUseCase.BatchMusicSearchRequest(List.of(
+                    new SearchUseCase.MusicSearchRequest("Fresh Song", "Artist B"),
+                    new SearchUseCase.MusicSearchRequest("fresh song", "ARTIST B")
+            ));
+            var result = searchService.searchMusicVideos(request);
+
+            assertThat(result.isSuccess()).isTrue();
+            result.fold(
+                    matches -> {
+                        assertThat(matches).hasSize(2).allMatch(match -> match.result().isSuccess());
+                        return null;
+                    },
+                    _ -> null
+            );
+            verify(youtubeSearchPort).searchMusicVideo(eq(ACCESS_TOKEN), any(), any());
+        }
+
+        @Test
+        void failsEveryPendingTrackWhenQuotaCannotBeReserved() {
+            Token token = createValidToken();
+
+            when(tokenQuery.getCurrentUserToken()).thenReturn(Result.success(token));
+            when(musicMatchRepository.findAll(any())).thenReturn(Map.of());
+            when(quotaService.reserveQuota(2 * QuotaService.SEARCH_LIST_COST))
+                    .thenReturn(Result.failure(Error.quotaExceededError(9950, 10000)));
+
+            var request = new SearchUseCase.BatchMusicSearchRequest(List.of(
+                    new SearchUseCase.MusicSearchRequest("Song One", "Artist"),
+                    new SearchUseCase.MusicSearchRequest("Song Two", "Artist")
+            ));
+            var result = searchService.searchMusicVideos(request);
+
+            assertThat(result.isSuccess()).isTrue();
+            result.fold(
+                    matches -> {
+                        assertThat(matches).allMatch(match -> match.result().isFailure());
+                        return null;
+                    },
+                    _ -> null
+            );
+            verify(youtubeSearchPort, never()).searchMusicVideo(any(), any(), any());
+        }
+
+        @Test
+        void searchesAsManyTracksAsRemainingQuotaAllowsAndFailsTheRest() {
+            Token token = createValidToken();
+            SearchResult fresh = resultFor("fresh1", "Song - Artist");
+
+            when(tokenQuery.getCurrentUserToken()).thenReturn(Result.success(token));
+            when(musicMatchRepository.findAll(any())).thenReturn(Map.of());
+            when(quotaService.reserveQuota(3 * QuotaService.SEARCH_LIST_COST))
+                    .thenReturn(Result.failure(Error.quotaExceededError(9800, 10000)));
+            when(quotaService.reserveQuota(2 * QuotaService.SEARCH_LIST_COST))
+                    .thenReturn(Result.success(new QuotaReservation(2 * QuotaService.SEARCH_LIST_COST)));
+            when(quotaService.reserveQuota(QuotaService.SEARCH_LIST_COST))
+                    .thenReturn(Result.failure(Error.quotaExceededError(10000, 10000)));
+            when(youtubeSearchPort.searchMusicVideo(eq(ACCESS_TOKEN), any(), any())).thenReturn(Result.success(fresh));
+
+            var request = new SearchUseCase.BatchMusicSearchRequest(List.of(
+                    new SearchUseCase.MusicSearchRequest("Song One", "Artist"),
+                    new SearchUseCase.MusicSearchRequest("Song Two", "Artist"),
+                    new SearchUseCase.MusicSearchRequest("Song Three", "Artist")
+            ));
+            var result = searchService.searchMusicVideos(request);
+
+            assertThat(result.isSuccess()).isTrue();
+            result.fold(
+                    matches -> {
+                        assertThat(matches.get(0).result().isSuccess()).isTrue();
+                        assertThat(matches.get(1).result().isSuccess()).isTrue();
+                        assertThat(matches.get(2).result()).isEqualTo(Result.failure(Error.quotaExceededError(10000, 10000)));
+                        return null;
+                    },
+                    _ -> null
+            );
+            verify(youtubeSearchPort, never()).searchMusicVideo(ACCESS_TOKEN, "Song Three", "Artist");
+        }
+
+        @Test
+        void rejectsNonPositiveParallelism() {
+            assertThatThrownBy(() -> new MusicMatchResolver(youtubeSearchPort, quotaService, musicMatchRepository, searchFlights, 0))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        void reportsInvalidTracksIndividually() {
+            Token token = createValidToken();
+
+            when(tokenQuery.getCurrentUserToken()).thenReturn(Result.success(token));
+            when(musicMatchRepository.findAll(any())).thenReturn(Map.of());
+
+            var request = new SearchUseCase.BatchMusicSearchRequest(List.of(
+                    new SearchUseCase.MusicSearchRequest("", "Artist")
+            ));
+            var result = searchService.searchMusicVideos(request);
+
+            assertThat(result.isSuccess()).isTrue();
+            result.fold(
+                    matches -> {
+                        assertThat(matches.getFirst().result().isFailure()).isTrue();
+                        return null;
+                    },
+                    _ -> null
+            );
+            verify(quotaService, never()).reserveQuota(anyInt());
+        }
+
+        @Test
+        void failsForBatchLargerThanConfiguredLimit() {
+            var tracks = List.of(
+                    new SearchUseCase.MusicSearchRequest("One", "Artist"),
+                    new SearchUseCase.MusicSearchRequest("Two", "Artist"),
+                    new SearchUseCase.MusicSearchRequest("Three", "Artist"),
+                    new SearchUseCase.MusicSearchRequest("Four", "Artist")
+            );
+            var result = searchService.searchMusicVideos(new SearchUseCase.BatchMusicSearchRequest(tracks));
+
+            assertThat(result.isFailure()).isTrue();
+            verify(tokenQuery, never()).getCurrentUserToken();
+        }
+
+        @Test
+        void failsForEmptyBatch() {
+            var result = searchService.searchMusicVideos(new SearchUseCase.BatchMusicSearchRequest(List.of()));
+
+            assertThat(result.isFailure()).isTrue();
+            verify(tokenQuery, never()).getCurrentUserToken();
+        }
+    }
+
+    @Nested
+    class Coalescing {
+
+        private final SearchUseCase.MusicSearchRequest request = new SearchUseCase.MusicSearchRequest("Hello", "Adele");
+
+        @BeforeEach
+        void setUp() {
+            when(musicMatchRepository.find(any())).thenReturn(Optional.empty());
+            when(quotaService.reserveQuota(QuotaService.SEARCH_LIST_COST))
+                    .thenReturn(Result.success(new QuotaReservation(QuotaService.SEARCH_LIST_COST)));
+        }
+
+        @Test
+        void doesNotShareLeaderAuthFailureWithOtherUsers() throws Exception {
+            var started = new CountDownLatch(1);
+            var release = new CountDownLatch(1);
+            Error expired = Error.authenticationError("YouTube authentication failed", "401");
+            SearchResult hello = SearchResult.of(VideoId.fromYouTubeId("hello"), "Adele - Hello", "AdeleVEVO", "", null, 1.0);
+            when(youtubeSearchPort.searchMusicVideo("token-a", "Hello", "Adele")).thenAnswer(_ -> {
+                started.countDown();
+                release.await();
+                return Result.failure(expired);
+            });
+            when(youtubeSearchPort.searchMusicVideo("token-b", "Hello", "Adele")).thenReturn(Result.success(hello));
+
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                Future<Result<SearchResult, Error>> leader = executor.submit(() -> musicMatchResolver.resolve("token-a", request));
+                started.await();
+                Future<Result<SearchResult, Error>> follower = executor.submit(() -> musicMatchResolver.resolve("token-b", request));
+                awaitFollowers(1);
+                release.countDown();
+
+                assertThat(leader.get()).isEqualTo(Result.failure(expired));
+                assertThat(follower.get().getOrElse(null)).isEqualTo(hello);
+            }
+            verify(youtubeSearchPort).searchMusicVideo("token-b", "Hello", "Adele");
+            verify(quotaService, never()).releaseQuota(any());
+        }
+
+        @Test
+        void sharesSuccessAcrossUsersAndRefundsTheFollowerReservation() throws Exception {
+            var started = new CountDownLatch(1);
+            var release = new CountDownLatch(1);
+            SearchResult hello = SearchResult.of(VideoId.fromYouTubeId("hello"), "Adele - Hello", "AdeleVEVO", "", null, 1.0);
+            when(youtubeSearchPort.searchMusicVideo("token-a", "Hello", "Adele")).thenAnswer(_ -> {
+                started.countDown();
+                release.await();
+                return Result.success(hello);
+            });
+
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                Future<Result<SearchResult, Error>> leader = executor.submit(() -> musicMatchResolver.resolve("token-a", request));
+                started.await();
+                Future<Result<SearchResult, Error>> follower = executor.submit(() -> musicMatchResolver.resolve("token-b", request));
+                awaitFollowers(1);
+                release.countDown();
+
+                assertThat(leader.get().getOrElse(null)).isEqualTo(hello);
+                assertThat(follower.get().getOrElse(null)).isEqualTo(hello);
+            }
+            verify(youtubeSearchPort, never()).searchMusicVideo(eq("token-b"), any(), any());
+            verify(quotaService).releaseQuota(new QuotaReservation(QuotaService.SEARCH_LIST_COST));
+        }
+
+        private void awaitFollowers(int followers) {
+            while (meterRegistry.find("youtube.singleflight.calls").tag("role", "shared").counters().stream()
+                    .mapToDouble(Counter::count).sum() < followers) {
+                Thread.onSpinWait();
+            }
+        }
+    }
 }
@@ -1,5 +1,6 @@
 package com.example.youtube.search.domain.entity;
 
+import com.example.youtube.common.text.MusicVideoClassifier;
 import com.example.youtube.playlist.domain.entity.VideoId;
 import org.junit.jupiter.api.Test;
 
@@ -91,7 +92,7 @@ class SearchResultTest {
                 0.9
         );
 
-        assertThat(result.isLikelyMusicVideo()).isTrue();
+        assertThat(result.isLikelyMusicVideo(MusicVideoClassifier.defaults())).isTrue();
     }
 
     @Test
@@ -106,7 +107,7 @@ class SearchResultTest {
                 0.8
         );
 
-        assertThat(result.isLikelyMusicVideo()).isFalse();
+        assertThat(result.isLikelyMusicVideo(MusicVideoClassifier.defaults())).isFalse();
     }
 
     @Test
@@ -121,7 +122,7 @@ class SearchResultTest {
                 0.7
         );
 
-        assertThat(result.isLikelyMusicVideo()).isFalse();
+        assertThat(result.isLikelyMusicVideo(MusicVideoClassifier.defaults())).isFalse();
     }
 
     @Test
@@ -136,7 +137,7 @@ class SearchResultTest {
                 0.6
         );
 
-        assertThat(result.isLikelyMusicVideo()).isFalse();
+        assertThat(result.isLikelyMusicVideo(MusicVideoClassifier.defaults())).isFalse();
     }
 
     @Test
@@ -151,7 +152,7 @@ class SearchResultTest {
                 0.5
         );
 
-        assertThat(result.isLikelyMusicVideo()).isFalse();
+        assertThat(result.isLikelyMusicVideo(MusicVideoClassifier.defaults())).isFalse();
     }
 
     @Test
@@ -166,7 +167,7 @@ class SearchResultTest {
                 0.4
         );
 
-        assertThat(result.isLikelyMusicVideo()).isFalse();
+        assertThat(result.isLikelyMusicVideo(MusicVideoClassifier.defaults())).isFalse();
     }
 
     @Test
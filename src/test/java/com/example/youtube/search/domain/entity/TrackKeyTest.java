@@ -0,0 +1,30 @@
+package com.example.youtube.search.domain.entity;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TrackKeyTest {
+
+    @Test
+    void ignoresCaseWhitespaceAndPunctuation() {
+        assertThat(TrackKey.of("  Don't Stop   Me Now ", "QUEEN"))
+                .isEqualTo(TrackKey.of("don t stop me now", "Queen"));
+    }
+
+    @Test
+    void stripsDiacritics() {
+        assertThat(TrackKey.of("Déjà Vu", "Beyoncé")).isEqualTo(TrackKey.of("Deja Vu", "Beyonce"));
+    }
+
+    @Test
+    void keepsTrackAndArtistSeparate() {
+        assertThat(TrackKey.of("Song A", "Artist")).isNotEqualTo(TrackKey.of("Song", "A Artist"));
+    }
+
+    @Test
+    void rejectsNullTrackName() {
+        assertThatThrownBy(() -> TrackKey.of(null, "Artist")).isInstanceOf(NullPointerException.class);
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.youtube.search.domain.service;
+
+import com.example.youtube.common.text.MusicVideoClassifier;
+import com.example.youtube.playlist.domain.entity.VideoId;
+import com.example.youtube.search.domain.entity.SearchResult;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MusicMatchRankerTest {
+
+    private final MusicMatchRanker ranker = new MusicMatchRanker(MusicVideoClassifier.defaults());
+
+    @Test
+    void prefersOfficialChannelOverHigherPlacedLyricsUpload() {
+        var candidates = List.of(
+                candidate("lyrics", "Adele - Hello (Lyrics)", "Lyrics Hub"),
+                candidate("vevo", "Adele - Hello (Official Video)", "AdeleVEVO"),
+                candidate("topic", "Hello", "Adele - Topic")
+        );
+
+        var ranked = ranker.rank("Hello", "Adele", candidates);
+
+        assertThat(ranked).extracting(match -> match.result().videoId().youtubeId())
+                .containsExactly("vevo", "topic", "lyrics");
+        assertThat(ranked.getFirst().confidence()).isGreaterThan(0.9);
+        assertThat(ranked.getFirst().originalPosition()).isEqualTo(1);
+    }
+
+    @Test
+    void penalisesCoversAndLiveVersionsThatPassedTheSearch() {
+        var candidates = List.of(
+                candidate("cover", "Hello - Adele (Piano Cover)", "Piano Guy"),
+                candidate("live", "Adele - Hello (Live at the NRJ Awards)", "Adele"),
+                candidate("studio", "Adele - Hello", "Music Uploads")
+        );
+
+        var best = ranker.best("Hello", "Adele", candidates).orElseThrow();
+
+        assertThat(best.result().videoId().youtubeId()).isEqualTo("studio");
+    }
+
+    @Test
+    void skipsKeywordPenaltyWhenTrackNameContainsTheKeyword() {
+        var candidates = List.of(
+                candidate("other", "Oasis - Wonderwall (Official Video)", "Oasis"),
+                candidate("live-forever", "Oasis - Live Forever (Official Video)", "Oasis")
+        );
+
+        var best = ranker.best("Live Forever", "Oasis", candidates).orElseThrow();
+
+        assertThat(best.result().videoId().youtubeId()).isEqualTo("live-forever");
+        assertThat(best.isLowConfidence()).isFalse();
+    }
+
+    @Test
+    void stillPenalisesOtherKeywordsWhenTrackNameContainsOne() {
+        var candidates = List.of(
+                candidate("cover", "Oasis - Live Forever (Cover)", "Oasis"),
+                candidate("studio", "Oasis - Live Forever", "Oasis")
+        );
+
+        var best = ranker.best("Live Forever", "Oasis", candidates).orElseThrow();
+
+        assertThat(best.result().videoId().youtubeId()).isEqualTo("studio");
+    }
+
+    @Test
+    void keepsKeywordPenaltyWhenOnlyTheArtistNameContainsTheKeyword() {
+        var candidates = List.of(
+                candidate("live", "Twilight (Live)", "Cover Drive - Topic"),
+                candidate("studio", "Twilight", "Cover Drive - Topic")
+        );
+
+        var best = ranker.best("Twilight", "Cover Drive", candidates).orElseThrow();
+
+        assertThat(best.result().videoId().youtubeId()).isEqualTo("studio");
+    }
+
+    @Test
+    void matchesTokensIgnoringCaseAndAccents() {
+        var best = ranker.best("Déjà Vu", "Beyoncé", List.of(candidate("video", "BEYONCE - DEJA VU", "beyonceVEVO")))
+                .orElseThrow();
+
+        assertThat(best.confidence()).isEqualTo(1.0);
+    }
+
+    @Test
+    void marksUnrelatedResultsAsLowConfidence() {
+        var candidates = List.of(
+                candidate("wrong-song", "Adele - Skyfall (Official Video)", "AdeleVEVO"),
+                candidate("unrelated", "Top 10 Piano Tutorials", "Piano Guy")
+        );
+
+        var best = ranker.best("Hello", "Adele", candidates).orElseThrow();
+
+        assertThat(best.result().videoId().youtubeId()).isEqualTo("wrong-song");
+        assertThat(best.isLowConfidence()).isTrue();
+        assertThat(MusicMatchRanker.isLowConfidence(best.confidence())).isTrue();
+    }
+
+    @Test
+    void returnsNothingForNoCandidates() {
+        assertThat(ranker.best("Hello", "Adele", List.of())).isEmpty();
+    }
+
+    private static SearchResult candidate(String videoId, String title, String channelTitle) {
+        return SearchResult.of(VideoId.fromYouTubeId(videoId), title, channelTitle, "", null, 1.0);
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.youtube.search.infrastructure.repository;
+
+import com.example.youtube.playlist.domain.entity.VideoId;
+import com.example.youtube.search.domain.entity.MusicMatch;
+import com.example.youtube.search.domain.entity.SearchResult;
+import com.example.youtube.search.domain.entity.TrackKey;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RedisMusicMatchRepositoryTest {
+
+    private static final TrackKey KEY = TrackKey.of("Hello", "Adele");
+    private static final String REDIS_KEY = "youtube:match:" + KEY.value();
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private RedisMusicMatchRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        repository = new RedisMusicMatchRepository(
+                redisTemplate,
+                new ObjectMapper().registerModule(new JavaTimeModule()),
+                Duration.ofDays(30),
+                Duration.ofDays(1),
+                Duration.ofHours(12)
+        );
+    }
+
+    private static SearchResult hello(Double confidence) {
+        return SearchResult.of(VideoId.fromYouTubeId("hello"), "Adele - Hello", "AdeleVEVO", "", null, 1.0)
+                .withConfidence(confidence);
+    }
+
+    @Test
+    void keepsConfidentMatchesForTheFullTtl() {
+        repository.save(KEY, MusicMatch.found(hello(0.9), Instant.now()));
+
+        verify(valueOperations).set(eq(REDIS_KEY), anyString(), eq(Duration.ofDays(30)));
+    }
+
+    @Test
+    void keepsLowConfidenceMatchesOnlyBriefly() {
+        repository.save(KEY, MusicMatch.found(hello(0.3), Instant.now()));
+
+        verify(valueOperations).set(eq(REDIS_KEY), anyString(), eq(Duration.ofDays(1)));
+    }
+
+    @Test
+    void keepsMissesForTheNegativeTtl() {
+        repository.save(KEY, MusicMatch.notFound(Instant.now()));
+
+        verify(valueOperations).set(eq(REDIS_KEY), anyString(), eq(Duration.ofHours(12)));
+    }
+}